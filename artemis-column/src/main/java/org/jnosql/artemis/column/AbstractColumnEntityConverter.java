@@ -19,22 +19,15 @@ import org.jnosql.artemis.column.ColumnFieldConverters.ColumnFieldConverterFacto
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
-import org.jnosql.artemis.reflection.FieldType;
-import org.jnosql.artemis.reflection.FieldValue;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnEntity;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
-import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
-import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
 
 /**
  * Template method to {@link ColumnEntityConverter}
@@ -43,6 +36,8 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
 
     private final ColumnFieldConverterFactory converterFactory = new ColumnFieldConverterFactory();
 
+    private final Map<Class<?>, ColumnEntityPlan> plans = new ConcurrentHashMap<>();
+
 
     protected abstract ClassMappings getClassMappings();
 
@@ -52,13 +47,11 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
     public ColumnEntity toColumn(Object entityInstance) {
         requireNonNull(entityInstance, "Object is required");
         ClassMapping mapping = getClassMappings().get(entityInstance.getClass());
-        ColumnEntity entity = ColumnEntity.of(mapping.getName());
-        mapping.getFields().stream()
-                .map(f -> to(f, entityInstance))
-                .filter(FieldValue::isNotEmpty)
-                .map(f -> f.toColumn(this, getConverters()))
-                .flatMap(List::stream)
-                .forEach(entity::add);
+        ColumnEntityPlan plan = getPlan(mapping);
+        ColumnEntity entity = ColumnEntity.of(plan.getName());
+        for (Column column : plan.toColumns(entityInstance, this)) {
+            entity.add(column);
+        }
         return entity;
     }
 
@@ -85,39 +78,63 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
         return convertEntity(entity.getColumns(), mapping, instance);
     }
 
+    protected <T> T toEntity(Class<T> entityClass, List<Column> columns) {
+        ClassMapping mapping = getClassMappings().get(entityClass);
+        T instance = mapping.newInstance();
+        return convertEntity(columns, mapping, instance);
+    }
+
+    /**
+     * Reads the field value of an entity with the {@link ColumnFieldConverter} of the entity conversion plan.
+     *
+     * @param field          the field
+     * @param entityInstance the entity instance
+     * @return the field value
+     * @deprecated {@link #toColumn(Object)} writes the fields through the conversion plan and no longer calls this
+     * method, it will be removed in a future version
+     */
+    @Deprecated
     protected ColumnFieldValue to(FieldMapping field, Object entityInstance) {
         Object value = field.read(entityInstance);
-        return DefaultColumnFieldValue.of(value, field);
+        ClassMapping mapping = getClassMappings().get(entityInstance.getClass());
+        return DefaultColumnFieldValue.of(value, field, getConverter(mapping, field));
     }
 
-    protected <T> Consumer<String> feedObject(T instance, List<Column> columns, Map<String, FieldMapping> fieldsGroupByName) {
-        return (String k) -> {
-            Optional<Column> column = columns.stream().filter(c -> c.getName().equals(k)).findFirst();
+    /**
+     * Returns the function that writes the column of the given field name into the instance, with the
+     * {@link ColumnFieldConverter} of the entity conversion plan.
+     *
+     * @param instance          the entity instance
+     * @param columns           the columns
+     * @param fieldsGroupByName the fields grouped by name
+     * @param <T>               the entity type
+     * @return the function to each field name
+     * @deprecated the toEntity methods read the columns through the conversion plan and no longer call this method,
+     * it will be removed in a future version
+     */
+    @Deprecated
+    protected <T> Consumer<String> feedObject(T instance, List<Column> columns,
+                                              Map<String, FieldMapping> fieldsGroupByName) {
+        ClassMapping mapping = getClassMappings().get(instance.getClass());
+        return k -> {
+            Column column = columns.stream().filter(c -> c.getName().equals(k)).findFirst().orElse(null);
             FieldMapping field = fieldsGroupByName.get(k);
-            ColumnFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, columns, column, field, this);
+            getConverter(mapping, field).convert(instance, columns, column, field, this);
         };
     }
 
-    protected <T> T toEntity(Class<T> entityClass, List<Column> columns) {
-        ClassMapping mapping = getClassMappings().get(entityClass);
-        T instance = mapping.newInstance();
-        return convertEntity(columns, mapping, instance);
+    private <T> T convertEntity(List<Column> columns, ClassMapping mapping, T instance) {
+        return getPlan(mapping).toEntity(instance, columns, this);
     }
 
-    private <T> T convertEntity(List<Column> columns, ClassMapping mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = columns.stream().map(Column::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || SUBENTITY.equals(type);
-        };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, columns, fieldsGroupByName));
+    private ColumnEntityPlan getPlan(ClassMapping mapping) {
+        return plans.computeIfAbsent(mapping.getClassInstance(),
+                c -> ColumnEntityPlan.of(mapping, converterFactory, getConverters()));
+    }
 
-        return instance;
+    private ColumnFieldConverter getConverter(ClassMapping mapping, FieldMapping field) {
+        return getPlan(mapping).getConverter(field)
+                .orElseGet(() -> converterFactory.get(field, getConverters()));
     }
 
 }
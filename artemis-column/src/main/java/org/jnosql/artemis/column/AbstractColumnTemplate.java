@@ -17,6 +17,7 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
@@ -32,11 +33,13 @@ import org.jnosql.diana.api.column.ColumnQueryParser;
 import org.jnosql.diana.api.column.query.ColumnQueryBuilder;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -49,6 +52,10 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
 
     private static final ColumnQueryParser PARSER = ColumnQueryParser.getParser();
 
+    private static final String BATCH_SIZE_PROPERTY = "artemis.column.batch.size";
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
     protected abstract ColumnEntityConverter getConverter();
 
     protected abstract ColumnFamilyManager getManager();
@@ -91,12 +98,31 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
     }
 
 
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return batch(entities, e -> getManager().insert(e));
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return batch(entities, e -> getManager().insert(e, ttl));
+    }
+
     @Override
     public <T> T update(T entity) {
         requireNonNull(entity, "entity is required");
         return getFlow().flow(entity, update);
     }
 
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return batch(entities, e -> getManager().update(e));
+    }
+
 
     @Override
     public void delete(ColumnDeleteQuery query) {
@@ -108,11 +134,24 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
 
     @Override
     public <T> List<T> select(ColumnQuery query) {
+        return this.<T>stream(query).collect(toList());
+    }
+
+    @Override
+    public <T> Stream<T> stream(ColumnQuery query) {
         requireNonNull(query, "query is required");
         getEventManager().firePreQuery(query);
         List<ColumnEntity> entities = getManager().select(query);
         Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
-        return entities.stream().map(function).collect(toList());
+        return entities.stream().map(function);
+    }
+
+    @Override
+    public <T> List<T> select(ColumnQuery query, Pagination pagination) {
+        requireNonNull(query, "query is required");
+        requireNonNull(pagination, "pagination is required");
+        ClassMapping classMapping = getClassMappings().findByName(query.getColumnFamily());
+        return select(ColumnQueryPagination.of(query, pagination, classMapping, getConverters()));
     }
 
     @Override
@@ -183,4 +222,35 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
         ClassMapping classMapping = getClassMappings().get(entityClass);
         return getManager().count(classMapping.getName());
     }
+
+    /**
+     * The number of entities sent to the {@link ColumnFamilyManager} at each round trip when the template
+     * inserts or updates an {@link Iterable}. By default, it is defined by the system property
+     * {@code artemis.column.batch.size} or 100, each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @return the batch size
+     */
+    protected int getBatchSize() {
+        return Integer.getInteger(BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE);
+    }
+
+    private <T> Iterable<T> batch(Iterable<T> entities, Function<List<ColumnEntity>, Iterable<ColumnEntity>> action) {
+        int batchSize = getBatchSize();
+        if (batchSize <= 0) {
+            throw new IllegalStateException("The batch size must be greater than zero: " + batchSize);
+        }
+        List<T> result = new ArrayList<>();
+        List<T> batch = new ArrayList<>(batchSize);
+        for (T entity : entities) {
+            batch.add(entity);
+            if (batch.size() == batchSize) {
+                result.addAll(getFlow().batchFlow(batch, action));
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            result.addAll(getFlow().batchFlow(batch, action));
+        }
+        return result;
+    }
 }
@@ -20,7 +20,9 @@ import org.jnosql.artemis.PreparedStatementAsync;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.util.CompletionStageUtil;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.artemis.util.EntityPublisher;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
@@ -28,11 +30,13 @@ import org.jnosql.diana.api.column.ColumnObserverParser;
 import org.jnosql.diana.api.column.ColumnQuery;
 import org.jnosql.diana.api.column.ColumnQueryParserAsync;
 import org.jnosql.diana.api.column.query.ColumnQueryBuilder;
+import org.reactivestreams.Publisher;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static java.util.Objects.requireNonNull;
@@ -126,11 +130,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callBack is required");
 
-        Consumer<List<ColumnEntity>> dianaCallBack = d -> callback.accept(
-                d.stream()
-                        .map(getConverter()::toEntity)
-                        .map(o -> (T) o)
-                        .collect(toList()));
+        Consumer<List<ColumnEntity>> dianaCallBack = d -> callback.accept(toEntities(d));
         getManager().select(query, dianaCallBack);
     }
 
@@ -141,16 +141,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
         requireNonNull(id, "id is required");
         requireNonNull(callback, "callBack is required");
 
-        ClassMapping classMapping = getClassMappings().get(entityClass);
-        FieldMapping idField = classMapping.getId()
-                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
-
-        Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
-
-        ColumnQuery query = ColumnQueryBuilder.select().from(classMapping.getName())
-                .where(idField.getName()).eq(value).build();
-
-        singleResult(query, callback);
+        singleResult(getFindQuery(entityClass, id), callback);
     }
 
     @Override
@@ -180,13 +171,24 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     public <T> void query(String query, Consumer<List<T>> callback) {
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callback is required");
-        Consumer<List<ColumnEntity>> mapper = columnEntities ->
-                callback.accept(columnEntities
-                        .stream().map(c -> (T) getConverter().toEntity(c))
-                .collect(toList()));
+        Consumer<List<ColumnEntity>> mapper = entities -> callback.accept(toEntities(entities));
         PARSER.query(query, getManager(), mapper, getObserver());
     }
 
+    @Override
+    public <T> Publisher<T> selectPublisher(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return EntityPublisher.<ColumnEntity, T>of(c -> getManager().select(query, c),
+                e -> (T) getConverter().toEntity(e));
+    }
+
+    @Override
+    public <T> Publisher<T> queryPublisher(String query) {
+        requireNonNull(query, "query is required");
+        return EntityPublisher.<ColumnEntity, T>of(c -> PARSER.query(query, getManager(), c, getObserver()),
+                e -> (T) getConverter().toEntity(e));
+    }
+
     @Override
     public <T> void singleResult(String query, Consumer<Optional<T>> callback) {
         requireNonNull(query, "query is required");
@@ -204,6 +206,50 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
         PARSER.query(query, getManager(), mapper, getObserver());
     }
 
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletionStageUtil.<ColumnEntity>toStage(c -> getManager().insert(getConverter().toColumn(entity), c))
+                .thenApply(c -> (T) getConverter().toEntity(entity.getClass(), c));
+    }
+
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletionStageUtil.<ColumnEntity>toStage(
+                c -> getManager().insert(getConverter().toColumn(entity), ttl, c))
+                .thenApply(c -> (T) getConverter().toEntity(entity.getClass(), c));
+    }
+
+    @Override
+    public <T> CompletionStage<T> updateAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletionStageUtil.<ColumnEntity>toStage(c -> getManager().update(getConverter().toColumn(entity), c))
+                .thenApply(c -> (T) getConverter().toEntity(entity.getClass(), c));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> select(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletionStageUtil.<List<ColumnEntity>>toStage(c -> getManager().select(query, c))
+                .thenApply(this::toEntities);
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> query(String query) {
+        requireNonNull(query, "query is required");
+        return CompletionStageUtil.<List<ColumnEntity>>toStage(c -> PARSER.query(query, getManager(), c, getObserver()))
+                .thenApply(this::toEntities);
+    }
+
+    @Override
+    public <T, ID> CompletionStage<Optional<T>> find(Class<T> entityClass, ID id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return singleResult(getFindQuery(entityClass, id));
+    }
+
     @Override
     public PreparedStatementAsync prepare(String query) {
         requireNonNull(query, "query is required");
@@ -225,6 +271,22 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     }
 
 
+    private <T> List<T> toEntities(List<ColumnEntity> entities) {
+        return entities.stream()
+                .map(e -> (T) getConverter().toEntity(e))
+                .collect(toList());
+    }
+
+    private <T, ID> ColumnQuery getFindQuery(Class<T> entityClass, ID id) {
+        ClassMapping classMapping = getClassMappings().get(entityClass);
+        FieldMapping idField = classMapping.getId()
+                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
+
+        Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        return ColumnQueryBuilder.select().from(classMapping.getName())
+                .where(idField.getName()).eq(value).build();
+    }
+
     private <T, ID> ColumnDeleteQuery getDeleteQuery(Class<T> entityClass, ID id) {
         ClassMapping classMapping = getClassMappings().get(entityClass);
         FieldMapping idField = classMapping.getId()
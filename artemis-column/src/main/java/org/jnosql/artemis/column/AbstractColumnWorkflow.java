@@ -16,6 +16,8 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.diana.api.column.ColumnEntity;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -38,6 +40,39 @@ public abstract class AbstractColumnWorkflow implements ColumnWorkflow {
 
     }
 
+    @Override
+    public <T> List<T> batchFlow(List<T> entities, Function<List<ColumnEntity>, Iterable<ColumnEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+
+        List<ColumnEntity> columns = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            getColumnEventPersistManager().firePreEntity(entity);
+            getColumnEventPersistManager().firePreColumnEntity(entity);
+            ColumnEntity column = getConverter().toColumn(entity);
+            getColumnEventPersistManager().firePreColumn(column);
+            columns.add(column);
+        }
+
+        List<ColumnEntity> saved = new ArrayList<>(entities.size());
+        action.apply(columns).forEach(saved::add);
+        if (saved.size() != columns.size()) {
+            throw new IllegalStateException(String.format("The database returned %d entities to a batch of %d",
+                    saved.size(), columns.size()));
+        }
+        List<T> result = new ArrayList<>(entities.size());
+        for (int index = 0; index < entities.size(); index++) {
+            ColumnEntity column = saved.get(index);
+            getColumnEventPersistManager().firePostColumn(column);
+            T entity = getConverter().toEntity(entities.get(index), column);
+            getColumnEventPersistManager().firePostEntity(entity);
+            getColumnEventPersistManager().firePostColumnEntity(entity);
+            result.add(entity);
+        }
+        return result;
+    }
+
     private <T> Function<T, T> getFlow(T entity, UnaryOperator<ColumnEntity> action) {
         UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
 
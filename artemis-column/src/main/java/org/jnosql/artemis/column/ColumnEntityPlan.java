@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.column.ColumnFieldConverters.ColumnFieldConverterFactory;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.reflection.FieldType;
+import org.jnosql.diana.api.column.Column;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
+import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
+
+/**
+ * The steps to read and write the fields of a {@link ClassMapping}, it resolves once the {@link ColumnFieldConverter}
+ * and the {@link org.jnosql.artemis.AttributeConverter} of each field, thus the conversion of each row is a loop
+ * through the steps.
+ */
+final class ColumnEntityPlan {
+
+    private final String name;
+
+    private final Step[] steps;
+
+    private ColumnEntityPlan(String name, Step[] steps) {
+        this.name = name;
+        this.steps = steps;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    <T> T toEntity(T instance, List<Column> columns, AbstractColumnEntityConverter converter) {
+        Map<String, Column> columnsByName = groupByName(columns);
+        for (Step step : steps) {
+            Column column = columnsByName.get(step.field.getName());
+            if (column != null || step.element) {
+                step.converter.convert(instance, columns, column, step.field, converter);
+            }
+        }
+        return instance;
+    }
+
+    List<Column> toColumns(Object instance, AbstractColumnEntityConverter converter) {
+        List<Column> columns = new ArrayList<>(steps.length);
+        for (Step step : steps) {
+            Object value = step.field.read(instance);
+            if (value != null) {
+                step.converter.toColumn(value, step.field, converter, columns);
+            }
+        }
+        return columns;
+    }
+
+    Optional<ColumnFieldConverter> getConverter(FieldMapping field) {
+        for (Step step : steps) {
+            if (step.field.getName().equals(field.getName())) {
+                return Optional.of(step.converter);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Map<String, Column> groupByName(List<Column> columns) {
+        Map<String, Column> columnsByName = new HashMap<>(columns.size() * 4 / 3 + 1);
+        for (Column column : columns) {
+            columnsByName.putIfAbsent(column.getName(), column);
+        }
+        return columnsByName;
+    }
+
+    static ColumnEntityPlan of(ClassMapping mapping, ColumnFieldConverterFactory factory, Converters converters) {
+        List<FieldMapping> fields = mapping.getFields();
+        Step[] steps = new Step[fields.size()];
+        for (int index = 0; index < steps.length; index++) {
+            FieldMapping field = fields.get(index);
+            steps[index] = new Step(field, factory.get(field, converters));
+        }
+        return new ColumnEntityPlan(mapping.getName(), steps);
+    }
+
+    private static final class Step {
+
+        private final FieldMapping field;
+
+        private final ColumnFieldConverter converter;
+
+        private final boolean element;
+
+        private Step(FieldMapping field, ColumnFieldConverter converter) {
+            this.field = field;
+            this.converter = converter;
+            FieldType type = field.getType();
+            this.element = EMBEDDED.equals(type) || SUBENTITY.equals(type);
+        }
+    }
+}
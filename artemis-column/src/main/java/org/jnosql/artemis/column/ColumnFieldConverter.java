@@ -18,9 +18,11 @@ import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.column.Column;
 
 import java.util.List;
-import java.util.Optional;
 
 interface ColumnFieldConverter {
-    <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldMapping field,
+
+    <T> void convert(T instance, List<Column> columns, Column column, FieldMapping field,
                      AbstractColumnEntityConverter converter);
+
+    void toColumn(Object value, FieldMapping field, ColumnEntityConverter converter, List<Column> columns);
 }
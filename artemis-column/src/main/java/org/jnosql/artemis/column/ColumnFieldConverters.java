@@ -15,20 +15,19 @@
 package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.AttributeConverter;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.reflection.GenericFieldMapping;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.column.Column;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
 
 import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -43,7 +42,7 @@ class ColumnFieldConverters {
         private final CollectionEmbeddableConverter embeddableConverter = new CollectionEmbeddableConverter();
         private final SubEntityConverter subEntityConverter = new SubEntityConverter();
 
-        ColumnFieldConverter get(FieldMapping field) {
+        ColumnFieldConverter get(FieldMapping field, Converters converters) {
             if (EMBEDDED.equals(field.getType())) {
                 return embeddedFieldConverter;
             } else if (SUBENTITY.equals(field.getType())) {
@@ -51,6 +50,10 @@ class ColumnFieldConverters {
             } else if (isCollectionEmbeddable(field)) {
                 return embeddableConverter;
             } else {
+                Optional<Class<? extends AttributeConverter>> converter = field.getConverter();
+                if (converter.isPresent()) {
+                    return new AttributeConverterConverter(converters.get(converter.get()));
+                }
                 return defaultConverter;
             }
         }
@@ -64,12 +67,11 @@ class ColumnFieldConverters {
     private static class SubEntityConverter implements ColumnFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldMapping field,
+        public <T> void convert(T instance, List<Column> columns, Column column, FieldMapping field,
                                 AbstractColumnEntityConverter converter) {
 
-            if (column.isPresent()) {
-                Column subColumn = column.get();
-                Object value = subColumn.get();
+            if (column != null) {
+                Object value = column.get();
                 if (Map.class.isInstance(value)) {
                     Map map = Map.class.cast(value);
                     List<Column> embeddedColumns = new ArrayList<>();
@@ -81,7 +83,7 @@ class ColumnFieldConverters {
 
                 } else {
                     field.write(instance, converter.toEntity(field.getNativeField().getType(),
-                            subColumn.get(new TypeReference<List<Column>>() {
+                            column.get(new TypeReference<List<Column>>() {
                             })));
                 }
 
@@ -89,21 +91,31 @@ class ColumnFieldConverters {
                 field.write(instance, converter.toEntity(field.getNativeField().getType(), columns));
             }
         }
+
+        @Override
+        public void toColumn(Object value, FieldMapping field, ColumnEntityConverter converter,
+                             List<Column> columns) {
+            columns.add(Column.of(field.getName(), converter.toColumn(value).getColumns()));
+        }
     }
 
     private static class EmbeddedFieldConverter implements ColumnFieldConverter {
 
 
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column,
+        public <T> void convert(T instance, List<Column> columns, Column column,
                                 FieldMapping field, AbstractColumnEntityConverter converter) {
 
-
-            Field nativeField = field.getNativeField();
-            Object subEntity = converter.toEntity(nativeField.getType(), columns);
+            Object subEntity = converter.toEntity(field.getNativeField().getType(), columns);
             field.write(instance, subEntity);
 
         }
+
+        @Override
+        public void toColumn(Object value, FieldMapping field, ColumnEntityConverter converter,
+                             List<Column> columns) {
+            columns.addAll(converter.toColumn(value).getColumns());
+        }
     }
 
 
@@ -111,18 +123,37 @@ class ColumnFieldConverters {
 
 
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column,
+        public <T> void convert(T instance, List<Column> columns, Column column,
                                 FieldMapping field, AbstractColumnEntityConverter converter) {
-            Value value = column.get().getValue();
-            Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
-            if (optionalConverter.isPresent()) {
+            field.write(instance, field.getValue(column.getValue()));
+        }
 
-                AttributeConverter attributeConverter = converter.getConverters().get(optionalConverter.get());
-                Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
-                field.write(instance, field.getValue(Value.of(attributeConverted)));
-            } else {
-                field.write(instance, field.getValue(value));
-            }
+        @Override
+        public void toColumn(Object value, FieldMapping field, ColumnEntityConverter converter,
+                             List<Column> columns) {
+            columns.add(Column.of(field.getName(), value));
+        }
+    }
+
+    private static class AttributeConverterConverter implements ColumnFieldConverter {
+
+        private final AttributeConverter attributeConverter;
+
+        AttributeConverterConverter(AttributeConverter attributeConverter) {
+            this.attributeConverter = attributeConverter;
+        }
+
+        @Override
+        public <T> void convert(T instance, List<Column> columns, Column column,
+                                FieldMapping field, AbstractColumnEntityConverter converter) {
+            Object attributeConverted = attributeConverter.convertToEntityAttribute(column.getValue().get());
+            field.write(instance, field.getValue(Value.of(attributeConverted)));
+        }
+
+        @Override
+        public void toColumn(Object value, FieldMapping field, ColumnEntityConverter converter,
+                             List<Column> columns) {
+            columns.add(Column.of(field.getName(), attributeConverter.convertToDatabaseColumn(value)));
         }
     }
 
@@ -130,23 +161,30 @@ class ColumnFieldConverters {
     private static class CollectionEmbeddableConverter implements ColumnFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldMapping field,
+        public <T> void convert(T instance, List<Column> columns, Column column, FieldMapping field,
                                 AbstractColumnEntityConverter converter) {
 
-            column.ifPresent(convertColumn(instance, field, converter));
+            if (column == null) {
+                return;
+            }
+            GenericFieldMapping genericField = GenericFieldMapping.class.cast(field);
+            Collection collection = genericField.getCollectionInstance();
+            List<List<Column>> embeddable = (List<List<Column>>) column.get();
+            for (List<Column> columnList : embeddable) {
+                Object element = converter.toEntity(genericField.getElementType(), columnList);
+                collection.add(element);
+            }
+            field.write(instance, collection);
         }
 
-        private <T> Consumer<Column> convertColumn(T instance, FieldMapping field, AbstractColumnEntityConverter converter) {
-            return column -> {
-                GenericFieldMapping genericField = GenericFieldMapping.class.cast(field);
-                Collection collection = genericField.getCollectionInstance();
-                List<List<Column>> embeddable = (List<List<Column>>) column.get();
-                for (List<Column> columnList : embeddable) {
-                    Object element = converter.toEntity(genericField.getElementType(), columnList);
-                    collection.add(element);
-                }
-                field.write(instance, collection);
-            };
+        @Override
+        public void toColumn(Object value, FieldMapping field, ColumnEntityConverter converter,
+                             List<Column> columns) {
+            List<List<Column>> embeddable = new ArrayList<>();
+            for (Object element : Iterable.class.cast(value)) {
+                embeddable.add(converter.toColumn(element).getColumns());
+            }
+            columns.add(Column.of(field.getName(), embeddable));
         }
     }
 }
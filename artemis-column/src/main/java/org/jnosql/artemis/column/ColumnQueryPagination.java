@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.artemis.Pagination;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link ColumnQuery} restricted to a {@link Pagination}. The offset pagination replaces the skip and the limit
+ * of the query, and the {@link KeysetPagination} appends the key condition and sorts the rows by the key.
+ */
+final class ColumnQueryPagination implements ColumnQuery {
+
+    private final ColumnQuery query;
+
+    private final long skip;
+
+    private final long limit;
+
+    private final ColumnCondition condition;
+
+    private final List<Sort> sorts;
+
+    private ColumnQueryPagination(ColumnQuery query, long skip, long limit, ColumnCondition condition,
+                                  List<Sort> sorts) {
+        this.query = query;
+        this.skip = skip;
+        this.limit = limit;
+        this.condition = condition;
+        this.sorts = sorts;
+    }
+
+    @Override
+    public long getLimit() {
+        return limit;
+    }
+
+    @Override
+    public long getSkip() {
+        return skip;
+    }
+
+    @Override
+    public String getColumnFamily() {
+        return query.getColumnFamily();
+    }
+
+    @Override
+    public Optional<ColumnCondition> getCondition() {
+        return Optional.ofNullable(condition);
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return query.getColumns();
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return sorts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ColumnQuery)) {
+            return false;
+        }
+        ColumnQuery that = (ColumnQuery) o;
+        return limit == that.getLimit()
+                && skip == that.getSkip()
+                && Objects.equals(sorts, that.getSorts())
+                && Objects.equals(condition, that.getCondition().orElse(null))
+                && Objects.equals(getColumns(), that.getColumns())
+                && Objects.equals(getColumnFamily(), that.getColumnFamily());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(limit, skip, getColumnFamily(), getColumns(), sorts, condition);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ColumnQueryPagination{");
+        sb.append("limit=").append(limit);
+        sb.append(", skip=").append(skip);
+        sb.append(", columnFamily='").append(getColumnFamily()).append('\'');
+        sb.append(", columns=").append(getColumns());
+        sb.append(", sorts=").append(sorts);
+        sb.append(", condition=").append(condition);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    /**
+     * Creates the query of the page of an offset pagination
+     *
+     * @param query      the query
+     * @param pagination the pagination
+     * @return the query restricted to the page
+     * @throws UnsupportedOperationException when the pagination is a {@link KeysetPagination}, which needs the
+     *                                       entity mapping to read the key
+     */
+    static ColumnQuery of(ColumnQuery query, Pagination pagination) {
+        if (pagination instanceof KeysetPagination) {
+            throw new UnsupportedOperationException("The keyset pagination requires the entity mapping");
+        }
+        return new ColumnQueryPagination(query, pagination.getSkip(), pagination.getLimit(),
+                query.getCondition().orElse(null), query.getSorts());
+    }
+
+    /**
+     * Creates the query of the page
+     *
+     * @param query      the query
+     * @param pagination the pagination
+     * @param mapping    the mapping of the entity, used to read the column of the keyset field
+     * @param converters the converters
+     * @return the query restricted to the page
+     */
+    static ColumnQuery of(ColumnQuery query, Pagination pagination, ClassMapping mapping, Converters converters) {
+        if (!(pagination instanceof KeysetPagination)) {
+            return of(query, pagination);
+        }
+        KeysetPagination keyset = (KeysetPagination) pagination;
+        String column = mapping.getColumnField(keyset.getField());
+
+        List<Sort> sorts = new ArrayList<>();
+        sorts.add(Sort.of(column, Sort.SortType.ASC));
+        query.getSorts().stream().filter(s -> !column.equals(s.getName())).forEach(sorts::add);
+
+        ColumnCondition condition = query.getCondition().orElse(null);
+        if (keyset.getLastValue().isPresent()) {
+            Object value = ConverterUtil.getValue(keyset.getLastValue().get(), mapping, keyset.getField(), converters);
+            ColumnCondition after = ColumnCondition.gt(Column.of(column, value));
+            condition = Objects.isNull(condition) ? after : condition.and(after);
+        }
+        return new ColumnQueryPagination(query, 0L, keyset.getLimit(), condition, sorts);
+    }
+}
@@ -15,6 +15,7 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -135,6 +137,39 @@ public interface ColumnTemplate {
      */
     <T> List<T> select(ColumnQuery query);
 
+    /**
+     * Finds entities from query as a {@link Stream}, each entity is converted just when the stream reaches it,
+     * so the caller does not hold all the entities at once. The default implementation streams the
+     * {@link #select(ColumnQuery)} result.
+     *
+     * @param query - query to figure out entities
+     * @param <T>   the instance type
+     * @return the stream of entities found by query
+     * @throws NullPointerException when query is null
+     */
+    default <T> Stream<T> stream(ColumnQuery query) {
+        return this.<T>select(query).stream();
+    }
+
+    /**
+     * Finds the page of entities from query. The pagination replaces the skip and the limit of the query,
+     * and a {@link org.jnosql.artemis.KeysetPagination} also appends the key condition and sorts by the key.
+     *
+     * @param query      - query to figure out entities
+     * @param pagination the pagination
+     * @param <T>        the instance type
+     * @return entities found by query
+     * @throws NullPointerException          when either query or pagination is null
+     * @throws UnsupportedOperationException when the implementation cannot read a
+     *                                       {@link org.jnosql.artemis.KeysetPagination}, the default implementation
+     *                                       supports only the offset pagination
+     */
+    default <T> List<T> select(ColumnQuery query, Pagination pagination) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(pagination, "pagination is required");
+        return select(ColumnQueryPagination.of(query, pagination));
+    }
+
     /**
      * Executes a query then bring the result as a {@link List}
      *
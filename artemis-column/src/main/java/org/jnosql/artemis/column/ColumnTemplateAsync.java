@@ -16,15 +16,20 @@ package org.jnosql.artemis.column;
 
 
 import org.jnosql.artemis.PreparedStatementAsync;
+import org.jnosql.artemis.util.CompletionStageUtil;
+import org.jnosql.artemis.util.EntityPublisher;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
+import org.reactivestreams.Publisher;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
@@ -207,6 +212,36 @@ public interface ColumnTemplateAsync {
      */
     <T> void query(String query, Consumer<List<T>> callback);
 
+    /**
+     * Finds entities from query asynchronously as a {@link Publisher}, the query is executed when the
+     * subscriber requests the first entity. By default, it is built on the callback select, and the
+     * implementations may convert each entity just when the subscriber requests it.
+     *
+     * @param query query to select entities
+     * @param <T>   the instance type
+     * @return a {@link Publisher} to the result of query
+     * @throws UnsupportedOperationException when the database does not have support to select asynchronous
+     * @throws NullPointerException          when query is null
+     */
+    default <T> Publisher<T> selectPublisher(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return EntityPublisher.<T, T>of(c -> select(query, c), Function.identity());
+    }
+
+    /**
+     * Executes a query asynchronously then bring the result as a {@link Publisher}. By default, it is built on the
+     * callback query, and the implementations may convert each entity just when the subscriber requests it.
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return a {@link Publisher} to the result of query
+     * @throws NullPointerException when the query is null
+     */
+    default <T> Publisher<T> queryPublisher(String query) {
+        requireNonNull(query, "query is required");
+        return EntityPublisher.<T, T>of(c -> query(query, c), Function.identity());
+    }
+
     /**
      * Executes a query then bring the result as a unique result
      *
@@ -314,4 +349,191 @@ public interface ColumnTemplateAsync {
         select(query, singleCallBack);
 
     }
+
+    /**
+     * Inserts an entity asynchronously
+     *
+     * @param entity entity to be saved
+     * @param <T>    the instance type
+     * @return a {@link CompletionStage} completed with the saved entity
+     * @throws UnsupportedOperationException when the database does not have support to insert asynchronous
+     * @throws NullPointerException          when entity is null
+     */
+    default <T> CompletionStage<T> insertAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletionStageUtil.toStage(c -> insert(entity, c));
+    }
+
+    /**
+     * Inserts an entity asynchronously with time to live
+     *
+     * @param entity entity to be saved
+     * @param ttl    time to live
+     * @param <T>    the instance type
+     * @return a {@link CompletionStage} completed with the saved entity
+     * @throws UnsupportedOperationException when the database does not have support to insert asynchronous
+     * @throws NullPointerException          when either entity or ttl are null
+     */
+    default <T> CompletionStage<T> insertAsync(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletionStageUtil.toStage(c -> insert(entity, ttl, c));
+    }
+
+    /**
+     * Updates an entity asynchronously
+     *
+     * @param entity entity to be updated
+     * @param <T>    the instance type
+     * @return a {@link CompletionStage} completed with the updated entity
+     * @throws UnsupportedOperationException when the database does not have support to update asynchronous
+     * @throws NullPointerException          when entity is null
+     */
+    default <T> CompletionStage<T> updateAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletionStageUtil.toStage(c -> update(entity, c));
+    }
+
+    /**
+     * Deletes an entity asynchronously
+     *
+     * @param query query to delete an entity
+     * @return a {@link CompletionStage} completed when the entities are deleted
+     * @throws UnsupportedOperationException when the database does not have support to delete asynchronous
+     * @throws NullPointerException          when query is null
+     */
+    default CompletionStage<Void> deleteAsync(ColumnDeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletionStageUtil.toStage(c -> delete(query, c));
+    }
+
+    /**
+     * Deletes by Id asynchronously
+     *
+     * @param entityClass the entity class
+     * @param id          the id value
+     * @param <T>         the entity class type
+     * @param <ID>        the id type
+     * @return a {@link CompletionStage} completed when the entity is deleted
+     * @throws NullPointerException                   when either the entityClass or id are null
+     * @throws org.jnosql.artemis.IdNotFoundException when the entityClass does not have the Id annotation
+     */
+    default <T, ID> CompletionStage<Void> deleteAsync(Class<T> entityClass, ID id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return CompletionStageUtil.toStage(c -> delete(entityClass, id, c));
+    }
+
+    /**
+     * Finds entities from query asynchronously
+     *
+     * @param query query to select entities
+     * @param <T>   the instance type
+     * @return a {@link CompletionStage} completed with the result of query
+     * @throws UnsupportedOperationException when the database does not have support to select asynchronous
+     * @throws NullPointerException          when query is null
+     */
+    default <T> CompletionStage<List<T>> select(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletionStageUtil.toStage(c -> select(query, c));
+    }
+
+    /**
+     * Execute a query to find an unique result asynchronously
+     *
+     * @param query the query
+     * @param <T>   the type
+     * @return a {@link CompletionStage} completed with the entity found, or completed exceptionally
+     * with {@link NonUniqueResultException} when the query returns more than one result
+     * @throws UnsupportedOperationException when the database does not have support to select asynchronous
+     * @throws NullPointerException          when query is null
+     */
+    default <T> CompletionStage<Optional<T>> singleResult(ColumnQuery query) {
+        return this.<T>select(query).thenApply(entities -> {
+            if (entities.isEmpty()) {
+                return Optional.empty();
+            } else if (entities.size() == 1) {
+                return Optional.of(entities.get(0));
+            }
+            throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+        });
+    }
+
+    /**
+     * Executes a query then bring the result as a {@link List} asynchronously
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return a {@link CompletionStage} completed with the result of query
+     * @throws NullPointerException when the query is null
+     */
+    default <T> CompletionStage<List<T>> query(String query) {
+        requireNonNull(query, "query is required");
+        return CompletionStageUtil.toStage(c -> query(query, c));
+    }
+
+    /**
+     * Executes a query then bring the result as a unique result asynchronously
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return a {@link CompletionStage} completed with the entity found, or completed exceptionally
+     * with {@link NonUniqueResultException} when the query returns more than one result
+     * @throws NullPointerException when the query is null
+     */
+    default <T> CompletionStage<Optional<T>> singleResult(String query) {
+        requireNonNull(query, "query is required");
+        return this.<T>query(query).thenApply(entities -> {
+            if (entities.isEmpty()) {
+                return Optional.empty();
+            } else if (entities.size() == 1) {
+                return Optional.of(entities.get(0));
+            }
+            throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+        });
+    }
+
+    /**
+     * Finds by Id asynchronously
+     *
+     * @param entityClass the entity class
+     * @param id          the id value
+     * @param <T>         the entity class type
+     * @param <ID>        the id type
+     * @return a {@link CompletionStage} completed with the entity found
+     * @throws NullPointerException                   when either the entityClass or id are null
+     * @throws org.jnosql.artemis.IdNotFoundException when the entityClass does not have the Id annotation
+     */
+    default <T, ID> CompletionStage<Optional<T>> find(Class<T> entityClass, ID id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return CompletionStageUtil.toStage(c -> find(entityClass, id, c));
+    }
+
+    /**
+     * Returns the number of elements from column family asynchronously
+     *
+     * @param columnFamily the column family
+     * @return a {@link CompletionStage} completed with the number of elements
+     * @throws NullPointerException          when there is null parameter
+     * @throws UnsupportedOperationException when the database dot not have support
+     */
+    default CompletionStage<Long> count(String columnFamily) {
+        requireNonNull(columnFamily, "columnFamily is required");
+        return CompletionStageUtil.toStage(c -> count(columnFamily, c));
+    }
+
+    /**
+     * Returns the number of elements from column family asynchronously
+     *
+     * @param entityClass the entity class
+     * @param <T>         the entity type
+     * @return a {@link CompletionStage} completed with the number of elements
+     * @throws NullPointerException          when there is null parameter
+     * @throws UnsupportedOperationException when the database dot not have support
+     */
+    default <T> CompletionStage<Long> count(Class<T> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        return CompletionStageUtil.toStage(c -> count(entityClass, c));
+    }
 }
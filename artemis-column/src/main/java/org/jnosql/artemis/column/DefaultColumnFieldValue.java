@@ -14,29 +14,28 @@
  */
 package org.jnosql.artemis.column;
 
-import org.jnosql.artemis.AttributeConverter;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.reflection.FieldMapping;
-import org.jnosql.artemis.reflection.FieldType;
 import org.jnosql.artemis.reflection.FieldValue;
-import org.jnosql.artemis.reflection.GenericFieldMapping;
 import org.jnosql.diana.api.column.Column;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-
-import static java.util.Collections.singletonList;
-import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
-import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
-import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
 
+/**
+ * The {@link ColumnFieldValue} that writes the value with the {@link ColumnFieldConverter} of the field in the
+ * conversion plan of its entity.
+ */
+@Deprecated
 final class DefaultColumnFieldValue implements ColumnFieldValue {
 
     private final FieldValue fieldValue;
 
-    private DefaultColumnFieldValue(FieldValue fieldValue) {
+    private final ColumnFieldConverter fieldConverter;
+
+    private DefaultColumnFieldValue(FieldValue fieldValue, ColumnFieldConverter fieldConverter) {
         this.fieldValue = fieldValue;
+        this.fieldConverter = fieldConverter;
     }
 
     @Override
@@ -54,48 +53,13 @@ final class DefaultColumnFieldValue implements ColumnFieldValue {
         return fieldValue.isNotEmpty();
     }
 
+    @Override
     public List<Column> toColumn(ColumnEntityConverter converter, Converters converters) {
-
-        if (EMBEDDED.equals(getType())) {
-            return converter.toColumn(getValue()).getColumns();
-        } else if (SUBENTITY.equals(getType())) {
-            return singletonList(Column.of(getName(), converter.toColumn(getValue()).getColumns()));
-        } else if (isEmbeddableCollection()) {
-            return singletonList(Column.of(getName(), getColumns(converter)));
-        }
-        Optional<Class<? extends AttributeConverter>> optionalConverter = getField().getConverter();
-        if (optionalConverter.isPresent()) {
-            AttributeConverter attributeConverter = converters.get(optionalConverter.get());
-            return singletonList(Column.of(getName(), attributeConverter.convertToDatabaseColumn(getValue())));
-        }
-
-        return singletonList(Column.of(getName(), getValue()));
-    }
-
-    private List<List<Column>> getColumns(ColumnEntityConverter converter) {
-        List<List<Column>> columns = new ArrayList<>();
-        for (Object element : Iterable.class.cast(getValue())) {
-            columns.add(converter.toColumn(element).getColumns());
-        }
+        List<Column> columns = new ArrayList<>(1);
+        fieldConverter.toColumn(getValue(), getField(), converter, columns);
         return columns;
     }
 
-    private boolean isEmbeddableCollection() {
-        return COLLECTION.equals(getType()) && isEmbeddableElement();
-    }
-
-    private FieldType getType() {
-        return getField().getType();
-    }
-
-    private String getName() {
-        return getField().getName();
-    }
-
-    private boolean isEmbeddableElement() {
-        return GenericFieldMapping.class.cast(getField()).isEmbeddable();
-    }
-
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("ColumnFieldValue{");
@@ -104,7 +68,7 @@ final class DefaultColumnFieldValue implements ColumnFieldValue {
         return sb.toString();
     }
 
-    static ColumnFieldValue of(Object value, FieldMapping field) {
-        return new DefaultColumnFieldValue(FieldValue.of(value, field));
+    static ColumnFieldValue of(Object value, FieldMapping field, ColumnFieldConverter fieldConverter) {
+        return new DefaultColumnFieldValue(FieldValue.of(value, field), fieldConverter);
     }
 }
@@ -21,15 +21,24 @@ import org.jnosql.artemis.Query;
 import org.jnosql.artemis.RepositoryAsync;
 import org.jnosql.artemis.column.ColumnTemplateAsync;
 import org.jnosql.artemis.query.RepositoryType;
+import org.jnosql.artemis.util.CompletionStageUtil;
+import org.jnosql.artemis.util.EntityPublisher;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
+import org.reactivestreams.Publisher;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
+import static org.jnosql.artemis.util.CompletionStageUtil.isCompletionStage;
+import static org.jnosql.artemis.util.CompletionStageUtil.isOptional;
+import static org.jnosql.artemis.util.CompletionStageUtil.toReturnType;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 
 /**
@@ -53,12 +62,12 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> extends BaseColumnRe
                 return method.invoke(getRepository(), args);
             case FIND_BY:
                 ColumnQuery query = getQuery(method, args);
-                return executeQuery(getCallback(args), query);
+                return executeQuery(method, args, query);
             case FIND_ALL:
-                return executeQuery(getCallback(args), select().from(getClassMapping().getName()).build());
+                return executeQuery(method, args, select().from(getClassMapping().getName()).build());
             case DELETE_BY:
                 ColumnDeleteQuery deleteQuery = getDeleteQuery(method, args);
-                return executeDelete(getCallback(args), deleteQuery);
+                return executeDelete(method, args, deleteQuery);
             case OBJECT_METHOD:
                 return method.invoke(this, args);
             case JNOSQL_QUERY:
@@ -69,9 +78,19 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> extends BaseColumnRe
     }
 
     private Object getJnosqlQuery(Method method, Object[] args) {
+        if (isPublisher(method)) {
+            return getPublisher(method, args);
+        }
+        if (isCompletionStage(method)) {
+            return toReturnType(method, executeJnosqlQuery(method, args));
+        }
+        executeJnosqlQuery(method, args, getConsumer(args));
+        return Void.class;
+    }
+
+    private void executeJnosqlQuery(Method method, Object[] args, Consumer<List<T>> consumer) {
         String value = method.getAnnotation(Query.class).value();
         Map<String, Object> params = getParams(method, args);
-        Consumer<List<T>> consumer = getConsumer(args);
         if (params.isEmpty()) {
             getTemplate().query(value, consumer);
         } else {
@@ -79,10 +98,42 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> extends BaseColumnRe
             params.forEach(prepare::bind);
             prepare.getResultList(consumer);
         }
+    }
 
-        return Void.class;
+    private CompletionStage<?> executeJnosqlQuery(Method method, Object[] args) {
+        String value = method.getAnnotation(Query.class).value();
+        Map<String, Object> params = getParams(method, args);
+        boolean singleResult = isOptional(method);
+        if (params.isEmpty()) {
+            if (singleResult) {
+                return getTemplate().singleResult(value);
+            }
+            return getTemplate().query(value);
+        }
+        PreparedStatementAsync prepare = getTemplate().prepare(value);
+        params.forEach(prepare::bind);
+        if (singleResult) {
+            return CompletionStageUtil.<Optional<T>>toStage(prepare::getSingleResult);
+        }
+        return CompletionStageUtil.<List<T>>toStage(prepare::getResultList);
     }
 
+    private Publisher<T> getPublisher(Method method, Object[] args) {
+        String value = method.getAnnotation(Query.class).value();
+        Map<String, Object> params = getParams(method, args);
+        if (params.isEmpty()) {
+            return getTemplate().queryPublisher(value);
+        }
+        PreparedStatementAsync prepare = getTemplate().prepare(value);
+        params.forEach(prepare::bind);
+        return EntityPublisher.<T, T>of(prepare::getResultList, Function.identity());
+    }
+
+    private boolean isPublisher(Method method) {
+        return Publisher.class.equals(method.getReturnType());
+    }
+
+
     private Consumer<List<T>> getConsumer(Object[] args) {
         Consumer<List<T>> consumer;
         Object callBack = getCallback(args);
@@ -96,7 +147,11 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> extends BaseColumnRe
     }
 
 
-    private Object executeDelete(Object arg, ColumnDeleteQuery deleteQuery) {
+    private Object executeDelete(Method method, Object[] args, ColumnDeleteQuery deleteQuery) {
+        if (isCompletionStage(method)) {
+            return toReturnType(method, getTemplate().deleteAsync(deleteQuery));
+        }
+        Object arg = getCallback(args);
         if (Consumer.class.isInstance(arg)) {
             getTemplate().delete(deleteQuery, Consumer.class.cast(arg));
             return Void.class;
@@ -112,14 +167,24 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> extends BaseColumnRe
         return args[args.length - 1];
     }
 
-    private Object executeQuery(Object arg, ColumnQuery query) {
+    private Object executeQuery(Method method, Object[] args, ColumnQuery query) {
+        if (isPublisher(method)) {
+            return getTemplate().selectPublisher(query);
+        }
+        if (isCompletionStage(method)) {
+            if (isOptional(method)) {
+                return toReturnType(method, getTemplate().singleResult(query));
+            }
+            return toReturnType(method, getTemplate().select(query));
+        }
+        Object arg = getCallback(args);
         if (Consumer.class.isInstance(arg)) {
             getTemplate().select(query, Consumer.class.cast(arg));
             return null;
         }
 
-        throw new DynamicQueryException("On select async method you must put a java.util.function.Consumer" +
-                " as end parameter as callback");
+        throw new DynamicQueryException("On select async method you must either return a " +
+                "java.util.concurrent.CompletionStage or put a java.util.function.Consumer as end parameter as callback");
     }
 
 }
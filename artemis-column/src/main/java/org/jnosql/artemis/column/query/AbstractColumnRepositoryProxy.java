@@ -16,11 +16,13 @@ package org.jnosql.artemis.column.query;
 
 
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.artemis.Query;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.column.ColumnTemplate;
 import org.jnosql.artemis.query.RepositoryType;
+import org.jnosql.artemis.util.PaginationUtil;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
 
@@ -28,6 +30,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.jnosql.artemis.column.query.ReturnTypeConverterUtil.returnObject;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
@@ -55,11 +58,9 @@ public abstract class AbstractColumnRepositoryProxy<T, ID> extends  BaseColumnRe
             case DEFAULT:
                 return method.invoke(getRepository(), args);
             case FIND_BY:
-                ColumnQuery query = getQuery(method, args);
-                return returnObject(query, getTemplate(), typeClass, method);
+                return executeQuery(getQuery(method, args), method, args, typeClass);
             case FIND_ALL:
-                return returnObject(select().from(getClassMapping().getName()).build(),
-                        getTemplate(), typeClass, method);
+                return executeQuery(select().from(getClassMapping().getName()).build(), method, args, typeClass);
             case DELETE_BY:
                 ColumnDeleteQuery deleteQuery = getDeleteQuery(method, args);
                 getTemplate().delete(deleteQuery);
@@ -74,6 +75,15 @@ public abstract class AbstractColumnRepositoryProxy<T, ID> extends  BaseColumnRe
         }
     }
 
+    private Object executeQuery(ColumnQuery query, Method method, Object[] args, Class<?> typeClass) {
+        Optional<Pagination> pagination = PaginationUtil.getPagination(args);
+        if (pagination.isPresent()) {
+            List<T> entities = getTemplate().select(query, pagination.get());
+            return ReturnTypeConverterUtil.returnObject(entities, typeClass, method);
+        }
+        return returnObject(query, getTemplate(), typeClass, method);
+    }
+
     private Object getJnosqlQuery(Method method, Object[] args, Class<?> typeClass) {
         String value = method.getAnnotation(Query.class).value();
         Map<String, Object> params = getParams(method, args);
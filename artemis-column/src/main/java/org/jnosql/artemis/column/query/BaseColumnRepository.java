@@ -18,6 +18,7 @@ import org.jnosql.aphrodite.antlr.method.DeleteMethodFactory;
 import org.jnosql.aphrodite.antlr.method.SelectMethodFactory;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.Param;
+import org.jnosql.artemis.query.RepositoryQueries;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.util.ParamsBinder;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
@@ -36,6 +37,7 @@ import java.lang.reflect.Parameter;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 abstract class BaseColumnRepository {
 
@@ -47,10 +49,19 @@ abstract class BaseColumnRepository {
 
     private ParamsBinder paramsBinder;
 
+    private final Map<Method, SelectQuery> selectQueries = new ConcurrentHashMap<>();
+
+    private final Map<Method, DeleteQuery> deleteQueries = new ConcurrentHashMap<>();
+
+    protected void putQueries(RepositoryQueries queries) {
+        selectQueries.putAll(queries.getSelectQueries());
+        deleteQueries.putAll(queries.getDeleteQueries());
+    }
+
 
     protected ColumnQuery getQuery(Method method, Object[] args) {
-        SelectMethodFactory selectMethodFactory = SelectMethodFactory.get();
-        SelectQuery selectQuery = selectMethodFactory.apply(method, getClassMapping().getName());
+        SelectQuery selectQuery = selectQueries.computeIfAbsent(method,
+                m -> SelectMethodFactory.get().apply(m, getClassMapping().getName()));
         SelectQueryConverter converter = SelectQueryConverter.get();
         ColumnQueryParams queryParams = converter.apply(selectQuery, getParser());
         ColumnQuery query = queryParams.getQuery();
@@ -61,8 +72,8 @@ abstract class BaseColumnRepository {
     }
 
     protected ColumnDeleteQuery getDeleteQuery(Method method, Object[] args) {
-        DeleteMethodFactory deleteMethodFactory = DeleteMethodFactory.get();
-        DeleteQuery deleteQuery = deleteMethodFactory.apply(method, getClassMapping().getName());
+        DeleteQuery deleteQuery = deleteQueries.computeIfAbsent(method,
+                m -> DeleteMethodFactory.get().apply(m, getClassMapping().getName()));
         DeleteQueryConverter converter = DeleteQueryConverter.get();
         ColumnDeleteQueryParams queryParams = converter.apply(deleteQuery, getParser());
         ColumnDeleteQuery query = queryParams.getQuery();
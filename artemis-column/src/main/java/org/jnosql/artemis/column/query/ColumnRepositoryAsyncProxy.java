@@ -18,6 +18,7 @@ package org.jnosql.artemis.column.query;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.RepositoryAsync;
 import org.jnosql.artemis.column.ColumnTemplateAsync;
+import org.jnosql.artemis.query.RepositoryQueries;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 
@@ -50,6 +51,13 @@ class ColumnRepositoryAsyncProxy<T> extends AbstractColumnRepositoryAsyncProxy<T
         this.converters = converters;
     }
 
+    ColumnRepositoryAsyncProxy(ColumnTemplateAsync template, ClassMappings classMappings,
+                               Class<?> repositoryType, Converters converters,
+                               RepositoryQueries queries) {
+        this(template, classMappings, repositoryType, converters);
+        putQueries(queries);
+    }
+
     @Override
     protected RepositoryAsync getRepository() {
         return repository;
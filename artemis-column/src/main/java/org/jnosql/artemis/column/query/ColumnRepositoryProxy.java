@@ -18,6 +18,7 @@ package org.jnosql.artemis.column.query;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.column.ColumnTemplate;
+import org.jnosql.artemis.query.RepositoryQueries;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 
@@ -52,6 +53,13 @@ class ColumnRepositoryProxy<T, ID> extends AbstractColumnRepositoryProxy {
         this.converters = converters;
     }
 
+    ColumnRepositoryProxy(ColumnTemplate template, ClassMappings classMappings, Class<?> repositoryType,
+                          Converters converters,
+                          RepositoryQueries queries) {
+        this(template, classMappings, repositoryType, converters);
+        putQueries(queries);
+    }
+
     @Override
     protected Repository getRepository() {
         return repository;
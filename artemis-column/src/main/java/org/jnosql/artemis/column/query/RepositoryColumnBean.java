@@ -19,6 +19,7 @@ import org.jnosql.artemis.DatabaseQualifier;
 import org.jnosql.artemis.DatabaseType;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.column.ColumnTemplate;
+import org.jnosql.artemis.query.RepositoryQueries;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.util.AnnotationLiteralUtil;
 
@@ -50,6 +51,8 @@ public class RepositoryColumnBean implements Bean<Repository>, PassivationCapabl
 
     private final Set<Annotation> qualifiers;
 
+    private final RepositoryQueries queries;
+
     /**
      * Constructor
      *
@@ -58,6 +61,19 @@ public class RepositoryColumnBean implements Bean<Repository>, PassivationCapabl
      * @param provider    the provider name, that must be a
      */
     public RepositoryColumnBean(Class type, BeanManager beanManager, String provider) {
+        this(type, beanManager, provider, RepositoryQueries.empty());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param type        the tye
+     * @param beanManager the beanManager
+     * @param provider    the provider name, that must be a
+     * @param queries     the queries of the repository methods already parsed by the extension
+     */
+    public RepositoryColumnBean(Class type, BeanManager beanManager, String provider, RepositoryQueries queries) {
+        this.queries = queries;
         this.type = type;
         this.beanManager = beanManager;
         this.types = Collections.singleton(type);
@@ -94,7 +110,7 @@ public class RepositoryColumnBean implements Bean<Repository>, PassivationCapabl
         Converters converters = getInstance(Converters.class);
 
         ColumnRepositoryProxy handler = new ColumnRepositoryProxy(template,
-                classMappings, type, converters);
+                classMappings, type, converters, queries);
         return (Repository) Proxy.newProxyInstance(type.getClassLoader(),
                 new Class[]{type},
                 handler);
@@ -55,7 +55,7 @@ public final class ReturnTypeConverterUtil {
         } else if (Queue.class.equals(returnType)) {
             return new PriorityQueue<>(template.select(query));
         } else if (Stream.class.equals(returnType)) {
-            return template.select(query).stream();
+            return template.stream(query);
         }
 
         return template.select(query);
@@ -15,12 +15,16 @@
 package org.jnosql.artemis.column.spi;
 
 
+import org.jnosql.aphrodite.antlr.method.DeleteMethodFactory;
+import org.jnosql.aphrodite.antlr.method.SelectMethodFactory;
 import org.jnosql.artemis.DatabaseMetadata;
 import org.jnosql.artemis.Databases;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.RepositoryAsync;
 import org.jnosql.artemis.column.query.RepositoryAsyncColumnBean;
 import org.jnosql.artemis.column.query.RepositoryColumnBean;
+import org.jnosql.artemis.query.RepositoryQueries;
+import org.jnosql.artemis.reflection.ClassMappingExtension;
 import org.jnosql.diana.api.column.ColumnFamilyManager;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 
@@ -34,6 +38,7 @@ import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -91,6 +96,11 @@ public class ColumnFamilyProducerExtension implements Extension {
     void onAfterBeanDiscovery(@Observes final AfterBeanDiscovery afterBeanDiscovery, final BeanManager beanManager) {
         LOGGER.info(String.format("Starting to process on columns: %d databases crud %d and crudAsync %d",
                 databases.size(), crudTypes.size(), crudAsyncTypes.size()));
+
+        Collection<Class<?>> repositories = new HashSet<>(crudTypes);
+        repositories.addAll(crudAsyncTypes);
+        Map<Class<?>, RepositoryQueries> queries = parseQueries(afterBeanDiscovery, beanManager, repositories);
+
         databases.forEach(type -> {
             final ColumnTemplateBean bean = new ColumnTemplateBean(beanManager, type.getProvider());
             afterBeanDiscovery.addBean(bean);
@@ -102,23 +112,35 @@ public class ColumnFamilyProducerExtension implements Extension {
         });
 
         crudTypes.forEach(type -> {
+            RepositoryQueries typeQueries = queries.getOrDefault(type, RepositoryQueries.empty());
             if (!databases.contains(DatabaseMetadata.DEFAULT_COLUMN)) {
-                afterBeanDiscovery.addBean(new RepositoryColumnBean(type, beanManager, ""));
+                afterBeanDiscovery.addBean(new RepositoryColumnBean(type, beanManager, "", typeQueries));
             }
             databases.forEach(database -> afterBeanDiscovery
-                    .addBean(new RepositoryColumnBean(type, beanManager, database.getProvider())));
+                    .addBean(new RepositoryColumnBean(type, beanManager, database.getProvider(), typeQueries)));
         });
 
         crudAsyncTypes.forEach(type -> {
+            RepositoryQueries typeQueries = queries.getOrDefault(type, RepositoryQueries.empty());
             if (!databases.contains(DatabaseMetadata.DEFAULT_COLUMN)) {
-                afterBeanDiscovery.addBean(new RepositoryAsyncColumnBean(type, beanManager, ""));
+                afterBeanDiscovery.addBean(new RepositoryAsyncColumnBean(type, beanManager, "", typeQueries));
             }
 
             databasesAsync.forEach(database -> afterBeanDiscovery
-                    .addBean(new RepositoryAsyncColumnBean(type, beanManager, database.getProvider())));
+                    .addBean(new RepositoryAsyncColumnBean(type, beanManager, database.getProvider(), typeQueries)));
         });
 
 
     }
 
+    private Map<Class<?>, RepositoryQueries> parseQueries(AfterBeanDiscovery afterBeanDiscovery,
+                                                          BeanManager beanManager,
+                                                          Collection<Class<?>> repositories) {
+        ClassMappingExtension extension = beanManager.getExtension(ClassMappingExtension.class);
+        Map<Class<?>, RepositoryQueries> queries = RepositoryQueries.parse(repositories, extension.getClasses(),
+                SelectMethodFactory.get()::apply, DeleteMethodFactory.get()::apply);
+        queries.values().stream().flatMap(q -> q.getErrors().stream())
+                .forEach(afterBeanDiscovery::addDefinitionError);
+        return queries;
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.column.ColumnFieldConverters.ColumnFieldConverterFactory;
+import org.jnosql.artemis.model.AppointmentBook;
+import org.jnosql.artemis.model.Contact;
+import org.jnosql.artemis.model.ContactType;
+import org.jnosql.artemis.model.Job;
+import org.jnosql.artemis.model.Money;
+import org.jnosql.artemis.model.Worker;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.diana.api.column.Column;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(CDIExtension.class)
+public class ColumnEntityPlanTest {
+
+    @Inject
+    private DefaultColumnEntityConverter converter;
+
+    @Inject
+    private ClassMappings classMappings;
+
+    @Inject
+    private Converters converters;
+
+    private ColumnFieldConverterFactory factory;
+
+    @BeforeEach
+    public void setUp() {
+        factory = new ColumnFieldConverterFactory();
+    }
+
+    @Test
+    public void shouldWriteEmbeddedAndConvertedFields() {
+        ColumnEntityPlan plan = getPlan(Worker.class);
+
+        List<Column> columns = plan.toColumns(getWorker(), converter);
+
+        assertEquals("Worker", plan.getName());
+        assertThat(columns, containsInAnyOrder(Column.of("name", "Bob"), Column.of("city", "Sao Paulo"),
+                Column.of("description", "Java Developer"), Column.of("money", "BRL 10")));
+    }
+
+    @Test
+    public void shouldSkipNullFields() {
+        Worker worker = new Worker();
+        worker.setName("Bob");
+
+        List<Column> columns = getPlan(Worker.class).toColumns(worker, converter);
+
+        assertEquals(singletonList(Column.of("name", "Bob")), columns);
+    }
+
+    @Test
+    public void shouldReadEmbeddedAndConvertedFields() {
+        List<Column> columns = asList(Column.of("name", "Bob"), Column.of("city", "Sao Paulo"),
+                Column.of("description", "Java Developer"), Column.of("money", "BRL 10"));
+
+        Worker worker = getPlan(Worker.class).toEntity(new Worker(), columns, converter);
+
+        assertEquals("Bob", worker.getName());
+        assertEquals(new Money("BRL", BigDecimal.TEN), worker.getSalary());
+        assertEquals("Sao Paulo", worker.getJob().getCity());
+        assertEquals("Java Developer", worker.getJob().getDescription());
+    }
+
+    @Test
+    public void shouldWriteAndReadEmbeddableCollection() {
+        AppointmentBook appointmentBook = getAppointmentBook();
+        ColumnEntityPlan plan = getPlan(AppointmentBook.class);
+
+        List<Column> columns = plan.toColumns(appointmentBook, converter);
+        Column contacts = columns.stream().filter(c -> c.getName().equals("contacts")).findFirst().get();
+        List<List<Column>> embeddable = (List<List<Column>>) contacts.get();
+        AppointmentBook result = plan.toEntity(new AppointmentBook(null), columns, converter);
+
+        assertEquals(2, embeddable.size());
+        assertThat(embeddable.get(0), containsInAnyOrder(Column.of("name", "Ada"),
+                Column.of("type", ContactType.EMAIL), Column.of("information", "ada@lovelace.com")));
+        assertEquals("ids", result.getId());
+        assertEquals(appointmentBook.getContacts(), result.getContacts());
+    }
+
+    @Test
+    public void shouldNotWriteEmbeddableCollectionWhenItIsMissing() {
+        AppointmentBook result = getPlan(AppointmentBook.class).toEntity(new AppointmentBook(null),
+                singletonList(Column.of("_id", "ids")), converter);
+
+        assertEquals("ids", result.getId());
+        assertTrue(result.getContacts().isEmpty());
+    }
+
+    @Test
+    public void shouldWriteTheDeprecatedFieldValueWithThePlan() {
+        Worker worker = getWorker();
+        ClassMapping mapping = classMappings.get(Worker.class);
+        List<Column> columns = new ArrayList<>();
+        for (FieldMapping field : mapping.getFields()) {
+            ColumnFieldValue value = DefaultColumnFieldValue.of(field.read(worker), field,
+                    getPlan(Worker.class).getConverter(field).get());
+            columns.addAll(value.toColumn(converter, converters));
+        }
+
+        assertEquals(getPlan(Worker.class).toColumns(worker, converter), columns);
+    }
+
+    @Test
+    public void shouldReadTheDeprecatedFeedObjectWithThePlan() {
+        List<Column> columns = asList(Column.of("name", "Bob"), Column.of("city", "Sao Paulo"),
+                Column.of("description", "Java Developer"), Column.of("money", "BRL 10"));
+        Map<String, FieldMapping> fields = classMappings.get(Worker.class).getFieldsGroupByName();
+        Worker worker = new Worker();
+
+        Consumer<String> feedObject = converter.feedObject(worker, columns, fields);
+        feedObject.accept("money");
+        assertEquals(new Money("BRL", BigDecimal.TEN), worker.getSalary());
+        assertNull(worker.getJob());
+
+        feedObject.accept("job");
+        assertEquals("Sao Paulo", worker.getJob().getCity());
+    }
+
+    @Test
+    public void shouldReadTheDeprecatedToWithThePlan() {
+        Worker worker = getWorker();
+        FieldMapping salary = classMappings.get(Worker.class).getFieldsGroupByName().get("money");
+
+        ColumnFieldValue value = converter.to(salary, worker);
+
+        assertEquals(worker.getSalary(), value.getValue());
+        assertEquals(singletonList(Column.of("money", "BRL 10")), value.toColumn(converter, converters));
+    }
+
+    private ColumnEntityPlan getPlan(Class<?> entityClass) {
+        return ColumnEntityPlan.of(classMappings.get(entityClass), factory, converters);
+    }
+
+    private Worker getWorker() {
+        Job job = new Job();
+        job.setCity("Sao Paulo");
+        job.setDescription("Java Developer");
+        Worker worker = new Worker();
+        worker.setName("Bob");
+        worker.setSalary(new Money("BRL", BigDecimal.TEN));
+        worker.setJob(job);
+        return worker;
+    }
+
+    private AppointmentBook getAppointmentBook() {
+        AppointmentBook appointmentBook = new AppointmentBook("ids");
+        appointmentBook.add(Contact.builder().withType(ContactType.EMAIL).withName("Ada")
+                .withInformation("ada@lovelace.com").build());
+        appointmentBook.add(Contact.builder().withType(ContactType.MOBILE).withName("Ada")
+                .withInformation("11 1231231 123").build());
+        return appointmentBook;
+    }
+}
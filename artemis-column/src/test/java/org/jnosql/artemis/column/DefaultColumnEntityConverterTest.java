@@ -381,6 +381,31 @@ public class DefaultColumnEntityConverterTest {
 
     }
 
+    @Test
+    public void shouldConvertWideColumnEntityToEntity() {
+        ColumnEntity entity = ColumnEntity.of("Actor");
+        for (int index = 0; index < 500; index++) {
+            entity.add(Column.of("column" + index, index));
+        }
+        Stream.of(columns).forEach(entity::add);
+
+        Actor actor = converter.toEntity(entity);
+        assertEquals(10, actor.getAge());
+        assertEquals(12L, actor.getId());
+        assertEquals("Otavio", actor.getName());
+        assertEquals(asList("234", "2342"), actor.getPhones());
+    }
+
+    @Test
+    public void shouldUseTheFirstColumnWhenThereIsDuplicatedName() {
+        ColumnEntity entity = ColumnEntity.of("Actor");
+        Stream.of(columns).forEach(entity::add);
+        entity.add(Column.of("name", "Poliana"));
+
+        Actor actor = converter.toEntity(entity);
+        assertEquals("Otavio", actor.getName());
+    }
+
     private Object getValue(Optional<Column> column) {
         return column.map(Column::getValue).map(Value::get).orElse(null);
     }
@@ -19,6 +19,7 @@ import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.PreparedStatementAsync;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.reflection.ClassInformationNotFoundException;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.Column;
@@ -33,12 +34,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -269,6 +274,79 @@ public class DefaultColumnTemplateAsyncTest {
         await().untilTrue(condition);
     }
 
+    @Test
+    public void shouldSelectAsCompletionStage() throws Exception {
+        ArgumentCaptor<Consumer<List<ColumnEntity>>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
+        ColumnQuery query = ColumnQueryBuilder.select().from("Person").build();
+        CompletionStage<List<Person>> stage = subject.select(query);
+        verify(managerMock).select(Mockito.eq(query), dianaCallbackCaptor.capture());
+        Consumer<List<ColumnEntity>> dianaCallBack = dianaCallbackCaptor.getValue();
+        dianaCallBack.accept(singletonList(ColumnEntity.of("Person", asList(columns))));
+        List<Person> people = stage.toCompletableFuture().get();
+        assertEquals(1, people.size());
+        assertEquals("Name", people.get(0).getName());
+    }
+
+    @Test
+    public void shouldReturnErrorAsCompletionStageWhenSelectFails() {
+        ColumnQuery query = ColumnQueryBuilder.select().from("Person").build();
+        Mockito.doThrow(new IllegalStateException("error")).when(managerMock).select(Mockito.eq(query), Mockito.any());
+        CompletionStage<List<Person>> stage = subject.select(query);
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> stage.toCompletableFuture().get());
+        assertEquals(IllegalStateException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    public void shouldReturnErrorAsCompletionStageWhenConversionFails() {
+        ArgumentCaptor<Consumer<List<ColumnEntity>>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
+        ColumnQuery query = ColumnQueryBuilder.select().from("Person").build();
+        CompletionStage<List<Person>> stage = subject.select(query);
+        verify(managerMock).select(Mockito.eq(query), dianaCallbackCaptor.capture());
+        dianaCallbackCaptor.getValue().accept(singletonList(ColumnEntity.of("Unknown", asList(columns))));
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> stage.toCompletableFuture().get());
+        assertEquals(ClassInformationNotFoundException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    public void shouldReturnErrorInSingleResultAsCompletionStage() {
+        ArgumentCaptor<Consumer<List<ColumnEntity>>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
+        ColumnQuery query = ColumnQueryBuilder.select().from("Person").build();
+        CompletionStage<Optional<Person>> stage = subject.singleResult(query);
+        verify(managerMock).select(Mockito.eq(query), dianaCallbackCaptor.capture());
+        Consumer<List<ColumnEntity>> dianaCallBack = dianaCallbackCaptor.getValue();
+        dianaCallBack.accept(asList(ColumnEntity.of("Person", asList(columns)),
+                ColumnEntity.of("Person", asList(columns))));
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> stage.toCompletableFuture().get());
+        assertEquals(NonUniqueResultException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    public void shouldSelectAsPublisher() {
+        ArgumentCaptor<Consumer<List<ColumnEntity>>> dianaCallbackCaptor = ArgumentCaptor.forClass(Consumer.class);
+        ArgumentCaptor<Subscription> subscriptionCaptor = ArgumentCaptor.forClass(Subscription.class);
+        ColumnQuery query = ColumnQueryBuilder.select().from("Person").build();
+        Subscriber<Person> subscriber = Mockito.mock(Subscriber.class);
+
+        subject.<Person>selectPublisher(query).subscribe(subscriber);
+        verify(subscriber).onSubscribe(subscriptionCaptor.capture());
+        Subscription subscription = subscriptionCaptor.getValue();
+        verify(managerMock, Mockito.never()).select(Mockito.any(ColumnQuery.class), Mockito.any());
+
+        subscription.request(1);
+        verify(managerMock).select(Mockito.eq(query), dianaCallbackCaptor.capture());
+        dianaCallbackCaptor.getValue().accept(asList(ColumnEntity.of("Person", asList(columns)),
+                ColumnEntity.of("Person", asList(columns))));
+        verify(subscriber, Mockito.times(1)).onNext(Mockito.any(Person.class));
+        verify(subscriber, Mockito.never()).onComplete();
+
+        subscription.request(1);
+        verify(subscriber, Mockito.times(2)).onNext(Mockito.any(Person.class));
+        verify(subscriber).onComplete();
+    }
+
     @Test
     public void shouldReturnSingleResult() {
 
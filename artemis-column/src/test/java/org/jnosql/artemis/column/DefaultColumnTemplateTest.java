@@ -17,12 +17,14 @@ package org.jnosql.artemis.column;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.artemis.model.Job;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
@@ -44,7 +46,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -172,11 +176,13 @@ public class DefaultColumnTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class), Mockito.eq(duration)))
-                .thenReturn(columnEntity);
+                .insert(any(Iterable.class), Mockito.eq(duration)))
+                .thenReturn(Arrays.asList(columnEntity, columnEntity));
 
         subject.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class), any(Duration.class));
+        verify(managerMock).insert(any(Iterable.class), any(Duration.class));
+        verify(columnEventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(columnEventPersistManager, times(2)).firePostEntity(any(Person.class));
     }
 
     @Test
@@ -185,11 +191,39 @@ public class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .insert(any(Iterable.class)))
+                .thenReturn(Arrays.asList(columnEntity, columnEntity));
+
+        Iterable<Person> entities = subject.insert(Arrays.asList(person, person));
+        verify(managerMock).insert(any(Iterable.class));
+        verify(columnEventPersistManager, times(2)).firePreColumn(any(ColumnEntity.class));
+        verify(columnEventPersistManager, times(2)).firePostColumn(any(ColumnEntity.class));
+        assertEquals(2L, StreamSupport.stream(entities.spliterator(), false).count());
+    }
+
+    @Test
+    public void shouldInsertEntitiesInBatches() {
+        Mockito.when(managerMock.insert(any(Iterable.class))).then(i -> i.getArgument(0));
+
+        List<Person> people = IntStream.range(0, 250).mapToObj(i -> person).collect(Collectors.toList());
+        subject.insert(people);
+
+        ArgumentCaptor<Iterable> batches = ArgumentCaptor.forClass(Iterable.class);
+        verify(managerMock, times(3)).insert(batches.capture());
+        List<Long> sizes = batches.getAllValues().stream()
+                .map(b -> StreamSupport.stream(b.spliterator(), false).count())
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(100L, 100L, 50L), sizes);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTheDatabaseReturnsFewerEntities() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        Mockito.when(managerMock
+                .insert(any(Iterable.class)))
+                .thenReturn(singletonList(entity));
 
-        subject.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class));
+        Assertions.assertThrows(IllegalStateException.class, () -> subject.insert(Arrays.asList(person, person)));
     }
 
     @Test
@@ -198,11 +232,11 @@ public class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .update(any(Iterable.class)))
+                .thenReturn(Arrays.asList(columnEntity, columnEntity));
 
         subject.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(ColumnEntity.class));
+        verify(managerMock).update(any(Iterable.class));
     }
 
     @Test
@@ -220,6 +254,49 @@ public class DefaultColumnTemplateTest {
         verify(managerMock).select(query);
     }
 
+    @Test
+    public void shouldStream() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+
+        Mockito.when(managerMock
+                .select(any(ColumnQuery.class)))
+                .thenReturn(Arrays.asList(columnEntity, columnEntity));
+
+        ColumnQuery query = select().from("person").build();
+        Stream<Person> people = subject.stream(query);
+        verify(columnEventPersistManager).firePreQuery(query);
+        assertEquals(2L, people.count());
+    }
+
+    @Test
+    public void shouldSelectWithPagination() {
+        ColumnQuery query = select().from("Person").where("name").eq("Ada").build();
+        subject.select(query, Pagination.of(10L, 5L));
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        ColumnQuery page = queryCaptor.getValue();
+        assertEquals("Person", page.getColumnFamily());
+        assertEquals(10L, page.getSkip());
+        assertEquals(5L, page.getLimit());
+        assertEquals(query.getCondition(), page.getCondition());
+    }
+
+    @Test
+    public void shouldSelectWithKeysetPagination() {
+        ColumnQuery query = select().from("Person").where("name").eq("Ada").build();
+        subject.select(query, Pagination.keyset("id", 19L, 5L));
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        ColumnQuery page = queryCaptor.getValue();
+        assertEquals(0L, page.getSkip());
+        assertEquals(5L, page.getLimit());
+        assertEquals(singletonList(Sort.of("_id", Sort.SortType.ASC)), page.getSorts());
+        ColumnCondition expected = ColumnCondition.eq(Column.of("name", "Ada"))
+                .and(ColumnCondition.gt(Column.of("_id", 19L)));
+        assertEquals(expected, page.getCondition().get());
+    }
+
     @Test
     public void shouldReturnSingleResult() {
         ColumnEntity columnEntity = ColumnEntity.of("Person");
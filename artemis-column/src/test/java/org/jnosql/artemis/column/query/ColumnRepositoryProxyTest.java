@@ -15,14 +15,18 @@
 package org.jnosql.artemis.column.query;
 
 import org.hamcrest.Matchers;
+import org.jnosql.aphrodite.antlr.method.DeleteMethodFactory;
+import org.jnosql.aphrodite.antlr.method.SelectMethodFactory;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.Param;
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.artemis.Query;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.column.ColumnTemplate;
 import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.query.RepositoryQueries;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.diana.api.Condition;
 import org.jnosql.diana.api.TypeReference;
@@ -38,6 +42,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import javax.inject.Inject;
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.util.Arrays;
@@ -49,7 +54,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.jnosql.diana.api.Condition.AND;
 import static org.jnosql.diana.api.Condition.BETWEEN;
@@ -173,6 +180,41 @@ public class ColumnRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldBindTheArgumentsOfEachCall() {
+        when(template.singleResult(any(ColumnQuery.class))).thenReturn(Optional.empty());
+
+        personRepository.findByName("Ada");
+        personRepository.findByName("Poliana");
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template, times(2)).singleResult(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+        assertEquals(Column.of("name", "Ada"), queries.get(0).getCondition().get().getColumn());
+        assertEquals(Column.of("name", "Poliana"), queries.get(1).getCondition().get().getColumn());
+    }
+
+    @Test
+    public void shouldUseTheQueriesParsedByTheExtension() throws NoSuchMethodException {
+        Method lessThan = PersonRepository.class.getMethod("findByAgeLessThan", Integer.class);
+        RepositoryQueries queries = RepositoryQueries.parse(singletonList(PersonRepository.class),
+                singletonMap(Person.class, classMappings.get(Person.class)),
+                (m, e) -> SelectMethodFactory.get().apply(lessThan, e), DeleteMethodFactory.get()::apply)
+                .get(PersonRepository.class);
+        PersonRepository repository = (PersonRepository) Proxy.newProxyInstance(
+                PersonRepository.class.getClassLoader(), new Class[]{PersonRepository.class},
+                new ColumnRepositoryProxy(template, classMappings, PersonRepository.class, converters, queries));
+        when(template.select(any(ColumnQuery.class))).thenReturn(emptyList());
+
+        repository.findByAgeGreaterThan(33);
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnCondition condition = captor.getValue().getCondition().get();
+        assertEquals(LESSER_THAN, condition.getCondition());
+        assertEquals(Column.of("age", 33), condition.getColumn());
+    }
+
     @Test
     public void shouldFindByNameANDAge() {
         Person ada = Person.builder()
@@ -208,12 +250,12 @@ public class ColumnRepositoryProxyTest {
         Person ada = Person.builder()
                 .withAge(20).withName("Ada").build();
 
-        when(template.select(any(ColumnQuery.class)))
-                .thenReturn(singletonList(ada));
+        when(template.stream(any(ColumnQuery.class)))
+                .thenReturn(Stream.of(ada));
 
         Stream<Person> persons = personRepository.findByNameAndAgeOrderByName("name", 20);
         ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
-        verify(template).select(captor.capture());
+        verify(template).stream(captor.capture());
         assertThat(persons.collect(Collectors.toList()), Matchers.contains(ada));
 
     }
@@ -308,6 +350,38 @@ public class ColumnRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldFindAllWithPagination() {
+        Person ada = Person.builder()
+                .withAge(20).withName("Ada").build();
+
+        when(template.select(any(ColumnQuery.class), any(Pagination.class)))
+                .thenReturn(singletonList(ada));
+
+        Pagination pagination = Pagination.of(10L, 5L);
+        List<Person> persons = personRepository.findAll(pagination);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture(), Mockito.eq(pagination));
+        ColumnQuery query = captor.getValue();
+        assertFalse(query.getCondition().isPresent());
+        assertEquals("Person", query.getColumnFamily());
+        assertEquals(singletonList(ada), persons);
+    }
+
+    @Test
+    public void shouldFindByWithPagination() {
+        when(template.select(any(ColumnQuery.class), any(Pagination.class)))
+                .thenReturn(emptyList());
+
+        Pagination pagination = Pagination.keyset("id", 10L);
+        personRepository.findByAge(20, pagination);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture(), Mockito.eq(pagination));
+        ColumnCondition condition = captor.getValue().getCondition().get();
+        assertEquals(Condition.EQUALS, condition.getCondition());
+        assertEquals(Column.of("age", 20), condition.getColumn());
+    }
+
     @Test
     public void shouldReturnToString() {
         assertNotNull(personRepository.toString());
@@ -488,6 +562,10 @@ public class ColumnRepositoryProxyTest {
 
         List<Person> findAll();
 
+        List<Person> findAll(Pagination pagination);
+
+        List<Person> findByAge(Integer age, Pagination pagination);
+
         Person findByName(String name);
 
 
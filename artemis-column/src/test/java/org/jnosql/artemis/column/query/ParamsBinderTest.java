@@ -103,6 +103,24 @@ class ParamsBinderTest {
 
     }
 
+    @Test
+    public void shouldBindTheSameParamsShapeAgain() {
+
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals("findByAge")).findFirst().get();
+        ClassMapping classMapping = mappings.get(Person.class);
+        RepositoryColumnObserverParser parser = new RepositoryColumnObserverParser(classMapping);
+        paramsBinder = new ParamsBinder(classMapping, converters);
+        SelectQuery selectQuery = SelectMethodFactory.get().apply(method, classMapping.getName());
+
+        for (int age = 10; age < 13; age++) {
+            ColumnQueryParams queryParams = SelectQueryConverter.get().apply(selectQuery, parser);
+            paramsBinder.bind(queryParams.getParams(), new Object[]{age}, method);
+            Value value = queryParams.getQuery().getCondition().get().getColumn().getValue();
+            assertEquals(age, value.get());
+        }
+    }
+
 
     interface PersonRepository {
 
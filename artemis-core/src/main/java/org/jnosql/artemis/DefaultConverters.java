@@ -20,10 +20,14 @@ import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * The Default implementation to {@link Converters}
+ * The Default implementation to {@link Converters}. It resolves each converter once from the {@link BeanManager}:
+ * a normal scoped converter is kept as its client proxy, and a dependent one lives as long as this bean.
  */
 @ApplicationScoped
 class DefaultConverters implements Converters {
@@ -31,10 +35,17 @@ class DefaultConverters implements Converters {
     @Inject
     private BeanManager beanManager;
 
+    private final Map<Class<?>, AttributeConverter> converters = new ConcurrentHashMap<>();
+
     @Override
     public AttributeConverter get(Class<? extends AttributeConverter> converterClass) {
         Objects.requireNonNull(converterClass, "The converterClass is required");
-        return getInstance(converterClass);
+        AttributeConverter converter = converters.get(converterClass);
+        if (converter == null) {
+            AttributeConverter instance = getInstance(converterClass);
+            converter = Optional.ofNullable(converters.putIfAbsent(converterClass, instance)).orElse(instance);
+        }
+        return converter;
     }
 
     private <T> T getInstance(Class<T> clazz) {
@@ -47,6 +58,7 @@ class DefaultConverters implements Converters {
     public String toString() {
         final StringBuilder sb = new StringBuilder("DefaultConverters{");
         sb.append("beanManager=").append(beanManager);
+        sb.append(", converters=").append(converters.keySet());
         sb.append('}');
         return sb.toString();
     }
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import java.util.Objects;
+import java.util.Optional;
+
+class DefaultKeysetPagination implements KeysetPagination {
+
+    private final String field;
+
+    private final Object lastValue;
+
+    private final long limit;
+
+    DefaultKeysetPagination(String field, Object lastValue, long limit) {
+        this.field = Objects.requireNonNull(field, "field is required");
+        this.lastValue = lastValue;
+        this.limit = limit;
+    }
+
+    @Override
+    public String getField() {
+        return field;
+    }
+
+    @Override
+    public Optional<Object> getLastValue() {
+        return Optional.ofNullable(lastValue);
+    }
+
+    @Override
+    public KeysetPagination next(Object lastValue) {
+        return Pagination.keyset(field, lastValue, limit);
+    }
+
+    @Override
+    public long getLimit() {
+        return limit;
+    }
+
+    @Override
+    public long getSkip() {
+        return 0L;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KeysetPagination)) {
+            return false;
+        }
+        KeysetPagination that = (KeysetPagination) o;
+        return limit == that.getLimit() &&
+                Objects.equals(field, that.getField()) &&
+                Objects.equals(getLastValue(), that.getLastValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, lastValue, limit);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultKeysetPagination{");
+        sb.append("field='").append(field).append('\'');
+        sb.append(", lastValue=").append(lastValue);
+        sb.append(", limit=").append(limit);
+        sb.append('}');
+        return sb.toString();
+    }
+}
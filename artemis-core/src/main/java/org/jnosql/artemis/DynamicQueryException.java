@@ -28,4 +28,14 @@ public class DynamicQueryException extends ArtemisException {
     public DynamicQueryException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new runtime exception with the specified detail message and cause.
+     *
+     * @param message the message
+     * @param cause   the cause
+     */
+    public DynamicQueryException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import java.util.Optional;
+
+/**
+ * A pagination that, instead of skipping the rows of the previous pages, reads the rows whose field is greater
+ * than the field value of the last entity read, so a deep page costs the same as the first one and it is stable
+ * when the rows before it change. The rows are ordered by the field and {@link Pagination#getSkip()} is always zero.
+ */
+public interface KeysetPagination extends Pagination {
+
+    /**
+     * Returns the entity field used as key
+     *
+     * @return the field name
+     */
+    String getField();
+
+    /**
+     * Returns the field value of the last entity of the previous page
+     *
+     * @return the last value or {@link Optional#empty()} to the first page
+     */
+    Optional<Object> getLastValue();
+
+    /**
+     * Creates the next page
+     *
+     * @param lastValue the field value of the last entity of this page
+     * @return the next page
+     * @throws NullPointerException when lastValue is null
+     */
+    KeysetPagination next(Object lastValue);
+}
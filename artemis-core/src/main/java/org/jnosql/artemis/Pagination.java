@@ -14,6 +14,8 @@
  */
 package org.jnosql.artemis;
 
+import java.util.Objects;
+
 /**
  * Interface for pagination information.
  */
@@ -43,4 +45,32 @@ public interface Pagination {
     static Pagination of(long start, long limit) {
         return new DefaultPagination(limit, start);
     }
+
+    /**
+     * Creates the first page of a keyset pagination, the rows are ordered by the field
+     *
+     * @param field the entity field, it must be unique and sortable
+     * @param limit the limit
+     * @return the keyset pagination instance
+     * @throws NullPointerException when field is null
+     * @see KeysetPagination
+     */
+    static KeysetPagination keyset(String field, long limit) {
+        return new DefaultKeysetPagination(field, null, limit);
+    }
+
+    /**
+     * Creates a keyset pagination that starts after the last value read in the previous page
+     *
+     * @param field     the entity field, it must be unique and sortable
+     * @param lastValue the field value of the last entity of the previous page
+     * @param limit     the limit
+     * @return the keyset pagination instance
+     * @throws NullPointerException when either field or lastValue is null
+     * @see KeysetPagination
+     */
+    static KeysetPagination keyset(String field, Object lastValue, long limit) {
+        Objects.requireNonNull(lastValue, "lastValue is required");
+        return new DefaultKeysetPagination(field, lastValue, limit);
+    }
 }
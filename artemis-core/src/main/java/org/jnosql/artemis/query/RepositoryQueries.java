@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.query;
+
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.query.DeleteQuery;
+import org.jnosql.query.SelectQuery;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The queries of the repository methods, such as findBy and deleteBy, parsed once at the CDI bootstrap. The
+ * extension hands them to the repository bean, so each proxy starts with its queries already parsed and they are
+ * released with the deployment.
+ */
+public final class RepositoryQueries {
+
+    private static final RepositoryQueries EMPTY = new RepositoryQueries(Collections.emptyMap(),
+            Collections.emptyMap(), Collections.emptyList());
+
+    private final Map<Method, SelectQuery> selectQueries;
+
+    private final Map<Method, DeleteQuery> deleteQueries;
+
+    private final List<DynamicQueryException> errors;
+
+    private RepositoryQueries(Map<Method, SelectQuery> selectQueries, Map<Method, DeleteQuery> deleteQueries,
+                              List<DynamicQueryException> errors) {
+        this.selectQueries = Collections.unmodifiableMap(selectQueries);
+        this.deleteQueries = Collections.unmodifiableMap(deleteQueries);
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Returns the parsed findBy methods
+     *
+     * @return the {@link SelectQuery} grouped by method
+     */
+    public Map<Method, SelectQuery> getSelectQueries() {
+        return selectQueries;
+    }
+
+    /**
+     * Returns the parsed deleteBy methods
+     *
+     * @return the {@link DeleteQuery} grouped by method
+     */
+    public Map<Method, DeleteQuery> getDeleteQueries() {
+        return deleteQueries;
+    }
+
+    /**
+     * Returns the error to each method that could not be parsed
+     *
+     * @return the {@link DynamicQueryException} list
+     */
+    public List<DynamicQueryException> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns an instance without queries, so the repository parses its methods on the first call
+     *
+     * @return an empty {@link RepositoryQueries}
+     */
+    public static RepositoryQueries empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Parses in parallel the findBy and deleteBy methods of the repositories whose entity is mapped.
+     *
+     * @param repositoryTypes the repository interfaces
+     * @param classes         the {@link ClassMapping} grouped by entity class
+     * @param selectParser    the parser to the findBy methods
+     * @param deleteParser    the parser to the deleteBy methods
+     * @return the {@link RepositoryQueries} grouped by repository interface
+     * @throws NullPointerException when there is null parameter
+     */
+    public static Map<Class<?>, RepositoryQueries> parse(Collection<Class<?>> repositoryTypes,
+                                                         Map<Class<?>, ClassMapping> classes,
+                                                         BiFunction<Method, String, SelectQuery> selectParser,
+                                                         BiFunction<Method, String, DeleteQuery> deleteParser) {
+        Objects.requireNonNull(repositoryTypes, "repositoryTypes is required");
+        Objects.requireNonNull(classes, "classes is required");
+        Objects.requireNonNull(selectParser, "selectParser is required");
+        Objects.requireNonNull(deleteParser, "deleteParser is required");
+
+        return repositoryTypes.parallelStream()
+                .collect(Collectors.toMap(Function.identity(),
+                        type -> parse(type, classes, selectParser, deleteParser), (a, b) -> a));
+    }
+
+    /**
+     * Returns the entity class of a repository, resolved through the whole interface hierarchy up to
+     * either {@link Repository} or {@link RepositoryAsync}
+     *
+     * @param repositoryType the repository interface
+     * @return the entity class or {@link Optional#empty()} when it cannot be resolved
+     * @throws NullPointerException when repositoryType is null
+     */
+    public static Optional<Class<?>> getEntity(Class<?> repositoryType) {
+        Objects.requireNonNull(repositoryType, "repositoryType is required");
+        return getEntity(repositoryType, Collections.emptyMap());
+    }
+
+    private static RepositoryQueries parse(Class<?> repositoryType, Map<Class<?>, ClassMapping> classes,
+                                           BiFunction<Method, String, SelectQuery> selectParser,
+                                           BiFunction<Method, String, DeleteQuery> deleteParser) {
+        Optional<ClassMapping> mapping = getEntity(repositoryType).map(classes::get);
+        if (!mapping.isPresent()) {
+            return EMPTY;
+        }
+        String entity = mapping.get().getName();
+        Map<Method, SelectQuery> selectQueries = new HashMap<>();
+        Map<Method, DeleteQuery> deleteQueries = new HashMap<>();
+        List<DynamicQueryException> errors = new ArrayList<>();
+        for (Method method : repositoryType.getMethods()) {
+            try {
+                switch (RepositoryType.of(method)) {
+                    case FIND_BY:
+                        selectQueries.put(method, selectParser.apply(method, entity));
+                        break;
+                    case DELETE_BY:
+                        deleteQueries.put(method, deleteParser.apply(method, entity));
+                        break;
+                    default:
+                }
+            } catch (RuntimeException exception) {
+                errors.add(new DynamicQueryException(String.format("The method %s at the repository %s is invalid: %s",
+                        method.getName(), repositoryType.getName(), exception.getMessage()), exception));
+            }
+        }
+        return new RepositoryQueries(selectQueries, deleteQueries, errors);
+    }
+
+    private static Optional<Class<?>> getEntity(Class<?> type, Map<TypeVariable<?>, Type> arguments) {
+        for (Type genericInterface : type.getGenericInterfaces()) {
+            Optional<Class<?>> entity = Optional.empty();
+            if (genericInterface instanceof ParameterizedType) {
+                entity = getEntity(ParameterizedType.class.cast(genericInterface), arguments);
+            } else if (genericInterface instanceof Class) {
+                entity = getEntity(Class.class.cast(genericInterface), Collections.emptyMap());
+            }
+            if (entity.isPresent()) {
+                return entity;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Class<?>> getEntity(ParameterizedType type, Map<TypeVariable<?>, Type> arguments) {
+        Class<?> rawType = Class.class.cast(type.getRawType());
+        Type[] actualArguments = type.getActualTypeArguments();
+        if (Repository.class.equals(rawType) || RepositoryAsync.class.equals(rawType)) {
+            Type entity = arguments.getOrDefault(actualArguments[0], actualArguments[0]);
+            if (entity instanceof Class) {
+                return Optional.of(Class.class.cast(entity));
+            }
+            return Optional.empty();
+        }
+        TypeVariable<?>[] parameters = rawType.getTypeParameters();
+        Map<TypeVariable<?>, Type> resolved = new HashMap<>();
+        for (int index = 0; index < parameters.length; index++) {
+            Type argument = actualArguments[index];
+            resolved.put(parameters[index], arguments.getOrDefault(argument, argument));
+        }
+        return getEntity(rawType, resolved);
+    }
+}
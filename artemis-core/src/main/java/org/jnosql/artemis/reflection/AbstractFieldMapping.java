@@ -42,6 +42,8 @@ abstract class AbstractFieldMapping implements FieldMapping {
 
     protected final FieldWriter writer;
 
+    private final Optional<Class<? extends AttributeConverter>> optionalConverter;
+
     AbstractFieldMapping(FieldType type, Field field, String name,
                          Class<? extends AttributeConverter> converter, FieldReader reader, FieldWriter writer) {
         this.type = type;
@@ -51,6 +53,7 @@ abstract class AbstractFieldMapping implements FieldMapping {
         this.converter = converter;
         this.reader = reader;
         this.writer = writer;
+        this.optionalConverter = Optional.ofNullable(converter);
     }
 
     @Override
@@ -87,7 +90,7 @@ abstract class AbstractFieldMapping implements FieldMapping {
 
     @Override
     public <T extends AttributeConverter> Optional<Class<? extends AttributeConverter>> getConverter() {
-        return Optional.ofNullable(converter);
+        return optionalConverter;
     }
 
 
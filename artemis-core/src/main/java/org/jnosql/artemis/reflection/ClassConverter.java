@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.reflection;
 
+import org.jnosql.artemis.AttributeConverter;
 import org.jnosql.artemis.Convert;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -23,6 +24,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -46,15 +48,21 @@ class ClassConverter {
 
     private InstanceSupplierFactory instanceSupplierFactory;
 
+    private ClassMappingCache cache;
 
     @Inject
     ClassConverter(Reflections reflections) {
+        this(reflections, ClassMappingCache.get());
+    }
+
+    ClassConverter(Reflections reflections, ClassMappingCache cache) {
         ClassOperation classOperation = ClassOperationFactory.INSTANCE.get();
 
         this.reflections = reflections;
         this.readerFactory = classOperation.getFieldReaderFactory();
         this.writerFactory = classOperation.getFieldWriterFactory();
         this.instanceSupplierFactory = classOperation.getInstanceSupplierFactory();
+        this.cache = cache;
     }
 
     ClassConverter() {
@@ -63,23 +71,58 @@ class ClassConverter {
     public ClassMapping create(Class<?> entityClass) {
 
         long start = System.currentTimeMillis();
+        Optional<ClassMappingCache.CachedMapping> cached = cache.load(entityClass);
+        if (cached.isPresent()) {
+            ClassMapping mapping = create(entityClass, cached.get());
+            long end = System.currentTimeMillis() - start;
+            LOGGER.fine(String.format("Cached %s loaded with time %d ms", entityClass.getName(), end));
+            return mapping;
+        }
+
         String entityName = reflections.getEntityName(entityClass);
 
         List<FieldMapping> fields = reflections.getFields(entityClass)
                 .stream().map(this::to).collect(toList());
 
-        List<String> fieldsName = fields.stream().map(FieldMapping::getName).collect(toList());
-
         Map<String, NativeMapping> nativeFieldGroupByJavaField =
                 getNativeFieldGroupByJavaField(fields, "", "");
 
+        ClassMapping mapping = create(entityClass, entityName, fields, nativeFieldGroupByJavaField);
+        cache.store(entityClass, mapping, nativeFieldGroupByJavaField);
+
+        long end = System.currentTimeMillis() - start;
+        LOGGER.fine(String.format("Scanned %s loaded with time %d ms", entityClass.getName(), end));
+        return mapping;
+    }
+
+    private ClassMapping create(Class<?> entityClass, ClassMappingCache.CachedMapping cached) {
+
+        Map<ClassMappingCache.CachedField, FieldMapping> fieldsByCache = new HashMap<>();
+        Function<ClassMappingCache.CachedField, FieldMapping> toField = c -> fieldsByCache
+                .computeIfAbsent(c, k -> to(k.getField(), k.getType(), k.getName(), k.isId(),
+                        k.getConverter(), k.getEntityName()));
+
+        List<FieldMapping> fields = cached.getFields().stream().map(toField).collect(toList());
+
+        Map<String, NativeMapping> nativeFieldGroupByJavaField = new HashMap<>();
+        cached.getNativeFields().forEach((javaField, nativeField) -> nativeFieldGroupByJavaField
+                .put(javaField, NativeMapping.of(nativeField.getNativeField(), toField.apply(nativeField.getField()))));
+
+        return create(entityClass, cached.getName(), fields, nativeFieldGroupByJavaField);
+    }
+
+    private ClassMapping create(Class<?> entityClass, String entityName, List<FieldMapping> fields,
+                                Map<String, NativeMapping> nativeFieldGroupByJavaField) {
+
+        List<String> fieldsName = fields.stream().map(FieldMapping::getName).collect(toList());
+
         Map<String, FieldMapping> fieldsGroupedByName = fields.stream()
                 .collect(collectingAndThen(toMap(FieldMapping::getName,
                         Function.identity()), Collections::unmodifiableMap));
 
         InstanceSupplier instanceSupplier = instanceSupplierFactory.apply(reflections.makeAccessible(entityClass));
 
-        ClassMapping mapping = DefaultClassMapping.builder().withName(entityName)
+        return DefaultClassMapping.builder().withName(entityName)
                 .withClassInstance(entityClass)
                 .withFields(fields)
                 .withFieldsName(fieldsName)
@@ -87,10 +130,6 @@ class ClassConverter {
                 .withJavaFieldGroupedByColumn(nativeFieldGroupByJavaField)
                 .withFieldsGroupedByName(fieldsGroupedByName)
                 .build();
-
-        long end = System.currentTimeMillis() - start;
-        LOGGER.info(String.format("Scanned %s loaded with time %d ms", entityClass.getName(), end));
-        return mapping;
     }
 
     private Map<String, NativeMapping> getNativeFieldGroupByJavaField(List<FieldMapping> fields,
@@ -177,18 +216,24 @@ class ClassConverter {
 
     private FieldMapping to(Field field) {
         FieldType fieldType = FieldType.of(field);
-        reflections.makeAccessible(field);
         Convert convert = field.getAnnotation(Convert.class);
         boolean id = reflections.isIdField(field);
         String columnName = id ? reflections.getIdName(field) : reflections.getColumnName(field);
+        String entityName = FieldType.EMBEDDED.equals(fieldType) ? reflections.getEntityName(field.getType()) : null;
+        return to(field, fieldType, columnName, id, nonNull(convert) ? convert.value() : null, entityName);
+    }
+
+    private FieldMapping to(Field field, FieldType fieldType, String columnName, boolean id,
+                            Class<? extends AttributeConverter> converter, String entityName) {
+        reflections.makeAccessible(field);
 
         FieldMappingBuilder builder = FieldMapping.builder().withName(columnName)
                 .withField(field).withType(fieldType).withId(id)
                 .withReader(readerFactory.apply(field))
                 .withWriter(writerFactory.apply(field));
 
-        if (nonNull(convert)) {
-            builder.withConverter(convert.value());
+        if (nonNull(converter)) {
+            builder.withConverter(converter);
         }
         switch (fieldType) {
             case COLLECTION:
@@ -196,7 +241,7 @@ class ClassConverter {
                 builder.withTypeSupplier(field::getGenericType);
                 return builder.buildGeneric();
             case EMBEDDED:
-                return builder.withEntityName(reflections.getEntityName(field.getType())).buildEmedded();
+                return builder.withEntityName(entityName).buildEmedded();
             default:
                 return builder.buildDefault();
 
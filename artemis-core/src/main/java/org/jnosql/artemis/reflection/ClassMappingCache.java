@@ -0,0 +1,380 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.AttributeConverter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stores the metadata scanned from an entity at a directory, thus the next JVM start reads the mapping
+ * instead of scan the annotations of all fields again. Each entity has one file, and it is valid while the
+ * bytecode of the entity and the classes of its fields, such as embeddable, keep the same SHA-256 hash.
+ * To enable it set the system property artemis.reflection.cache with the cache directory.
+ */
+final class ClassMappingCache {
+
+    static final String CACHE_DIRECTORY = "artemis.reflection.cache";
+
+    private static final Logger LOGGER = Logger.getLogger(ClassMappingCache.class.getName());
+
+    private static final String VERSION = "1";
+
+    private static final String EXTENSION = ".mapping";
+
+    private final Path directory;
+
+    private ClassMappingCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Loads the cached metadata to the entity
+     *
+     * @param entityClass the entity class
+     * @return the {@link CachedMapping} when there is a valid cache otherwise {@link Optional#empty()}
+     */
+    Optional<CachedMapping> load(Class<?> entityClass) {
+        if (directory == null) {
+            return Optional.empty();
+        }
+        Path file = directory.resolve(entityClass.getName() + EXTENSION);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (InputStream stream = Files.newInputStream(file)) {
+            Properties properties = new Properties();
+            properties.load(stream);
+            if (!VERSION.equals(properties.getProperty("version")) || !isValid(entityClass, properties)) {
+                LOGGER.fine("The cache to the class " + entityClass.getName() + " is outdated");
+                return Optional.empty();
+            }
+            return Optional.of(read(entityClass, properties));
+        } catch (IOException | ReflectiveOperationException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "It could not load the cache to the class " + entityClass.getName(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the metadata from the {@link ClassMapping}
+     *
+     * @param entityClass             the entity class
+     * @param mapping                 the mapping scanned
+     * @param javaFieldGroupedByColumn the native fields grouped by Java field
+     */
+    void store(Class<?> entityClass, ClassMapping mapping, Map<String, NativeMapping> javaFieldGroupedByColumn) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            Properties properties = write(entityClass, mapping, javaFieldGroupedByColumn);
+            Files.createDirectories(directory);
+            Path file = directory.resolve(entityClass.getName() + EXTENSION);
+            Path temp = Files.createTempFile(directory, entityClass.getName(), ".tmp");
+            try (OutputStream stream = Files.newOutputStream(temp)) {
+                properties.store(stream, "Artemis mapping cache to " + entityClass.getName());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "It could not store the cache to the class " + entityClass.getName(), e);
+        }
+    }
+
+    private Properties write(Class<?> entityClass, ClassMapping mapping,
+                             Map<String, NativeMapping> javaFieldGroupedByColumn) {
+
+        Map<String, FieldMapping> fields = new LinkedHashMap<>();
+        mapping.getFields().forEach(f -> fields.putIfAbsent(getKey(f.getNativeField()), f));
+        javaFieldGroupedByColumn.values().stream().map(NativeMapping::getFieldMapping)
+                .forEach(f -> fields.putIfAbsent(getKey(f.getNativeField()), f));
+        List<String> keys = new ArrayList<>(fields.keySet());
+
+        Set<Class<?>> dependencies = new LinkedHashSet<>();
+        dependencies.add(entityClass);
+        Properties properties = new Properties();
+        properties.setProperty("version", VERSION);
+        properties.setProperty("name", mapping.getName());
+        properties.setProperty("field.size", Integer.toString(keys.size()));
+
+        for (int index = 0; index < keys.size(); index++) {
+            FieldMapping field = fields.get(keys.get(index));
+            String prefix = "field." + index + '.';
+            Field nativeField = field.getNativeField();
+            dependencies.add(nativeField.getDeclaringClass());
+            if (!FieldType.DEFAULT.equals(field.getType())) {
+                dependencies.add(nativeField.getType());
+            }
+            if (FieldType.COLLECTION.equals(field.getType()) && ((GenericFieldMapping) field).isEmbeddable()) {
+                dependencies.add(((GenericFieldMapping) field).getElementType());
+            }
+            properties.setProperty(prefix + "class", nativeField.getDeclaringClass().getName());
+            properties.setProperty(prefix + "name", nativeField.getName());
+            properties.setProperty(prefix + "column", field.getName());
+            properties.setProperty(prefix + "type", field.getType().name());
+            properties.setProperty(prefix + "id", Boolean.toString(field.isId()));
+            field.getConverter().ifPresent(c -> properties.setProperty(prefix + "converter", c.getName()));
+            if (field instanceof EmbeddedFieldMapping) {
+                properties.setProperty(prefix + "entity", ((EmbeddedFieldMapping) field).getEntityName());
+            }
+        }
+
+        List<String> topLevel = new ArrayList<>();
+        mapping.getFields().forEach(f -> topLevel.add(Integer.toString(keys.indexOf(getKey(f.getNativeField())))));
+        properties.setProperty("fields", String.join(",", topLevel));
+
+        int nativeIndex = 0;
+        for (Map.Entry<String, NativeMapping> entry : javaFieldGroupedByColumn.entrySet()) {
+            String prefix = "native." + nativeIndex++ + '.';
+            properties.setProperty(prefix + "java", entry.getKey());
+            properties.setProperty(prefix + "native", entry.getValue().getNativeField());
+            properties.setProperty(prefix + "field",
+                    Integer.toString(keys.indexOf(getKey(entry.getValue().getFieldMapping().getNativeField()))));
+        }
+        properties.setProperty("native.size", Integer.toString(nativeIndex));
+
+        List<String> names = new ArrayList<>();
+        for (Class<?> dependency : dependencies) {
+            String hash = hash(dependency).orElseThrow(() -> new IllegalStateException(
+                    "There is not bytecode to the class " + dependency.getName()));
+            names.add(dependency.getName());
+            properties.setProperty("hash." + dependency.getName(), hash);
+        }
+        properties.setProperty("dependencies", String.join(",", names));
+        return properties;
+    }
+
+    private CachedMapping read(Class<?> entityClass, Properties properties) throws ReflectiveOperationException {
+        ClassLoader loader = entityClass.getClassLoader();
+        int size = Integer.parseInt(properties.getProperty("field.size"));
+        List<CachedField> fields = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            String prefix = "field." + index + '.';
+            Class<?> declaringClass = Class.forName(properties.getProperty(prefix + "class"), false, loader);
+            Field field = declaringClass.getDeclaredField(properties.getProperty(prefix + "name"));
+            String converter = properties.getProperty(prefix + "converter");
+            fields.add(new CachedField(field, FieldType.valueOf(properties.getProperty(prefix + "type")),
+                    properties.getProperty(prefix + "column"),
+                    Boolean.parseBoolean(properties.getProperty(prefix + "id")),
+                    converter == null ? null : Class.forName(converter, false, loader)
+                            .asSubclass(AttributeConverter.class),
+                    properties.getProperty(prefix + "entity")));
+        }
+
+        List<CachedField> topLevel = new ArrayList<>();
+        for (String index : properties.getProperty("fields").split(",")) {
+            if (!index.isEmpty()) {
+                topLevel.add(fields.get(Integer.parseInt(index)));
+            }
+        }
+
+        Map<String, CachedNativeField> nativeFields = new HashMap<>();
+        int nativeSize = Integer.parseInt(properties.getProperty("native.size"));
+        for (int index = 0; index < nativeSize; index++) {
+            String prefix = "native." + index + '.';
+            CachedField field = fields.get(Integer.parseInt(properties.getProperty(prefix + "field")));
+            nativeFields.put(properties.getProperty(prefix + "java"),
+                    new CachedNativeField(properties.getProperty(prefix + "native"), field));
+        }
+        return new CachedMapping(properties.getProperty("name"), topLevel, nativeFields);
+    }
+
+    private boolean isValid(Class<?> entityClass, Properties properties) throws ClassNotFoundException {
+        ClassLoader loader = entityClass.getClassLoader();
+        for (String name : properties.getProperty("dependencies", "").split(",")) {
+            Class<?> dependency = Class.forName(name, false, loader);
+            Optional<String> hash = hash(dependency);
+            if (!hash.isPresent() || !hash.get().equals(properties.getProperty("hash." + name))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Optional<String> hash(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return Optional.of("bootstrap");
+        }
+        String resource = type.getName().replace('.', '/') + ".class";
+        try (InputStream stream = loader.getResourceAsStream(resource)) {
+            if (stream == null) {
+                return Optional.empty();
+            }
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            StringBuilder hash = new StringBuilder();
+            for (byte value : digest.digest()) {
+                hash.append(String.format("%02x", value));
+            }
+            return Optional.of(hash.toString());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOGGER.log(Level.FINE, "It could not read the bytecode of the class " + type.getName(), e);
+            return Optional.empty();
+        }
+    }
+
+    private static String getKey(Field field) {
+        return field.getDeclaringClass().getName() + '#' + field.getName();
+    }
+
+    /**
+     * Creates a {@link ClassMappingCache} from the system property artemis.reflection.cache,
+     * when the property is not defined the cache is disabled.
+     *
+     * @return a {@link ClassMappingCache} instance
+     */
+    static ClassMappingCache get() {
+        String directory = System.getProperty(CACHE_DIRECTORY);
+        if (directory == null || directory.trim().isEmpty()) {
+            return new ClassMappingCache(null);
+        }
+        return new ClassMappingCache(Paths.get(directory));
+    }
+
+    static ClassMappingCache of(Path directory) {
+        return new ClassMappingCache(directory);
+    }
+
+    /**
+     * The metadata of an entity read from the cache
+     */
+    static final class CachedMapping {
+
+        private final String name;
+
+        private final List<CachedField> fields;
+
+        private final Map<String, CachedNativeField> nativeFields;
+
+        private CachedMapping(String name, List<CachedField> fields, Map<String, CachedNativeField> nativeFields) {
+            this.name = name;
+            this.fields = Collections.unmodifiableList(fields);
+            this.nativeFields = Collections.unmodifiableMap(nativeFields);
+        }
+
+        String getName() {
+            return name;
+        }
+
+        List<CachedField> getFields() {
+            return fields;
+        }
+
+        Map<String, CachedNativeField> getNativeFields() {
+            return nativeFields;
+        }
+    }
+
+    /**
+     * The metadata of a field read from the cache
+     */
+    static final class CachedField {
+
+        private final Field field;
+
+        private final FieldType type;
+
+        private final String name;
+
+        private final boolean id;
+
+        private final Class<? extends AttributeConverter> converter;
+
+        private final String entityName;
+
+        private CachedField(Field field, FieldType type, String name, boolean id,
+                            Class<? extends AttributeConverter> converter, String entityName) {
+            this.field = field;
+            this.type = type;
+            this.name = name;
+            this.id = id;
+            this.converter = converter;
+            this.entityName = entityName;
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        FieldType getType() {
+            return type;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        boolean isId() {
+            return id;
+        }
+
+        Class<? extends AttributeConverter> getConverter() {
+            return converter;
+        }
+
+        String getEntityName() {
+            return entityName;
+        }
+    }
+
+    /**
+     * The native field name and the field that it represents
+     */
+    static final class CachedNativeField {
+
+        private final String nativeField;
+
+        private final CachedField field;
+
+        private CachedNativeField(String nativeField, CachedField field) {
+            this.nativeField = nativeField;
+            this.field = field;
+        }
+
+        String getNativeField() {
+            return nativeField;
+        }
+
+        CachedField getField() {
+            return field;
+        }
+    }
+}
@@ -15,16 +15,26 @@
 package org.jnosql.artemis.reflection;
 
 
+import org.jnosql.artemis.ArtemisException;
 import org.jnosql.artemis.Embeddable;
 import org.jnosql.artemis.Entity;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AfterTypeDiscovery;
 import javax.enterprise.inject.spi.AnnotatedType;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
 
 import static org.jnosql.artemis.reflection.ClassOperationFactory.INSTANCE;
 
@@ -32,10 +42,21 @@ import static org.jnosql.artemis.reflection.ClassOperationFactory.INSTANCE;
  * This class is a CDI extension to load all class that has {@link Entity} annotation.
  * This extension will load all Classes and put in a map.
  * Where the key is {@link Class#getName()} and the value is {@link ClassMapping}
+ * The classes are collected on the discovery and then scanned in parallel before the bean discovery ends,
+ * to define the parallelism level set the system property artemis.reflection.parallelism,
+ * the default value is the number of available processors.
  */
 @ApplicationScoped
 public class ClassMappingExtension implements Extension {
 
+    private static final Logger LOGGER = Logger.getLogger(ClassMappingExtension.class.getName());
+
+    private static final String PARALLELISM = "artemis.reflection.parallelism";
+
+    private final Set<Class<?>> entities = ConcurrentHashMap.newKeySet();
+
+    private final Set<Class<?>> subElements = ConcurrentHashMap.newKeySet();
+
     private final Map<String, ClassMapping> mappings = new ConcurrentHashMap<>();
 
     private final Map<Class<?>, ClassMapping> classes = new ConcurrentHashMap<>();
@@ -56,16 +77,75 @@ public class ClassMappingExtension implements Extension {
 
         AnnotatedType<T> annotatedType = target.getAnnotatedType();
         if (annotatedType.isAnnotationPresent(Entity.class)) {
-            Class<T> javaClass = target.getAnnotatedType().getJavaClass();
+            entities.add(annotatedType.getJavaClass());
+        } else if (isSubElement(annotatedType)) {
+            subElements.add(annotatedType.getJavaClass());
+        }
+
+    }
+
+    /**
+     * Event observer that scans, in parallel, all the classes found in the discovery
+     *
+     * @param event the event
+     */
+    public void loadMappings(@Observes final AfterTypeDiscovery event) {
+
+        long start = System.currentTimeMillis();
+        int parallelism = getParallelism();
+        List<Callable<ClassMapping>> tasks = new ArrayList<>();
+        entities.stream().map(this::createEntity).forEach(tasks::add);
+        subElements.stream().map(this::createSubElement).forEach(tasks::add);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<ClassMapping> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArtemisException("The entities scanning was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ArtemisException("There is an error when the entities were scanned", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        long end = System.currentTimeMillis() - start;
+        LOGGER.info(String.format("Scanned %d entities and %d embeddable classes in %d ms with parallelism %d",
+                entities.size(), subElements.size(), end, parallelism));
+    }
+
+    private Callable<ClassMapping> createEntity(Class<?> javaClass) {
+        return () -> {
             ClassMapping classMapping = classConverter.create(javaClass);
             mappings.put(classMapping.getName(), classMapping);
             classes.put(javaClass, classMapping);
-        } else if (isSubElement(annotatedType)) {
-            Class<T> javaClass = target.getAnnotatedType().getJavaClass();
+            return classMapping;
+        };
+    }
+
+    private Callable<ClassMapping> createSubElement(Class<?> javaClass) {
+        return () -> {
             ClassMapping classMapping = classConverter.create(javaClass);
             classes.put(javaClass, classMapping);
-        }
+            return classMapping;
+        };
+    }
 
+    private int getParallelism() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        try {
+            int parallelism = Integer.parseInt(System.getProperty(PARALLELISM, Integer.toString(processors)));
+            return parallelism > 0 ? parallelism : processors;
+        } catch (NumberFormatException e) {
+            LOGGER.warning(String.format("The %s property is not a valid number, using %d",
+                    PARALLELISM, processors));
+            return processors;
+        }
     }
 
     private <T> boolean isSubElement(AnnotatedType<T> annotatedType) {
@@ -26,6 +26,8 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
 
     private static final String DISABLE_COMPILER = "artemis.reclection.disableCompiler";
 
+    private static final String DISABLE_METHOD_HANDLE = "artemis.reflection.disableMethodHandle";
+
     private static final String LOG_MESSAGE = "It will use the compiler optimizations to access the class instead" +
             " of reflections. To disable it set artemis.reclection.disableCompiler as true.";
 
@@ -35,10 +37,9 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
 
     private final ClassOperation reflection = new ReflectionClassOperation(reflections);
 
-    private final JavaCompilerFacade compilerFacade = new JavaCompilerFacade(ClassOperationFactory
-            .class.getClassLoader());
+    private final ClassOperation methodHandle = new MethodHandleClassOperation(reflection, reflections);
 
-    private final ClassOperation compiler = new JavaCompilerClassOperation(reflection, reflections, compilerFacade);
+    private ClassOperation compiler;
 
 
     public Reflections getReflections() {
@@ -63,11 +64,27 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
             boolean isDisableCompiler = Boolean.valueOf(System.getProperty(DISABLE_COMPILER));
             if (isDisableCompiler) {
                 LOGGER.fine(LOG_MESSAGE);
-                return compiler;
+                return getCompiler();
+            }
+            boolean isDisableMethodHandle = Boolean.valueOf(System.getProperty(DISABLE_METHOD_HANDLE));
+            if (isDisableMethodHandle) {
+                return reflection;
             }
-            return reflection;
+            return methodHandle;
         }
 
 
     }
+
+    /**
+     * The compiler is created on demand, so an environment without the system Java compiler,
+     * e.g. a JRE using the classes generated at build time, does not fail to start.
+     */
+    private synchronized ClassOperation getCompiler() {
+        if (compiler == null) {
+            JavaCompilerFacade compilerFacade = new JavaCompilerFacade(ClassOperationFactory.class.getClassLoader());
+            compiler = new JavaCompilerClassOperation(reflection, reflections, compilerFacade);
+        }
+        return compiler;
+    }
 }
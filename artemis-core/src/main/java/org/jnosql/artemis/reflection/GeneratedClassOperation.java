@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+/**
+ * An implementation of {@link ClassOperation} that uses the classes generated at build time by the
+ * artemis-processor annotation processor, so there is neither compilation nor reflection at runtime.
+ * The processor registers this class at META-INF/services, thus {@link java.util.ServiceLoader} finds it.
+ * When an entity, or one of its fields, does not have a generated class it will use reflection as fallback.
+ */
+public final class GeneratedClassOperation implements ClassOperation {
+
+    private final InstanceSupplierFactory instanceSupplierFactory;
+
+    private final FieldWriterFactory fieldWriterFactory;
+
+    private final FieldReaderFactory fieldReaderFactory;
+
+    public GeneratedClassOperation() {
+        Reflections reflections = new DefaultReflections();
+        ClassOperation fallback = new ReflectionClassOperation(reflections);
+        this.instanceSupplierFactory = new GeneratedInstanceSupplierFactory(reflections,
+                fallback.getInstanceSupplierFactory());
+        this.fieldWriterFactory = new GeneratedFieldWriterFactory(reflections, fallback.getFieldWriterFactory());
+        this.fieldReaderFactory = new GeneratedFieldReaderFactory(reflections, fallback.getFieldReaderFactory());
+    }
+
+    @Override
+    public InstanceSupplierFactory getInstanceSupplierFactory() {
+        return instanceSupplierFactory;
+    }
+
+    @Override
+    public FieldWriterFactory getFieldWriterFactory() {
+        return fieldWriterFactory;
+    }
+
+    @Override
+    public FieldReaderFactory getFieldReaderFactory() {
+        return fieldReaderFactory;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * Locates the classes generated at build time by the artemis-processor module.
+ * The naming convention must be the same one the annotation processor uses: every class lives in the same
+ * package as the entity and its name is the entity name, within nested classes separated by underscore,
+ * followed by the operation suffix.
+ * <ul>
+ * <li>{@link InstanceSupplier}: Person$$InstanceSupplier</li>
+ * <li>{@link FieldReader}: Person$$FieldReader$name</li>
+ * <li>{@link FieldWriter}: Person$$FieldWriter$name</li>
+ * </ul>
+ */
+enum GeneratedClasses {
+
+    INSTANCE;
+
+    private static final Logger LOGGER = Logger.getLogger(GeneratedClasses.class.getName());
+
+    private static final String INSTANCE_SUPPLIER = "$$InstanceSupplier";
+
+    private static final String FIELD_READER = "$$FieldReader$";
+
+    private static final String FIELD_WRITER = "$$FieldWriter$";
+
+    String getInstanceSupplierName(Class<?> entityClass) {
+        return getPrefix(entityClass) + INSTANCE_SUPPLIER;
+    }
+
+    String getFieldReaderName(Field field) {
+        return getPrefix(field.getDeclaringClass()) + FIELD_READER + field.getName();
+    }
+
+    String getFieldWriterName(Field field) {
+        return getPrefix(field.getDeclaringClass()) + FIELD_WRITER + field.getName();
+    }
+
+    /**
+     * Loads the generated class from the entity class loader
+     *
+     * @param name        the generated class name
+     * @param entityClass the entity class
+     * @param type        the operation type
+     * @param <T>         the operation type
+     * @return the generated class otherwise {@link Optional#empty()}
+     */
+    <T> Optional<Class<T>> load(String name, Class<?> entityClass, Class<T> type) {
+        try {
+            Class<?> generated = Class.forName(name, true, entityClass.getClassLoader());
+            if (type.isAssignableFrom(generated)) {
+                return Optional.of((Class<T>) generated);
+            }
+            LOGGER.fine(String.format("The class %s does not implement %s, using the fallback",
+                    name, type.getName()));
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOGGER.fine(String.format("There is not a generated class %s, using the fallback", name));
+        }
+        return Optional.empty();
+    }
+
+    private String getPrefix(Class<?> entityClass) {
+        String name = entityClass.getName();
+        int packageIndex = name.lastIndexOf('.');
+        if (packageIndex < 0) {
+            return name.replace('$', '_');
+        }
+        return name.substring(0, packageIndex + 1) + name.substring(packageIndex + 1).replace('$', '_');
+    }
+}
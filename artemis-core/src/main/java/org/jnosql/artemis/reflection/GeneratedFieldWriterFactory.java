@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.reflect.Field;
+
+/**
+ * An {@link FieldWriterFactory} implementation that uses the class generated at build time,
+ * when there is no generated class it will use the fallback.
+ */
+final class GeneratedFieldWriterFactory implements FieldWriterFactory {
+
+    private final Reflections reflections;
+
+    private final FieldWriterFactory fallback;
+
+    GeneratedFieldWriterFactory(Reflections reflections, FieldWriterFactory fallback) {
+        this.reflections = reflections;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldWriter apply(Field field) {
+        String name = GeneratedClasses.INSTANCE.getFieldWriterName(field);
+        return GeneratedClasses.INSTANCE.load(name, field.getDeclaringClass(), FieldWriter.class)
+                .map(c -> reflections.newInstance(c))
+                .orElseGet(() -> fallback.apply(field));
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * An {@link InstanceSupplierFactory} implementation that uses the class generated at build time,
+ * when there is no generated class it will use the fallback.
+ */
+final class GeneratedInstanceSupplierFactory implements InstanceSupplierFactory {
+
+    private final Reflections reflections;
+
+    private final InstanceSupplierFactory fallback;
+
+    GeneratedInstanceSupplierFactory(Reflections reflections, InstanceSupplierFactory fallback) {
+        this.reflections = reflections;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public InstanceSupplier apply(Constructor<?> constructor) {
+        Class<?> declaringClass = constructor.getDeclaringClass();
+        String name = GeneratedClasses.INSTANCE.getInstanceSupplierName(declaringClass);
+        return GeneratedClasses.INSTANCE.load(name, declaringClass, InstanceSupplier.class)
+                .map(c -> reflections.newInstance(c))
+                .orElseGet(() -> fallback.apply(constructor));
+    }
+}
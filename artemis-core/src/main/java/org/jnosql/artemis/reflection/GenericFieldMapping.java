@@ -23,6 +23,7 @@ import org.jnosql.diana.api.Value;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
@@ -35,15 +36,26 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 
 public class GenericFieldMapping extends AbstractFieldMapping {
 
     private final TypeSupplier<?> typeSupplier;
 
+    private final Class elementType;
+
+    private final boolean embeddable;
+
+    private final Supplier<Collection> collectionSupplier;
+
     GenericFieldMapping(FieldType type, Field field, String name, TypeSupplier<?> typeSupplier,
                         Class<? extends AttributeConverter> converter, FieldReader reader, FieldWriter writer) {
         super(type, field, name, converter, reader, writer);
         this.typeSupplier = typeSupplier;
+        this.elementType = getElementType(field);
+        this.embeddable = elementType != null
+                && (elementType.getAnnotation(Embeddable.class) != null || elementType.getAnnotation(Entity.class) != null);
+        this.collectionSupplier = getCollectionSupplier(field.getType());
     }
 
     @Override
@@ -77,42 +89,44 @@ public class GenericFieldMapping extends AbstractFieldMapping {
     }
 
     public boolean isEmbeddable() {
-        return isEmbeddableField() || isEntityField();
+        return embeddable;
     }
 
-    private boolean isEntityField() {
-        return hasFieldAnnotation(Entity.class);
-    }
-
-    private boolean isEmbeddableField() {
-        return hasFieldAnnotation(Embeddable.class);
+    public Class getElementType() {
+        if (elementType == null) {
+            throw new ClassCastException("The field " + field + " does not have a parameterized type");
+        }
+        return elementType;
     }
 
-    private boolean hasFieldAnnotation(Class<?> annotation) {
-        return Class.class.cast(ParameterizedType.class.cast(getNativeField()
-                .getGenericType())
-                .getActualTypeArguments()[0])
-                .getAnnotation(annotation) != null;
+    public Collection getCollectionInstance() {
+        return collectionSupplier.get();
     }
 
-    public Class getElementType() {
-        return Class.class.cast(ParameterizedType.class.cast(getNativeField()
-                .getGenericType())
-                .getActualTypeArguments()[0]);
+    private static Class getElementType(Field field) {
+        Type genericType = field.getGenericType();
+        if (genericType instanceof ParameterizedType) {
+            Type argument = ParameterizedType.class.cast(genericType).getActualTypeArguments()[0];
+            if (argument instanceof Class) {
+                return Class.class.cast(argument);
+            }
+        }
+        return null;
     }
 
-    public Collection getCollectionInstance() {
-        Class<?> type = getNativeField().getType();
+    private static Supplier<Collection> getCollectionSupplier(Class<?> type) {
         if (Deque.class.equals(type) || Queue.class.equals(type)) {
-            return new LinkedList<>();
+            return LinkedList::new;
         } else if (List.class.equals(type) || Iterable.class.equals(type)) {
-            return new ArrayList<>();
+            return ArrayList::new;
         } else if (NavigableSet.class.equals(type) || SortedSet.class.equals(type)) {
-            return new TreeSet<>();
+            return TreeSet::new;
         } else if (Set.class.equals(type)) {
-            return new HashSet<>();
+            return HashSet::new;
         }
-        throw new UnsupportedOperationException("This collection is not supported yet: " + type);
+        return () -> {
+            throw new UnsupportedOperationException("This collection is not supported yet: " + type);
+        };
     }
 
     @Override
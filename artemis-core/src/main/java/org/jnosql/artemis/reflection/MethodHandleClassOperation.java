@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+/**
+ * An implementation of {@link ClassOperation} that uses {@link java.lang.invoke.LambdaMetafactory} to the
+ * public accessors and {@link java.lang.invoke.MethodHandle} to the other fields, thus there is neither
+ * reflection nor compilation to read and write the fields.
+ */
+final class MethodHandleClassOperation implements ClassOperation {
+
+    private final InstanceSupplierFactory instanceSupplierFactory;
+
+    private final FieldWriterFactory fieldWriterFactory;
+
+    private final FieldReaderFactory fieldReaderFactory;
+
+    MethodHandleClassOperation(ClassOperation fallback, Reflections reflections) {
+        this.instanceSupplierFactory = new MethodHandleInstanceSupplierFactory(fallback.getInstanceSupplierFactory());
+        this.fieldWriterFactory = new MethodHandleFieldWriterFactory(reflections, fallback.getFieldWriterFactory());
+        this.fieldReaderFactory = new MethodHandleFieldReaderFactory(reflections, fallback.getFieldReaderFactory());
+    }
+
+    @Override
+    public InstanceSupplierFactory getInstanceSupplierFactory() {
+        return instanceSupplierFactory;
+    }
+
+    @Override
+    public FieldWriterFactory getFieldWriterFactory() {
+        return fieldWriterFactory;
+    }
+
+    @Override
+    public FieldReaderFactory getFieldReaderFactory() {
+        return fieldReaderFactory;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.jnosql.artemis.reflection.MethodHandleUtils.getReadMethod;
+import static org.jnosql.artemis.reflection.MethodHandleUtils.wrap;
+
+/**
+ * An {@link FieldReaderFactory} implementation that binds the public getter to a {@link FieldReader} using
+ * {@link LambdaMetafactory}, thus the read is a direct call. When there is not a public getter it uses a
+ * {@link MethodHandle} to the field, and reflection as the last fallback.
+ */
+final class MethodHandleFieldReaderFactory implements FieldReaderFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleFieldReaderFactory.class.getName());
+
+    private static final MethodType READER_TYPE = methodType(Object.class, Object.class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    private final Reflections reflections;
+
+    private final FieldReaderFactory fallback;
+
+    MethodHandleFieldReaderFactory(Reflections reflections, FieldReaderFactory fallback) {
+        this.reflections = reflections;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldReader apply(Field field) {
+        return getReadMethod(field).map(this::toLambda)
+                .orElseGet(() -> toMethodHandle(field));
+    }
+
+    private FieldReader toLambda(Method getter) {
+        try {
+            MethodHandle handle = lookup.unreflect(getter);
+            MethodType instantiatedType = methodType(wrap(getter.getReturnType()), getter.getDeclaringClass());
+            CallSite site = LambdaMetafactory.metafactory(lookup, "read", methodType(FieldReader.class),
+                    READER_TYPE, handle, instantiatedType);
+            return (FieldReader) site.getTarget().invoke();
+        } catch (Throwable e) {
+            LOGGER.log(Level.FINE, "It could not create a lambda to the method " + getter
+                    + " using the method handle to the field", e);
+            return null;
+        }
+    }
+
+    private FieldReader toMethodHandle(Field field) {
+        try {
+            reflections.makeAccessible(field);
+            MethodHandle handle = lookup.unreflectGetter(field).asType(READER_TYPE);
+            return new MethodHandleFieldReader(handle);
+        } catch (IllegalAccessException e) {
+            LOGGER.log(Level.FINE, "It could not create a method handle to the field " + field
+                    + " using the fallback with reflection", e);
+            return fallback.apply(field);
+        }
+    }
+
+    private static final class MethodHandleFieldReader implements FieldReader {
+
+        private final MethodHandle handle;
+
+        MethodHandleFieldReader(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public Object read(Object bean) {
+            try {
+                return (Object) handle.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("There is an error to read the field using method handle", e);
+            }
+        }
+    }
+}
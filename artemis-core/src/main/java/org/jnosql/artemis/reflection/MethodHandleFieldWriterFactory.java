@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.jnosql.artemis.reflection.MethodHandleUtils.getWriteMethod;
+import static org.jnosql.artemis.reflection.MethodHandleUtils.wrap;
+
+/**
+ * An {@link FieldWriterFactory} implementation that binds the public setter to a {@link FieldWriter} using
+ * {@link LambdaMetafactory}, thus the write is a direct call. When there is not a public setter it uses a
+ * {@link MethodHandle} to the field, and reflection as the last fallback.
+ */
+final class MethodHandleFieldWriterFactory implements FieldWriterFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleFieldWriterFactory.class.getName());
+
+    private static final MethodType WRITER_TYPE = methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    private final Reflections reflections;
+
+    private final FieldWriterFactory fallback;
+
+    MethodHandleFieldWriterFactory(Reflections reflections, FieldWriterFactory fallback) {
+        this.reflections = reflections;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldWriter apply(Field field) {
+        return getWriteMethod(field).map(this::toLambda)
+                .orElseGet(() -> toMethodHandle(field));
+    }
+
+    private FieldWriter toLambda(Method setter) {
+        try {
+            MethodHandle handle = lookup.unreflect(setter);
+            MethodType instantiatedType = methodType(void.class, setter.getDeclaringClass(),
+                    wrap(setter.getParameterTypes()[0]));
+            CallSite site = LambdaMetafactory.metafactory(lookup, "write", methodType(FieldWriter.class),
+                    WRITER_TYPE, handle, instantiatedType);
+            return (FieldWriter) site.getTarget().invoke();
+        } catch (Throwable e) {
+            LOGGER.log(Level.FINE, "It could not create a lambda to the method " + setter
+                    + " using the method handle to the field", e);
+            return null;
+        }
+    }
+
+    private FieldWriter toMethodHandle(Field field) {
+        try {
+            reflections.makeAccessible(field);
+            MethodHandle handle = lookup.unreflectSetter(field).asType(WRITER_TYPE);
+            return new MethodHandleFieldWriter(handle);
+        } catch (IllegalAccessException e) {
+            LOGGER.log(Level.FINE, "It could not create a method handle to the field " + field
+                    + " using the fallback with reflection", e);
+            return fallback.apply(field);
+        }
+    }
+
+    private static final class MethodHandleFieldWriter implements FieldWriter {
+
+        private final MethodHandle handle;
+
+        MethodHandleFieldWriter(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public void write(Object bean, Object value) {
+            try {
+                handle.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("There is an error to write the field using method handle", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.jnosql.artemis.reflection.MethodHandleUtils.isLambdaAccessible;
+
+/**
+ * An {@link InstanceSupplierFactory} implementation that binds the public constructor to an
+ * {@link InstanceSupplier} using {@link LambdaMetafactory}. When the constructor is not public it uses a
+ * {@link MethodHandle} to the constructor, and reflection as the last fallback.
+ */
+final class MethodHandleInstanceSupplierFactory implements InstanceSupplierFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleInstanceSupplierFactory.class.getName());
+
+    private static final MethodType SUPPLIER_TYPE = methodType(Object.class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    private final InstanceSupplierFactory fallback;
+
+    MethodHandleInstanceSupplierFactory(InstanceSupplierFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public InstanceSupplier apply(Constructor<?> constructor) {
+        Class<?> declaringClass = constructor.getDeclaringClass();
+        try {
+            if (Modifier.isPublic(constructor.getModifiers()) && isLambdaAccessible(declaringClass)) {
+                MethodHandle handle = lookup.unreflectConstructor(constructor);
+                CallSite site = LambdaMetafactory.metafactory(lookup, "get", methodType(InstanceSupplier.class),
+                        SUPPLIER_TYPE, handle, methodType(declaringClass));
+                return (InstanceSupplier) site.getTarget().invoke();
+            }
+            constructor.setAccessible(true);
+            MethodHandle handle = lookup.unreflectConstructor(constructor).asType(SUPPLIER_TYPE);
+            return new MethodHandleInstanceSupplier(handle);
+        } catch (Throwable e) {
+            LOGGER.log(Level.FINE, "It could not create a method handle to the constructor of the class "
+                    + declaringClass.getName() + " using the fallback with reflection", e);
+            return fallback.apply(constructor);
+        }
+    }
+
+    private static final class MethodHandleInstanceSupplier implements InstanceSupplier {
+
+        private final MethodHandle handle;
+
+        MethodHandleInstanceSupplier(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public Object get() {
+            try {
+                return (Object) handle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("There is an error to create a new instance using method handle", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Utilitarian class to the {@link java.lang.invoke.MethodHandle} operations
+ */
+final class MethodHandleUtils {
+
+    private MethodHandleUtils() {
+    }
+
+    /**
+     * Finds the public getter to the field that follows the Java Bean convention.
+     *
+     * @param field the field
+     * @return the getter when a lambda might call it otherwise {@link Optional#empty()}
+     */
+    static Optional<Method> getReadMethod(Field field) {
+        String name = capitalize(field.getName());
+        Optional<Method> getter = getMethod(field.getDeclaringClass(), "get" + name);
+        if (!getter.isPresent() && boolean.class.equals(field.getType())) {
+            getter = getMethod(field.getDeclaringClass(), "is" + name);
+        }
+        return getter.filter(m -> m.getReturnType().equals(field.getType()));
+    }
+
+    /**
+     * Finds the public setter to the field that follows the Java Bean convention.
+     *
+     * @param field the field
+     * @return the setter when a lambda might call it otherwise {@link Optional#empty()}
+     */
+    static Optional<Method> getWriteMethod(Field field) {
+        return getMethod(field.getDeclaringClass(), "set" + capitalize(field.getName()), field.getType());
+    }
+
+    /**
+     * Checks if the class and all its enclosing classes are public
+     *
+     * @param type the class
+     * @return if the class is visible from any package
+     */
+    static boolean isPublic(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the class is public and visible from the Artemis class loader, that is a requirement to the
+     * class that {@link java.lang.invoke.LambdaMetafactory} spins.
+     *
+     * @param type the class
+     * @return if a lambda might call the class
+     */
+    static boolean isLambdaAccessible(Class<?> type) {
+        if (!isPublic(type)) {
+            return false;
+        }
+        try {
+            return Class.forName(type.getName(), false, MethodHandleUtils.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the wrapper type when the class is primitive
+     *
+     * @param type the type
+     * @return the wrapper type otherwise the same type
+     */
+    static Class<?> wrap(Class<?> type) {
+        return methodType(type).wrap().returnType();
+    }
+
+    private static Optional<Method> getMethod(Class<?> type, String name, Class<?>... parameters) {
+        if (!isLambdaAccessible(type)) {
+            return Optional.empty();
+        }
+        try {
+            Method method = type.getMethod(name, parameters);
+            if (isLambdaAccessible(method.getDeclaringClass()) && !Modifier.isStatic(method.getModifiers())) {
+                return Optional.of(method);
+            }
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
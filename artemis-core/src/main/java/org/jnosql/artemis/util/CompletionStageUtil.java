@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * Utilitarian class to the async repository methods that return either a {@link CompletionStage}
+ * or a {@link CompletableFuture} instead of receiving a callback.
+ */
+public final class CompletionStageUtil {
+
+    private CompletionStageUtil() {
+    }
+
+    /**
+     * Runs an operation that receives a callback and returns a stage completed by that callback. The stage
+     * completes exceptionally when the operation throws an exception instead of calling the callback.
+     *
+     * @param operation the operation that calls the callback with the result
+     * @param <T>       the result type
+     * @return the stage completed with the result of the operation
+     * @throws NullPointerException when operation is null
+     */
+    public static <T> CompletableFuture<T> toStage(Consumer<Consumer<T>> operation) {
+        Objects.requireNonNull(operation, "operation is required");
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            operation.accept(future::complete);
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    /**
+     * Checks if the method returns either a {@link CompletionStage} or a {@link CompletableFuture}
+     *
+     * @param method the method
+     * @return true when the method returns a {@link CompletionStage}
+     * @throws NullPointerException when method is null
+     */
+    public static boolean isCompletionStage(Method method) {
+        Objects.requireNonNull(method, "method is required");
+        Class<?> returnType = method.getReturnType();
+        return CompletionStage.class.equals(returnType) || CompletableFuture.class.equals(returnType);
+    }
+
+    /**
+     * Checks if the stage returned by the method is completed with an {@link Optional},
+     * such as <b>CompletionStage&lt;Optional&lt;T&gt;&gt;</b>
+     *
+     * @param method the method
+     * @return true when the stage returns an {@link Optional}
+     * @throws NullPointerException when method is null
+     */
+    public static boolean isOptional(Method method) {
+        Objects.requireNonNull(method, "method is required");
+        Type type = method.getGenericReturnType();
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (argument instanceof ParameterizedType) {
+                argument = ((ParameterizedType) argument).getRawType();
+            }
+            return Optional.class.equals(argument);
+        }
+        return false;
+    }
+
+    /**
+     * Adapts the stage to the return type of the method
+     *
+     * @param method the method
+     * @param stage  the stage
+     * @return the stage as the return type of the method
+     * @throws NullPointerException when there is null parameter
+     */
+    public static Object toReturnType(Method method, CompletionStage<?> stage) {
+        Objects.requireNonNull(method, "method is required");
+        Objects.requireNonNull(stage, "stage is required");
+        if (CompletableFuture.class.equals(method.getReturnType())) {
+            return stage.toCompletableFuture();
+        }
+        return stage;
+    }
+}
@@ -29,6 +29,12 @@ import java.util.function.Predicate;
 
 public class ConverterUtil {
 
+    private static final ClassValue<Type> DATABASE_TYPES = new ClassValue<Type>() {
+        @Override
+        protected Type computeValue(Class<?> converterClass) {
+            return getGenericInterface(converterClass).getActualTypeArguments()[1];
+        }
+    };
 
     private ConverterUtil() {
 
@@ -85,15 +91,20 @@ public class ConverterUtil {
     }
 
     private static Predicate<AttributeConverter> isNative(Object value) {
-        return a -> getGenericInterface(a).getActualTypeArguments()[1].equals(value.getClass());
+        return a -> getDatabaseType(a.getClass()).equals(value.getClass());
     }
 
+    private static Type getDatabaseType(Class<?> converterClass) {
+        return DATABASE_TYPES.get(converterClass);
+    }
 
-    private static ParameterizedType getGenericInterface(AttributeConverter a) {
-        for (Type genericInterface : a.getClass().getGenericInterfaces()) {
-            if (ParameterizedType.class.isAssignableFrom(genericInterface.getClass()) &&
-                    ParameterizedType.class.cast(genericInterface).getRawType().equals(AttributeConverter.class)) {
-                return (ParameterizedType) genericInterface;
+    private static ParameterizedType getGenericInterface(Class<?> converterClass) {
+        for (Class<?> type = converterClass; type != null; type = type.getSuperclass()) {
+            for (Type genericInterface : type.getGenericInterfaces()) {
+                if (ParameterizedType.class.isAssignableFrom(genericInterface.getClass()) &&
+                        ParameterizedType.class.cast(genericInterface).getRawType().equals(AttributeConverter.class)) {
+                    return (ParameterizedType) genericInterface;
+                }
             }
         }
         throw new IllegalArgumentException("It does not found AttributeConverter implementation to this converter");
@@ -0,0 +1,248 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Publisher} to the result of an async query. The query is executed when the subscriber requests the
+ * first element, and each entity is converted just when the subscriber requests it, so a large result is
+ * not converted in one go. Each subscription executes the query again. A query that throws an exception, or
+ * whose callback is not called within the timeout, signals the error to the subscriber.
+ *
+ * @param <E> the database entity type, such as ColumnEntity or DocumentEntity
+ * @param <T> the entity type
+ */
+public final class EntityPublisher<E, T> implements Publisher<T> {
+
+    /**
+     * The system property that defines the default timeout, in milliseconds, to wait for the query result.
+     * The default value is one minute, and a value that is not greater than zero disables the timeout.
+     */
+    public static final String TIMEOUT_PROPERTY = "artemis.publisher.timeout";
+
+    private static final long DEFAULT_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
+    private final Consumer<Consumer<List<E>>> query;
+
+    private final Function<E, T> converter;
+
+    private final Duration timeout;
+
+    private EntityPublisher(Consumer<Consumer<List<E>>> query, Function<E, T> converter, Duration timeout) {
+        this.query = query;
+        this.converter = converter;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "subscriber is required");
+        subscriber.onSubscribe(new EntitySubscription(subscriber));
+    }
+
+    /**
+     * Creates a {@link Publisher} instance that waits the query result for the timeout defined by the system
+     * property {@link EntityPublisher#TIMEOUT_PROPERTY}
+     *
+     * @param query     the async query, it receives the callback to the query result
+     * @param converter the converter to each entity
+     * @param <E>       the database entity type
+     * @param <T>       the entity type
+     * @return a {@link Publisher} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <E, T> Publisher<T> of(Consumer<Consumer<List<E>>> query, Function<E, T> converter) {
+        return of(query, converter, Duration.ofMillis(Long.getLong(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT)));
+    }
+
+    /**
+     * Creates a {@link Publisher} instance
+     *
+     * @param query     the async query, it receives the callback to the query result
+     * @param converter the converter to each entity
+     * @param timeout   the time to wait the query result, when it is either zero or negative it waits forever
+     * @param <E>       the database entity type
+     * @param <T>       the entity type
+     * @return a {@link Publisher} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <E, T> Publisher<T> of(Consumer<Consumer<List<E>>> query, Function<E, T> converter,
+                                         Duration timeout) {
+        requireNonNull(query, "query is required");
+        requireNonNull(converter, "converter is required");
+        requireNonNull(timeout, "timeout is required");
+        return new EntityPublisher<>(query, converter, timeout);
+    }
+
+    private final class EntitySubscription implements Subscription {
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private final AtomicBoolean executed = new AtomicBoolean();
+
+        private volatile Subscriber<? super T> subscriber;
+
+        private volatile List<E> entities;
+
+        private volatile Throwable error;
+
+        private volatile boolean done;
+
+        private volatile Future<?> timeoutTask;
+
+        private int index;
+
+        private EntitySubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("The number of elements requested must be positive: " + n);
+                drain();
+                return;
+            }
+            requested.accumulateAndGet(n, (current, value) -> current + value < 0 ? Long.MAX_VALUE : current + value);
+            if (executed.compareAndSet(false, true)) {
+                execute();
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            clear();
+        }
+
+        private void execute() {
+            try {
+                query.accept(this::onResult);
+            } catch (RuntimeException exception) {
+                error = exception;
+                return;
+            }
+            if (entities == null && !done && !timeout.isZero() && !timeout.isNegative()) {
+                timeoutTask = Timeout.EXECUTOR.schedule(this::onTimeout, timeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void onResult(List<E> result) {
+            if (done) {
+                return;
+            }
+            cancelTimeout();
+            entities = requireNonNull(result, "result is required");
+            drain();
+        }
+
+        private void onTimeout() {
+            if (entities == null && error == null && !done) {
+                error = new TimeoutException("The query did not return the result within " + timeout);
+                drain();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                Subscriber<? super T> actual = subscriber;
+                if (done || actual == null) {
+                    return;
+                }
+                if (error != null) {
+                    Throwable throwable = error;
+                    clear();
+                    actual.onError(throwable);
+                    return;
+                }
+                List<E> result = entities;
+                if (result != null) {
+                    while (requested.get() > 0 && index < result.size() && !done) {
+                        T entity;
+                        try {
+                            entity = converter.apply(result.get(index++));
+                        } catch (RuntimeException exception) {
+                            clear();
+                            actual.onError(exception);
+                            return;
+                        }
+                        requested.decrementAndGet();
+                        actual.onNext(entity);
+                    }
+                    if (index == result.size() && !done) {
+                        clear();
+                        actual.onComplete();
+                        return;
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void clear() {
+            done = true;
+            cancelTimeout();
+            entities = null;
+            subscriber = null;
+        }
+
+        private void cancelTimeout() {
+            Future<?> task = timeoutTask;
+            if (task != null) {
+                task.cancel(false);
+                timeoutTask = null;
+            }
+        }
+    }
+
+    private static final class Timeout {
+
+        private static final ScheduledExecutorService EXECUTOR = createExecutor();
+
+        private static ScheduledExecutorService createExecutor() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "artemis-publisher-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.jnosql.artemis.Pagination;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Utilitarian class to the repository methods that receive a {@link Pagination} as the last parameter.
+ */
+public final class PaginationUtil {
+
+    private PaginationUtil() {
+    }
+
+    /**
+     * Returns the {@link Pagination} when it is the last argument of a repository method call
+     *
+     * @param args the method arguments, it might be null when the method has no parameter
+     * @return the pagination or {@link Optional#empty()} when the last argument is not a {@link Pagination}
+     */
+    public static Optional<Pagination> getPagination(Object[] args) {
+        if (Objects.isNull(args) || args.length == 0) {
+            return Optional.empty();
+        }
+        Object last = args[args.length - 1];
+        if (last instanceof Pagination) {
+            return Optional.of((Pagination) last);
+        }
+        return Optional.empty();
+    }
+}
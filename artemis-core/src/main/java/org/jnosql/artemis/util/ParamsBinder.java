@@ -21,9 +21,11 @@ import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.query.Params;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A Binder class, that will apply values in the {@link Params} instance to a dynamic query.
@@ -35,6 +37,7 @@ public class ParamsBinder {
 
     private final Converters converters;
 
+    private final Map<List<String>, FieldMapping[]> fieldsByParams = new ConcurrentHashMap<>();
 
     /**
      * Creates a ParamsBinder instance
@@ -65,19 +68,31 @@ public class ParamsBinder {
             throw new DynamicQueryException("The number of parameters in a query is bigger than the number of " +
                     "parameters in the method: " + method);
         }
-        for (int index = 0; index < names.size(); index++) {
-            String name = names.get(index);
-            String fieldName = name.substring(0, name.lastIndexOf("_"));
-            Optional<FieldMapping> field = this.mapping.getFields().stream()
-                    .filter(f -> f.getName().equals(fieldName)).findFirst();
-
+        FieldMapping[] fields = fieldsByParams.get(names);
+        if (fields == null) {
+            fields = getFields(names);
+            fieldsByParams.put(new ArrayList<>(names), fields);
+        }
+        for (int index = 0; index < fields.length; index++) {
+            FieldMapping field = fields[index];
             Object value;
-            if (field.isPresent()) {
-                value = ConverterUtil.getValue(args[index], converters, field.get());
+            if (field != null) {
+                value = ConverterUtil.getValue(args[index], converters, field);
             } else {
                 value = args[index];
             }
-            params.bind(name, value);
+            params.bind(names.get(index), value);
+        }
+    }
+
+    private FieldMapping[] getFields(List<String> names) {
+        Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
+        FieldMapping[] fields = new FieldMapping[names.size()];
+        for (int index = 0; index < fields.length; index++) {
+            String name = names.get(index);
+            String fieldName = name.substring(0, name.lastIndexOf("_"));
+            fields[index] = fieldsGroupByName.get(fieldName);
         }
+        return fields;
     }
 }
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import org.jnosql.artemis.model.MoneyConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(CDIExtension.class)
+public class DefaultConvertersTest {
+
+    @Inject
+    private Converters converters;
+
+    @Test
+    public void shouldReturnNPEWhenClassIsNull() {
+        assertThrows(NullPointerException.class, () -> converters.get(null));
+    }
+
+    @Test
+    public void shouldCreateAttributeConverter() {
+        AttributeConverter<?, ?> converter = converters.get(MoneyConverter.class);
+        assertNotNull(converter);
+    }
+
+    @Test
+    public void shouldReturnTheSameConverter() {
+        AttributeConverter<?, ?> converter = converters.get(MoneyConverter.class);
+        assertSame(converter, converters.get(MoneyConverter.class));
+    }
+}
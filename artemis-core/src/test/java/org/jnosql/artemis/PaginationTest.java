@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PaginationTest {
+
+    @Test
+    public void shouldCreatePagination() {
+        Pagination pagination = Pagination.of(10L, 5L);
+        assertEquals(10L, pagination.getSkip());
+        assertEquals(5L, pagination.getLimit());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeysetFieldIsNull() {
+        assertThrows(NullPointerException.class, () -> Pagination.keyset(null, 10L));
+        assertThrows(NullPointerException.class, () -> Pagination.keyset("id", null, 10L));
+    }
+
+    @Test
+    public void shouldCreateKeysetPagination() {
+        KeysetPagination pagination = Pagination.keyset("id", 10L);
+        assertEquals("id", pagination.getField());
+        assertFalse(pagination.getLastValue().isPresent());
+        assertEquals(0L, pagination.getSkip());
+        assertEquals(10L, pagination.getLimit());
+    }
+
+    @Test
+    public void shouldCreateNextKeysetPagination() {
+        KeysetPagination next = Pagination.keyset("id", 10L).next(42L);
+        assertEquals("id", next.getField());
+        assertEquals(Optional.of(42L), next.getLastValue());
+        assertEquals(10L, next.getLimit());
+        assertEquals(Pagination.keyset("id", 42L, 10L), next);
+    }
+}
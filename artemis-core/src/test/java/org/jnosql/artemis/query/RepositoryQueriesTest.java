@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.query;
+
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.query.DeleteQuery;
+import org.jnosql.query.SelectQuery;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RepositoryQueriesTest {
+
+    private final SelectQuery selectQuery = Mockito.mock(SelectQuery.class);
+
+    private final DeleteQuery deleteQuery = Mockito.mock(DeleteQuery.class);
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        List<Class<?>> repositories = Collections.singletonList(PersonRepository.class);
+        assertThrows(NullPointerException.class, () -> RepositoryQueries.parse(null, Collections.emptyMap(),
+                (m, e) -> selectQuery, (m, e) -> deleteQuery));
+        assertThrows(NullPointerException.class, () -> RepositoryQueries.parse(repositories, null,
+                (m, e) -> selectQuery, (m, e) -> deleteQuery));
+        assertThrows(NullPointerException.class, () -> RepositoryQueries.parse(repositories,
+                Collections.emptyMap(), null, (m, e) -> deleteQuery));
+        assertThrows(NullPointerException.class, () -> RepositoryQueries.parse(repositories,
+                Collections.emptyMap(), (m, e) -> selectQuery, null));
+        assertThrows(NullPointerException.class, () -> RepositoryQueries.getEntity(null));
+    }
+
+    @Test
+    public void shouldParseTheRepositoryMethods() throws NoSuchMethodException {
+        List<String> parsed = Collections.synchronizedList(new ArrayList<>());
+        Map<Class<?>, RepositoryQueries> queries = RepositoryQueries.parse(
+                Collections.singletonList(PersonRepository.class), getClasses("Human"),
+                (m, e) -> {
+                    parsed.add(m.getName() + " " + e);
+                    return selectQuery;
+                }, (m, e) -> {
+                    parsed.add(m.getName() + " " + e);
+                    return deleteQuery;
+                });
+
+        RepositoryQueries repositoryQueries = queries.get(PersonRepository.class);
+        assertTrue(repositoryQueries.getErrors().isEmpty());
+        assertEquals(3, parsed.size());
+        assertTrue(parsed.contains("findByName Human"));
+        assertTrue(parsed.contains("findByAge Human"));
+        assertTrue(parsed.contains("deleteByName Human"));
+
+        Map<Method, SelectQuery> selectQueries = repositoryQueries.getSelectQueries();
+        assertEquals(2, selectQueries.size());
+        assertEquals(selectQuery, selectQueries.get(PersonRepository.class.getMethod("findByName", String.class)));
+        assertEquals(selectQuery, selectQueries.get(PersonRepository.class.getMethod("findByAge", Integer.class)));
+        assertEquals(Collections.singletonMap(PersonRepository.class.getMethod("deleteByName", String.class),
+                deleteQuery), repositoryQueries.getDeleteQueries());
+    }
+
+    @Test
+    public void shouldReturnErrorsWhenMethodIsInvalid() {
+        RepositoryQueries queries = RepositoryQueries.parse(
+                Collections.singletonList(PersonRepository.class), getClasses("Invalid"),
+                (m, e) -> {
+                    throw new IllegalArgumentException("invalid method " + m.getName());
+                }, (m, e) -> deleteQuery).get(PersonRepository.class);
+
+        List<DynamicQueryException> errors = queries.getErrors();
+        assertEquals(2, errors.size());
+        assertTrue(queries.getSelectQueries().isEmpty());
+        assertEquals(1, queries.getDeleteQueries().size());
+    }
+
+    @Test
+    public void shouldReturnErrorsWhenTheEntityIsInheritedFromAnIntermediateInterface() {
+        List<DynamicQueryException> errors = RepositoryQueries.parse(
+                Collections.singletonList(HumanRepository.class), getClasses("Human"),
+                (m, e) -> {
+                    throw new IllegalArgumentException("invalid method " + m.getName());
+                }, (m, e) -> deleteQuery).get(HumanRepository.class).getErrors();
+
+        assertEquals(1, errors.size());
+    }
+
+    @Test
+    public void shouldIgnoreRepositoryWhenEntityIsNotMapped() {
+        RepositoryQueries queries = RepositoryQueries.parse(
+                Collections.singletonList(PersonRepository.class), Collections.emptyMap(),
+                (m, e) -> {
+                    throw new IllegalArgumentException("invalid method");
+                }, (m, e) -> deleteQuery).get(PersonRepository.class);
+
+        assertEquals(RepositoryQueries.empty(), queries);
+        assertTrue(queries.getErrors().isEmpty());
+    }
+
+    @Test
+    public void shouldResolveTheEntityThroughTheInterfaceHierarchy() {
+        assertEquals(Optional.of(Person.class), RepositoryQueries.getEntity(PersonRepository.class));
+        assertEquals(Optional.of(Person.class), RepositoryQueries.getEntity(HumanRepository.class));
+        assertEquals(Optional.of(Person.class), RepositoryQueries.getEntity(PersonAsyncRepository.class));
+        assertFalse(RepositoryQueries.getEntity(BaseRepository.class).isPresent());
+    }
+
+    private Map<Class<?>, ClassMapping> getClasses(String name) {
+        ClassMapping mapping = Mockito.mock(ClassMapping.class);
+        Mockito.when(mapping.getName()).thenReturn(name);
+        return Collections.singletonMap(Person.class, mapping);
+    }
+
+    interface PersonRepository extends Repository<Person, Long> {
+
+        List<Person> findByName(String name);
+
+        List<Person> findByAge(Integer age);
+
+        void deleteByName(String name);
+    }
+
+    interface BaseRepository<T, K> extends Repository<T, K> {
+
+        List<T> findByName(String name);
+    }
+
+    interface HumanRepository extends BaseRepository<Person, Long> {
+    }
+
+    interface NamedRepository<T> extends RepositoryAsync<T, String> {
+    }
+
+    interface PersonAsyncRepository extends NamedRepository<Person> {
+    }
+}
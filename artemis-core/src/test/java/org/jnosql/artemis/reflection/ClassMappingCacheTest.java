@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.model.Director;
+import org.jnosql.artemis.model.MoneyConverter;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.model.Worker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClassMappingCacheTest {
+
+    private Path directory;
+
+    private ClassMappingCache cache;
+
+    private ClassConverter converter;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("artemis-cache");
+        cache = ClassMappingCache.of(directory);
+        converter = new ClassConverter(new DefaultReflections(), cache);
+    }
+
+    @Test
+    public void shouldStoreWhenScanned() {
+        assertFalse(cache.load(Person.class).isPresent());
+        converter.create(Person.class);
+        assertTrue(Files.exists(directory.resolve(Person.class.getName() + ".mapping")));
+        assertTrue(cache.load(Person.class).isPresent());
+    }
+
+    @Test
+    public void shouldCreateTheSameMappingFromCache() {
+        ClassMapping scanned = converter.create(Director.class);
+        ClassMapping cached = converter.create(Director.class);
+
+        assertEquals(scanned.getName(), cached.getName());
+        assertEquals(scanned.getClassInstance(), cached.getClassInstance());
+        assertThat(cached.getFieldsName(), containsInAnyOrder(scanned.getFieldsName().toArray()));
+        assertEquals(scanned.getColumnField("movie"), cached.getColumnField("movie"));
+        assertEquals(scanned.getColumnField("movie.title"), cached.getColumnField("movie.title"));
+    }
+
+    @Test
+    public void shouldKeepConverterAndEmbeddedFromCache() {
+        converter.create(Worker.class);
+        ClassMapping mapping = converter.create(Worker.class);
+
+        FieldMapping salary = mapping.getFieldMapping("salary").get();
+        assertEquals(MoneyConverter.class, salary.getConverter().get());
+        FieldMapping job = mapping.getFieldMapping("job").get();
+        assertEquals(FieldType.EMBEDDED, job.getType());
+        assertEquals("Job", EmbeddedFieldMapping.class.cast(job).getEntityName());
+    }
+
+    @Test
+    public void shouldIgnoreWhenBytecodeChanged() throws IOException {
+        converter.create(Person.class);
+        Path file = directory.resolve(Person.class.getName() + ".mapping");
+        String content = new String(Files.readAllBytes(file), "UTF-8")
+                .replaceAll("hash\\.org\\.jnosql\\.artemis\\.model\\.Person=\\w+",
+                        "hash.org.jnosql.artemis.model.Person=outdated");
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writer.write(content);
+        }
+        assertFalse(cache.load(Person.class).isPresent());
+    }
+
+    @Test
+    public void shouldIgnoreWhenFileIsInvalid() throws IOException {
+        Files.write(directory.resolve(Person.class.getName() + ".mapping"), "version=1".getBytes("UTF-8"));
+        assertFalse(cache.load(Person.class).isPresent());
+    }
+}
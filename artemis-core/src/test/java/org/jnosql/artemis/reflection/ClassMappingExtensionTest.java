@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.model.Job;
+import org.jnosql.artemis.model.Movie;
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@ExtendWith(CDIExtension.class)
+class ClassMappingExtensionTest {
+
+    @Inject
+    private ClassMappingExtension extension;
+
+    @Test
+    public void shouldLoadEntities() {
+        assertEquals(Person.class, extension.getMappings().get("Person").getClassInstance());
+        assertEquals(Movie.class, extension.getMappings().get("movie").getClassInstance());
+        assertNotNull(extension.getClasses().get(Person.class));
+    }
+
+    @Test
+    public void shouldLoadEmbeddableOnlyByClass() {
+        assertNotNull(extension.getClasses().get(Job.class));
+        assertFalse(extension.getMappings().containsKey("Job"));
+    }
+}
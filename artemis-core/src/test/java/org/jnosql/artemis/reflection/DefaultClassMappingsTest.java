@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.model.Movie;
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(CDIExtension.class)
+public class DefaultClassMappingsTest {
+
+    @Inject
+    private ClassMappings classMappings;
+
+    @Test
+    public void shouldReturnNPEWhenNameIsNull() {
+        assertThrows(NullPointerException.class, () -> classMappings.findByName(null));
+    }
+
+    @Test
+    public void shouldFindByName() {
+        ClassMapping classMapping = classMappings.findByName("movie");
+        assertEquals(Movie.class, classMapping.getClassInstance());
+    }
+
+    @Test
+    public void shouldFindByNameIgnoringCase() {
+        ClassMapping classMapping = classMappings.findByName("person");
+        assertEquals(Person.class, classMapping.getClassInstance());
+        assertSame(classMapping, classMappings.findByName("PERSON"));
+        assertSame(classMapping, classMappings.findByName("Person"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsNotEntityWithTheName() {
+        assertThrows(ClassInformationNotFoundException.class, () -> classMappings.findByName("not_found"));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+class GeneratedClassOperationTest {
+
+    private final ClassOperation operation = new GeneratedClassOperation();
+
+    @Test
+    public void shouldReturnGeneratedClassName() throws NoSuchFieldException {
+        Field bar = Foo.class.getDeclaredField("bar");
+        Assertions.assertEquals("org.jnosql.artemis.reflection.Foo$$InstanceSupplier",
+                GeneratedClasses.INSTANCE.getInstanceSupplierName(Foo.class));
+        Assertions.assertEquals("org.jnosql.artemis.reflection.Foo$$FieldReader$bar",
+                GeneratedClasses.INSTANCE.getFieldReaderName(bar));
+        Assertions.assertEquals("org.jnosql.artemis.reflection.Foo$$FieldWriter$bar",
+                GeneratedClasses.INSTANCE.getFieldWriterName(bar));
+    }
+
+    @Test
+    public void shouldReturnGeneratedClassNameToNestedClass() {
+        Assertions.assertEquals("java.util.Map_Entry$$InstanceSupplier",
+                GeneratedClasses.INSTANCE.getInstanceSupplierName(Map.Entry.class));
+    }
+
+    @Test
+    public void shouldUseFallbackWhenThereIsNotGeneratedClass() throws NoSuchFieldException {
+        Foo foo = new Foo();
+        Field field = Foo.class.getDeclaredField("bar2");
+        field.setAccessible(true);
+
+        FieldWriter writer = operation.getFieldWriterFactory().apply(field);
+        FieldReader reader = operation.getFieldReaderFactory().apply(field);
+        writer.write(foo, "value");
+        Assertions.assertEquals("value", reader.read(foo));
+
+        InstanceSupplier supplier = operation.getInstanceSupplierFactory().apply(Foo.class.getConstructors()[0]);
+        Assertions.assertTrue(supplier.get() instanceof Foo);
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenGeneratedClassDoesNotImplementOperation() {
+        Assertions.assertFalse(GeneratedClasses.INSTANCE.load(Foo.class.getName(), Foo.class, FieldReader.class)
+                .isPresent());
+    }
+}
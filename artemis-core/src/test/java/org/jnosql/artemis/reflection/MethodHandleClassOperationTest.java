@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+import static java.util.Collections.singletonList;
+
+class MethodHandleClassOperationTest {
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private final ClassOperation operation = new MethodHandleClassOperation(new ReflectionClassOperation(reflections),
+            reflections);
+
+    @Test
+    public void shouldReadAndWriteFromAccessors() throws NoSuchFieldException {
+        Foo foo = new Foo();
+        Field field = Foo.class.getDeclaredField("bar");
+        FieldWriter writer = operation.getFieldWriterFactory().apply(field);
+        FieldReader reader = operation.getFieldReaderFactory().apply(field);
+
+        writer.write(foo, "bar");
+        Assertions.assertEquals("bar", foo.getBar());
+        Assertions.assertEquals("bar", reader.read(foo));
+    }
+
+    @Test
+    public void shouldReadAndWriteWhenAccessorsAreNotPublic() throws NoSuchFieldException {
+        Foo foo = new Foo();
+        Field field = Foo.class.getDeclaredField("bar2");
+        FieldWriter writer = operation.getFieldWriterFactory().apply(field);
+        FieldReader reader = operation.getFieldReaderFactory().apply(field);
+
+        Assertions.assertEquals("bar2", reader.read(foo));
+        writer.write(foo, "value");
+        Assertions.assertEquals("value", reader.read(foo));
+    }
+
+    @Test
+    public void shouldReadAndWritePrimitiveFields() throws NoSuchFieldException {
+        Person person = Person.builder().withId(10L).withAge(20).withName("Ada")
+                .withPhones(singletonList("234234324")).build();
+        Field id = Person.class.getDeclaredField("id");
+        Field age = Person.class.getDeclaredField("age");
+
+        Assertions.assertEquals(10L, operation.getFieldReaderFactory().apply(id).read(person));
+        Assertions.assertEquals(20, operation.getFieldReaderFactory().apply(age).read(person));
+
+        operation.getFieldWriterFactory().apply(id).write(person, 12L);
+        operation.getFieldWriterFactory().apply(age).write(person, 30);
+        Assertions.assertEquals(12L, person.getId());
+        Assertions.assertEquals(30, person.getAge());
+    }
+
+    @Test
+    public void shouldCreateInstanceFromPublicConstructor() {
+        InstanceSupplier supplier = operation.getInstanceSupplierFactory().apply(Foo.class.getConstructors()[0]);
+        Assertions.assertTrue(supplier.get() instanceof Foo);
+    }
+
+    @Test
+    public void shouldCreateInstanceWhenConstructorIsNotPublic() {
+        Constructor<?> constructor = Faa.class.getDeclaredConstructors()[0];
+        InstanceSupplier supplier = operation.getInstanceSupplierFactory().apply(constructor);
+        Assertions.assertTrue(supplier.get() instanceof Faa);
+        Assertions.assertNotSame(supplier.get(), supplier.get());
+    }
+}
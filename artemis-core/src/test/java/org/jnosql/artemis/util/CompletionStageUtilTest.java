@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompletionStageUtilTest {
+
+    @Test
+    public void shouldReturnErrorWhenMethodIsNull() {
+        assertThrows(NullPointerException.class, () -> CompletionStageUtil.isCompletionStage(null));
+        assertThrows(NullPointerException.class, () -> CompletionStageUtil.isOptional(null));
+        assertThrows(NullPointerException.class, () -> CompletionStageUtil.toStage(null));
+    }
+
+    @Test
+    public void shouldCheckCompletionStage() throws NoSuchMethodException {
+        assertTrue(CompletionStageUtil.isCompletionStage(getMethod("findByName")));
+        assertTrue(CompletionStageUtil.isCompletionStage(getMethod("findById")));
+        assertFalse(CompletionStageUtil.isCompletionStage(getMethod("deleteByName")));
+    }
+
+    @Test
+    public void shouldCheckOptional() throws NoSuchMethodException {
+        assertFalse(CompletionStageUtil.isOptional(getMethod("findByName")));
+        assertTrue(CompletionStageUtil.isOptional(getMethod("findById")));
+        assertFalse(CompletionStageUtil.isOptional(getMethod("deleteByName")));
+    }
+
+    @Test
+    public void shouldConvertToReturnType() throws NoSuchMethodException {
+        CompletionStage<Object> stage = CompletableFuture.completedFuture(null).thenApply(v -> v);
+        assertSame(stage, CompletionStageUtil.toReturnType(getMethod("findByName"), stage));
+        Object future = CompletionStageUtil.toReturnType(getMethod("findById"), stage);
+        assertEquals(CompletableFuture.class, future.getClass());
+    }
+
+    @Test
+    public void shouldCompleteTheStageWithTheCallback() throws Exception {
+        CompletableFuture<String> future = CompletionStageUtil.toStage(c -> c.accept("Ada"));
+        assertEquals("Ada", future.get());
+    }
+
+    @Test
+    public void shouldCompleteTheStageExceptionallyWhenTheOperationFails() {
+        CompletableFuture<String> future = CompletionStageUtil.toStage(c -> {
+            throw new IllegalStateException("error");
+        });
+        assertTrue(future.isCompletedExceptionally());
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertEquals(IllegalStateException.class, exception.getCause().getClass());
+    }
+
+    private Method getMethod(String name) throws NoSuchMethodException {
+        return PersonRepository.class.getMethod(name);
+    }
+
+    interface PersonRepository {
+
+        CompletionStage<List<String>> findByName();
+
+        CompletableFuture<Optional<String>> findById();
+
+        void deleteByName();
+    }
+}
@@ -63,4 +63,12 @@ public class ConverterUtilTest {
         Object converted = ConverterUtil.getValue(value, mapping, "salary", converters);
         assertEquals("BRL 10", converted);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldNotConvertWhenValueIsTheDatabaseType() {
+        ClassMapping mapping = mappings.get(Worker.class);
+        Object value = "BRL 10";
+        Object converted = ConverterUtil.getValue(value, mapping, "salary", converters);
+        assertEquals("BRL 10", converted);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EntityPublisherTest {
+
+    private AtomicInteger queries;
+
+    private AtomicInteger conversions;
+
+    private Publisher<String> publisher;
+
+    @BeforeEach
+    public void setUp() {
+        queries = new AtomicInteger();
+        conversions = new AtomicInteger();
+        Consumer<Consumer<List<Integer>>> query = callback -> {
+            queries.incrementAndGet();
+            callback.accept(Arrays.asList(1, 2, 3));
+        };
+        publisher = EntityPublisher.of(query, i -> {
+            conversions.incrementAndGet();
+            return "entity " + i;
+        });
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsNullParameter() {
+        assertThrows(NullPointerException.class, () -> EntityPublisher.of(null, i -> i));
+        assertThrows(NullPointerException.class, () -> EntityPublisher.of(c -> {
+        }, null));
+        assertThrows(NullPointerException.class, () -> EntityPublisher.of(c -> {
+        }, i -> i, null));
+        assertThrows(NullPointerException.class, () -> publisher.subscribe(null));
+    }
+
+    @Test
+    public void shouldNotExecuteQueryBeforeRequest() {
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        assertEquals(0, queries.get());
+        assertTrue(subscriber.entities.isEmpty());
+    }
+
+    @Test
+    public void shouldConvertOnDemand() {
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(2);
+        assertEquals(Arrays.asList("entity 1", "entity 2"), subscriber.entities);
+        assertEquals(2, conversions.get());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(5);
+        assertEquals(Arrays.asList("entity 1", "entity 2", "entity 3"), subscriber.entities);
+        assertEquals(3, conversions.get());
+        assertEquals(1, queries.get());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldStopWhenCancel() {
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(2);
+        assertEquals(Arrays.asList("entity 1"), subscriber.entities);
+        assertEquals(1, conversions.get());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenRequestIsNotPositive() {
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertEquals(IllegalArgumentException.class, subscriber.error.getClass());
+    }
+
+    @Test
+    public void shouldCompleteWhenThereIsNotResult() {
+        Publisher<String> empty = EntityPublisher.of(c -> c.accept(emptyList()), Object::toString);
+        TestSubscriber subscriber = new TestSubscriber();
+        empty.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.entities.isEmpty());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldExecuteQueryToEachSubscription() {
+        TestSubscriber subscriber = new TestSubscriber();
+        TestSubscriber subscriber2 = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        publisher.subscribe(subscriber2);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber2.subscription.request(Long.MAX_VALUE);
+        assertEquals(2, queries.get());
+        assertEquals(subscriber.entities, subscriber2.entities);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenQueryFails() {
+        Publisher<String> failure = EntityPublisher.<Integer, String>of(c -> {
+            throw new IllegalStateException("error");
+        }, Object::toString);
+        TestSubscriber subscriber = new TestSubscriber();
+        failure.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertEquals(IllegalStateException.class, subscriber.error.getClass());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenQueryDoesNotReturn() throws InterruptedException {
+        Publisher<String> never = EntityPublisher.<Integer, String>of(c -> {
+        }, Object::toString, Duration.ofMillis(10L));
+        TestSubscriber subscriber = new TestSubscriber();
+        never.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+        assertEquals(TimeoutException.class, subscriber.error.getClass());
+    }
+
+    @Test
+    public void shouldIgnoreTheResultAfterCancel() {
+        AtomicReference<Consumer<List<Integer>>> callback = new AtomicReference<>();
+        Publisher<String> later = EntityPublisher.of(callback::set, Object::toString);
+        TestSubscriber subscriber = new TestSubscriber();
+        later.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        callback.get().accept(Arrays.asList(1, 2));
+        assertTrue(subscriber.entities.isEmpty());
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    private static class TestSubscriber implements Subscriber<String> {
+
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+
+        private final List<String> entities = new ArrayList<>();
+
+        private Subscription subscription;
+
+        private volatile Throwable error;
+
+        private volatile boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(String entity) {
+            entities.add(entity);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+            terminated.countDown();
+        }
+    }
+}
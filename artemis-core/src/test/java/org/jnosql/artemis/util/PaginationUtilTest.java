@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.jnosql.artemis.Pagination;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class PaginationUtilTest {
+
+    @Test
+    public void shouldReturnEmptyWhenThereIsNoArgument() {
+        assertFalse(PaginationUtil.getPagination(null).isPresent());
+        assertFalse(PaginationUtil.getPagination(new Object[0]).isPresent());
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenTheLastArgumentIsNotPagination() {
+        Object[] args = {Pagination.of(0, 10), "name"};
+        assertFalse(PaginationUtil.getPagination(args).isPresent());
+    }
+
+    @Test
+    public void shouldReturnTheLastArgument() {
+        Pagination pagination = Pagination.of(10, 10);
+        Optional<Pagination> result = PaginationUtil.getPagination(new Object[]{"name", pagination});
+        assertSame(pagination, result.get());
+    }
+}
@@ -16,6 +16,8 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -40,6 +42,39 @@ public abstract class AbsctractDocumentWorkflow implements DocumentWorkflow {
 
     }
 
+    @Override
+    public <T> List<T> batchFlow(List<T> entities, Function<List<DocumentEntity>, Iterable<DocumentEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+
+        List<DocumentEntity> documents = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            getDocumentEventPersistManager().firePreEntity(entity);
+            getDocumentEventPersistManager().firePreDocumentEntity(entity);
+            DocumentEntity document = getConverter().toDocument(entity);
+            getDocumentEventPersistManager().firePreDocument(document);
+            documents.add(document);
+        }
+
+        List<DocumentEntity> saved = new ArrayList<>(entities.size());
+        action.apply(documents).forEach(saved::add);
+        if (saved.size() != documents.size()) {
+            throw new IllegalStateException(String.format("The database returned %d entities to a batch of %d",
+                    saved.size(), documents.size()));
+        }
+        List<T> result = new ArrayList<>(entities.size());
+        for (int index = 0; index < entities.size(); index++) {
+            DocumentEntity document = saved.get(index);
+            getDocumentEventPersistManager().firePostDocument(document);
+            T entity = getConverter().toEntity(entities.get(index), document);
+            getDocumentEventPersistManager().firePostEntity(entity);
+            getDocumentEventPersistManager().firePostDocumentEntity(entity);
+            result.add(entity);
+        }
+        return result;
+    }
+
     private <T> Function<T, T> getFlow(T entity, UnaryOperator<DocumentEntity> action) {
         UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
 
@@ -19,22 +19,15 @@ import org.jnosql.artemis.document.DocumentFieldConverters.DocumentFieldConverte
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
-import org.jnosql.artemis.reflection.FieldType;
-import org.jnosql.artemis.reflection.FieldValue;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentEntity;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
-import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
-import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
 
 /**
  * Template method to {@link DocumentEntityConverter}
@@ -47,18 +40,18 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
 
     private final DocumentFieldConverterFactory converterFactory = new DocumentFieldConverterFactory();
 
+    private final Map<Class<?>, DocumentEntityPlan> plans = new ConcurrentHashMap<>();
+
 
     @Override
     public DocumentEntity toDocument(Object entityInstance) {
         requireNonNull(entityInstance, "Object is required");
         ClassMapping mapping = getClassMappings().get(entityInstance.getClass());
-        DocumentEntity entity = DocumentEntity.of(mapping.getName());
-        mapping.getFields().stream()
-                .map(f -> to(f, entityInstance))
-                .filter(FieldValue::isNotEmpty)
-                .map(f -> f.toDocument(this, getConverters()))
-                .flatMap(List::stream)
-                .forEach(entity::add);
+        DocumentEntityPlan plan = getPlan(mapping);
+        DocumentEntity entity = DocumentEntity.of(plan.getName());
+        for (Document document : plan.toDocuments(entityInstance, this)) {
+            entity.add(document);
+        }
         return entity;
 
     }
@@ -95,37 +88,41 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
         return convertEntity(entity.getDocuments(), mapping, instance);
     }
 
-    private <T> T convertEntity(List<Document> documents, ClassMapping mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = documents.stream().map(Document::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || SUBENTITY.equals(type);
-        };
-
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, documents, fieldsGroupByName));
-
-        return instance;
-    }
-
-    protected <T> Consumer<String> feedObject(T instance, List<Document> documents, Map<String, FieldMapping> fieldsGroupByName) {
+    /**
+     * Returns the function that writes the document of the given field name into the instance, with the
+     * {@link DocumentFieldConverter} of the entity conversion plan.
+     *
+     * @param instance          the entity instance
+     * @param documents         the documents
+     * @param fieldsGroupByName the fields grouped by name
+     * @param <T>               the entity type
+     * @return the function to each field name
+     * @deprecated the toEntity methods read the documents through the conversion plan and no longer call this
+     * method, it will be removed in a future version
+     */
+    @Deprecated
+    protected <T> Consumer<String> feedObject(T instance, List<Document> documents,
+                                              Map<String, FieldMapping> fieldsGroupByName) {
+        ClassMapping mapping = getClassMappings().get(instance.getClass());
         return k -> {
-            Optional<Document> document = documents.stream().filter(c -> c.getName().equals(k)).findFirst();
-
+            Document document = documents.stream().filter(c -> c.getName().equals(k)).findFirst().orElse(null);
             FieldMapping field = fieldsGroupByName.get(k);
-            DocumentFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, documents, document, field, this);
+            getConverter(mapping, field).convert(instance, documents, document, field, this);
         };
     }
 
+    private <T> T convertEntity(List<Document> documents, ClassMapping mapping, T instance) {
+        return getPlan(mapping).toEntity(instance, documents, this);
+    }
 
-    private DocumentFieldValue to(FieldMapping field, Object entityInstance) {
-        Object value = field.read(entityInstance);
-        return DefaultDocumentFieldValue.of(value, field);
+    private DocumentEntityPlan getPlan(ClassMapping mapping) {
+        return plans.computeIfAbsent(mapping.getClassInstance(),
+                c -> DocumentEntityPlan.of(mapping, converterFactory, getConverters()));
     }
 
+    private DocumentFieldConverter getConverter(ClassMapping mapping, FieldMapping field) {
+        return getPlan(mapping).getConverter(field)
+                .orElseGet(() -> converterFactory.get(field, getConverters()));
+    }
 
 }
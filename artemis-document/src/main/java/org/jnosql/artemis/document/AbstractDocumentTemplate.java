@@ -17,6 +17,7 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
@@ -32,12 +33,14 @@ import org.jnosql.diana.api.document.DocumentQueryParser;
 import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -51,6 +54,10 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
 
     private static final DocumentQueryParser PARSER = DocumentQueryParser.getParser();
 
+    private static final String BATCH_SIZE_PROPERTY = "artemis.document.batch.size";
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
     protected abstract DocumentEntityConverter getConverter();
 
     protected abstract DocumentCollectionManager getManager();
@@ -93,12 +100,31 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
     }
 
 
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return batch(entities, e -> getManager().insert(e));
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return batch(entities, e -> getManager().insert(e, ttl));
+    }
+
     @Override
     public <T> T update(T entity) {
         Objects.requireNonNull(entity, "entity is required");
         return getWorkflow().flow(entity, update);
     }
 
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return batch(entities, e -> getManager().update(e));
+    }
+
 
     @Override
     public void delete(DocumentDeleteQuery query) {
@@ -109,11 +135,24 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
 
     @Override
     public <T> List<T> select(DocumentQuery query) {
+        return this.<T>stream(query).collect(Collectors.toList());
+    }
+
+    @Override
+    public <T> Stream<T> stream(DocumentQuery query) {
         Objects.requireNonNull(query, "query is required");
         getPersistManager().firePreQuery(query);
         List<DocumentEntity> entities = getManager().select(query);
         Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
-        return entities.stream().map(function).collect(Collectors.toList());
+        return entities.stream().map(function);
+    }
+
+    @Override
+    public <T> List<T> select(DocumentQuery query, Pagination pagination) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(pagination, "pagination is required");
+        ClassMapping classMapping = getClassMappings().findByName(query.getDocumentCollection());
+        return select(DocumentQueryPagination.of(query, pagination, classMapping, getConverters()));
     }
 
     @Override
@@ -183,4 +222,36 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
         return getManager().count(classMapping.getName());
     }
 
+
+    /**
+     * The number of entities sent to the {@link DocumentCollectionManager} at each round trip when the template
+     * inserts or updates an {@link Iterable}. By default, it is defined by the system property
+     * {@code artemis.document.batch.size} or 100, each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @return the batch size
+     */
+    protected int getBatchSize() {
+        return Integer.getInteger(BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE);
+    }
+
+    private <T> Iterable<T> batch(Iterable<T> entities,
+                                  Function<List<DocumentEntity>, Iterable<DocumentEntity>> action) {
+        int batchSize = getBatchSize();
+        if (batchSize <= 0) {
+            throw new IllegalStateException("The batch size must be greater than zero: " + batchSize);
+        }
+        List<T> result = new ArrayList<>();
+        List<T> batch = new ArrayList<>(batchSize);
+        for (T entity : entities) {
+            batch.add(entity);
+            if (batch.size() == batchSize) {
+                result.addAll(getWorkflow().batchFlow(batch, action));
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            result.addAll(getWorkflow().batchFlow(batch, action));
+        }
+        return result;
+    }
 }
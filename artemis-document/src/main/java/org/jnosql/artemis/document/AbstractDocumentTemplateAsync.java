@@ -21,7 +21,9 @@ import org.jnosql.artemis.PreparedStatementAsync;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.util.CompletionStageUtil;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.artemis.util.EntityPublisher;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
@@ -29,11 +31,13 @@ import org.jnosql.diana.api.document.DocumentObserverParser;
 import org.jnosql.diana.api.document.DocumentQuery;
 import org.jnosql.diana.api.document.DocumentQueryParserAsync;
 import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
+import org.reactivestreams.Publisher;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static java.util.Objects.requireNonNull;
@@ -129,11 +133,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callBack is required");
 
-        Consumer<List<DocumentEntity>> dianaCallBack = d -> callback.accept(
-                d.stream()
-                        .map(getConverter()::toEntity)
-                        .map(o -> (T) o)
-                        .collect(toList()));
+        Consumer<List<DocumentEntity>> dianaCallBack = d -> callback.accept(toEntities(d));
         getManager().select(query, dianaCallBack);
     }
 
@@ -145,15 +145,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         requireNonNull(id, "id is required");
         requireNonNull(callBack, "callBack is required");
 
-        ClassMapping classMapping = getClassMappings().get(entityClass);
-        FieldMapping idField = classMapping.getId()
-                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
-
-        Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
-        DocumentQuery query = DocumentQueryBuilder.select().from(classMapping.getName())
-                .where(idField.getName()).eq(value).build();
-
-        singleResult(query, callBack);
+        singleResult(getFindQuery(entityClass, id), callBack);
     }
 
     @Override
@@ -183,11 +175,24 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
     public <T> void query(String query, Consumer<List<T>> callback) {
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callback is required");
-        Consumer<List<DocumentEntity>> mapper = columnEntities -> callback.accept(columnEntities.stream().map(c -> (T) getConverter().toEntity(c))
-                .collect(toList()));
+        Consumer<List<DocumentEntity>> mapper = entities -> callback.accept(toEntities(entities));
         PARSER.query(query, getManager(), mapper, getObserver());
     }
 
+    @Override
+    public <T> Publisher<T> selectPublisher(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        return EntityPublisher.<DocumentEntity, T>of(c -> getManager().select(query, c),
+                e -> (T) getConverter().toEntity(e));
+    }
+
+    @Override
+    public <T> Publisher<T> queryPublisher(String query) {
+        requireNonNull(query, "query is required");
+        return EntityPublisher.<DocumentEntity, T>of(c -> PARSER.query(query, getManager(), c, getObserver()),
+                e -> (T) getConverter().toEntity(e));
+    }
+
     @Override
     public <T> void singleResult(String query, Consumer<Optional<T>> callback) {
         requireNonNull(query, "query is required");
@@ -205,6 +210,53 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         PARSER.query(query, getManager(), mapper, getObserver());
     }
 
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletionStageUtil.<DocumentEntity>toStage(
+                c -> getManager().insert(getConverter().toDocument(entity), c))
+                .thenApply(c -> (T) getConverter().toEntity(entity.getClass(), c));
+    }
+
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletionStageUtil.<DocumentEntity>toStage(
+                c -> getManager().insert(getConverter().toDocument(entity), ttl, c))
+                .thenApply(c -> (T) getConverter().toEntity(entity.getClass(), c));
+    }
+
+    @Override
+    public <T> CompletionStage<T> updateAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletionStageUtil.<DocumentEntity>toStage(
+                c -> getManager().update(getConverter().toDocument(entity), c))
+                .thenApply(c -> (T) getConverter().toEntity(entity.getClass(), c));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> select(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletionStageUtil.<List<DocumentEntity>>toStage(c -> getManager().select(query, c))
+                .thenApply(this::toEntities);
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> query(String query) {
+        requireNonNull(query, "query is required");
+        return CompletionStageUtil.<List<DocumentEntity>>toStage(
+                c -> PARSER.query(query, getManager(), c, getObserver()))
+                .thenApply(this::toEntities);
+    }
+
+    @Override
+    public <T, ID> CompletionStage<Optional<T>> find(Class<T> entityClass, ID id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return singleResult(getFindQuery(entityClass, id));
+    }
+
     @Override
     public PreparedStatementAsync prepare(String query) {
         requireNonNull(query, "query is required");
@@ -224,6 +276,22 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         getManager().count(classMapping.getName(), callback);
     }
 
+    private <T> List<T> toEntities(List<DocumentEntity> entities) {
+        return entities.stream()
+                .map(e -> (T) getConverter().toEntity(e))
+                .collect(toList());
+    }
+
+    private <T, ID> DocumentQuery getFindQuery(Class<T> entityClass, ID id) {
+        ClassMapping classMapping = getClassMappings().get(entityClass);
+        FieldMapping idField = classMapping.getId()
+                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
+
+        Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        return DocumentQueryBuilder.select().from(classMapping.getName())
+                .where(idField.getName()).eq(value).build();
+    }
+
     private <T, ID> DocumentDeleteQuery getDeleteQuery(Class<T> entityClass, ID id) {
         ClassMapping classMapping = getClassMappings().get(entityClass);
         FieldMapping idField = classMapping.getId()
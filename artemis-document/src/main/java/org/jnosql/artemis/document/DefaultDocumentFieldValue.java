@@ -14,29 +14,28 @@
  */
 package org.jnosql.artemis.document;
 
-import org.jnosql.artemis.AttributeConverter;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.reflection.FieldMapping;
-import org.jnosql.artemis.reflection.FieldType;
 import org.jnosql.artemis.reflection.FieldValue;
-import org.jnosql.artemis.reflection.GenericFieldMapping;
 import org.jnosql.diana.api.document.Document;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-
-import static java.util.Collections.singletonList;
-import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
-import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
-import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
 
+/**
+ * The {@link DocumentFieldValue} that writes the value with the {@link DocumentFieldConverter} of the field in the
+ * conversion plan of its entity.
+ */
+@Deprecated
 final class DefaultDocumentFieldValue implements DocumentFieldValue {
 
     private final FieldValue fieldValue;
 
-    private DefaultDocumentFieldValue(FieldValue fieldValue) {
+    private final DocumentFieldConverter fieldConverter;
+
+    private DefaultDocumentFieldValue(FieldValue fieldValue, DocumentFieldConverter fieldConverter) {
         this.fieldValue = fieldValue;
+        this.fieldConverter = fieldConverter;
     }
 
     @Override
@@ -49,57 +48,18 @@ final class DefaultDocumentFieldValue implements DocumentFieldValue {
         return fieldValue.getField();
     }
 
-
-    public List<Document> toDocument(DocumentEntityConverter converter, Converters converters) {
-        if (EMBEDDED.equals(getType())) {
-            return converter.toDocument(getValue()).getDocuments();
-        }  else if (SUBENTITY.equals(getType())) {
-            return singletonList(Document.of(getName(), converter.toDocument(getValue()).getDocuments()));
-        } else if (isEmbeddableCollection()) {
-            return singletonList(Document.of(getName(), getDocuments(converter)));
-        }
-        Optional<Class<? extends AttributeConverter>> optionalConverter = getField().getConverter();
-        if (optionalConverter.isPresent()) {
-            AttributeConverter attributeConverter = converters.get(optionalConverter.get());
-            return singletonList(Document.of(getName(), attributeConverter.convertToDatabaseColumn(getValue())));
-        }
-        return singletonList(Document.of(getName(), getValue()));
-    }
-
-    private List<List<Document>> getDocuments(DocumentEntityConverter converter) {
-        List<List<Document>> documents = new ArrayList<>();
-        for (Object element : Iterable.class.cast(getValue())) {
-            documents.add(converter.toDocument(element).getDocuments());
-        }
-        return documents;
-    }
-
-    private boolean isEmbeddableCollection() {
-        return COLLECTION.equals(getType()) && isEmbeddableElement();
-    }
-
     @Override
     public boolean isNotEmpty() {
         return fieldValue.isNotEmpty();
     }
 
-    private FieldType getType() {
-        return getField().getType();
-    }
-
-    private boolean isEmbeddableElement() {
-        return GenericFieldMapping.class.cast(getField()).isEmbeddable();
-    }
-
-    private String getName() {
-        return getField().getName();
-    }
-
-    static DocumentFieldValue of(Object value, FieldMapping field) {
-        return new DefaultDocumentFieldValue(FieldValue.of(value, field));
+    @Override
+    public List<Document> toDocument(DocumentEntityConverter converter, Converters converters) {
+        List<Document> documents = new ArrayList<>(1);
+        fieldConverter.toDocument(getValue(), getField(), converter, documents);
+        return documents;
     }
 
-
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("DocumentFieldValue{");
@@ -107,4 +67,8 @@ final class DefaultDocumentFieldValue implements DocumentFieldValue {
         sb.append('}');
         return sb.toString();
     }
+
+    static DocumentFieldValue of(Object value, FieldMapping field, DocumentFieldConverter fieldConverter) {
+        return new DefaultDocumentFieldValue(FieldValue.of(value, field), fieldConverter);
+    }
 }
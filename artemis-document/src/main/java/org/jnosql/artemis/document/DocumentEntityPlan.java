@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.document.DocumentFieldConverters.DocumentFieldConverterFactory;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.reflection.FieldType;
+import org.jnosql.diana.api.document.Document;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
+import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
+
+/**
+ * The steps to read and write the fields of a {@link ClassMapping}, it resolves once the {@link DocumentFieldConverter}
+ * and the {@link org.jnosql.artemis.AttributeConverter} of each field, thus the conversion of each entity is a loop
+ * through the steps.
+ */
+final class DocumentEntityPlan {
+
+    private final String name;
+
+    private final Step[] steps;
+
+    private DocumentEntityPlan(String name, Step[] steps) {
+        this.name = name;
+        this.steps = steps;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    <T> T toEntity(T instance, List<Document> documents, AbstractDocumentEntityConverter converter) {
+        Map<String, Document> documentsByName = groupByName(documents);
+        for (Step step : steps) {
+            Document document = documentsByName.get(step.field.getName());
+            if (document != null || step.element) {
+                step.converter.convert(instance, documents, document, step.field, converter);
+            }
+        }
+        return instance;
+    }
+
+    List<Document> toDocuments(Object instance, AbstractDocumentEntityConverter converter) {
+        List<Document> documents = new ArrayList<>(steps.length);
+        for (Step step : steps) {
+            Object value = step.field.read(instance);
+            if (value != null) {
+                step.converter.toDocument(value, step.field, converter, documents);
+            }
+        }
+        return documents;
+    }
+
+    Optional<DocumentFieldConverter> getConverter(FieldMapping field) {
+        for (Step step : steps) {
+            if (step.field.getName().equals(field.getName())) {
+                return Optional.of(step.converter);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Map<String, Document> groupByName(List<Document> documents) {
+        Map<String, Document> documentsByName = new HashMap<>(documents.size() * 4 / 3 + 1);
+        for (Document document : documents) {
+            documentsByName.putIfAbsent(document.getName(), document);
+        }
+        return documentsByName;
+    }
+
+    static DocumentEntityPlan of(ClassMapping mapping, DocumentFieldConverterFactory factory, Converters converters) {
+        List<FieldMapping> fields = mapping.getFields();
+        Step[] steps = new Step[fields.size()];
+        for (int index = 0; index < steps.length; index++) {
+            FieldMapping field = fields.get(index);
+            steps[index] = new Step(field, factory.get(field, converters));
+        }
+        return new DocumentEntityPlan(mapping.getName(), steps);
+    }
+
+    private static final class Step {
+
+        private final FieldMapping field;
+
+        private final DocumentFieldConverter converter;
+
+        private final boolean element;
+
+        private Step(FieldMapping field, DocumentFieldConverter converter) {
+            this.field = field;
+            this.converter = converter;
+            FieldType type = field.getType();
+            this.element = EMBEDDED.equals(type) || SUBENTITY.equals(type);
+        }
+    }
+}
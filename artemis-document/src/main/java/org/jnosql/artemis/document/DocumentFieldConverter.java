@@ -18,10 +18,12 @@ import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.document.Document;
 
 import java.util.List;
-import java.util.Optional;
 
 interface DocumentFieldConverter {
 
-    <T> void convert(T instance, List<Document> documents, Optional<Document> document, FieldMapping field,
+    <T> void convert(T instance, List<Document> documents, Document document, FieldMapping field,
                      AbstractDocumentEntityConverter converter);
+
+    void toDocument(Object value, FieldMapping field, DocumentEntityConverter converter,
+                    List<Document> documents);
 }
@@ -15,20 +15,19 @@
 package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.AttributeConverter;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.reflection.GenericFieldMapping;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.document.Document;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
 
 import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -43,7 +42,7 @@ class DocumentFieldConverters {
         private final CollectionEmbeddableConverter embeddableConverter = new CollectionEmbeddableConverter();
         private final SubEntityConverter subEntityConverter = new SubEntityConverter();
 
-        DocumentFieldConverter get(FieldMapping field) {
+        DocumentFieldConverter get(FieldMapping field, Converters converters) {
             if (EMBEDDED.equals(field.getType())) {
                 return embeddedFieldConverter;
             } else if (SUBENTITY.equals(field.getType())) {
@@ -51,6 +50,10 @@ class DocumentFieldConverters {
             } else if (isCollectionEmbeddable(field)) {
                 return embeddableConverter;
             } else {
+                Optional<Class<? extends AttributeConverter>> converter = field.getConverter();
+                if (converter.isPresent()) {
+                    return new AttributeConverterConverter(converters.get(converter.get()));
+                }
                 return defaultConverter;
             }
         }
@@ -60,27 +63,27 @@ class DocumentFieldConverters {
         }
     }
 
+
     private static class SubEntityConverter implements DocumentFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
-                                FieldMapping field, AbstractDocumentEntityConverter converter) {
+        public <T> void convert(T instance, List<Document> documents, Document document, FieldMapping field,
+                                AbstractDocumentEntityConverter converter) {
 
-            if (document.isPresent()) {
-                Document sudDocument = document.get();
-                Object value = sudDocument.get();
+            if (document != null) {
+                Object value = document.get();
                 if (Map.class.isInstance(value)) {
                     Map map = Map.class.cast(value);
-                    List<Document> embeddedDocument = new ArrayList<>();
+                    List<Document> embeddedDocuments = new ArrayList<>();
 
                     for (Map.Entry entry : (Set<Map.Entry>) map.entrySet()) {
-                        embeddedDocument.add(Document.of(entry.getKey().toString(), entry.getValue()));
+                        embeddedDocuments.add(Document.of(entry.getKey().toString(), entry.getValue()));
                     }
-                    field.write(instance, converter.toEntity(field.getNativeField().getType(), embeddedDocument));
+                    field.write(instance, converter.toEntity(field.getNativeField().getType(), embeddedDocuments));
 
                 } else {
                     field.write(instance, converter.toEntity(field.getNativeField().getType(),
-                            sudDocument.get(new TypeReference<List<Document>>() {
+                            document.get(new TypeReference<List<Document>>() {
                             })));
                 }
 
@@ -88,61 +91,100 @@ class DocumentFieldConverters {
                 field.write(instance, converter.toEntity(field.getNativeField().getType(), documents));
             }
         }
+
+        @Override
+        public void toDocument(Object value, FieldMapping field, DocumentEntityConverter converter,
+                               List<Document> documents) {
+            documents.add(Document.of(field.getName(), converter.toDocument(value).getDocuments()));
+        }
     }
 
     private static class EmbeddedFieldConverter implements DocumentFieldConverter {
 
 
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
+        public <T> void convert(T instance, List<Document> documents, Document document,
                                 FieldMapping field, AbstractDocumentEntityConverter converter) {
 
-            Field nativeField = field.getNativeField();
-            Object subEntity = converter.toEntity(nativeField.getType(), documents);
+            Object subEntity = converter.toEntity(field.getNativeField().getType(), documents);
             field.write(instance, subEntity);
 
         }
+
+        @Override
+        public void toDocument(Object value, FieldMapping field, DocumentEntityConverter converter,
+                               List<Document> documents) {
+            documents.addAll(converter.toDocument(value).getDocuments());
+        }
     }
 
+
     private static class DefaultConverter implements DocumentFieldConverter {
 
+
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
+        public <T> void convert(T instance, List<Document> documents, Document document,
                                 FieldMapping field, AbstractDocumentEntityConverter converter) {
-            Value value = document.get().getValue();
+            field.write(instance, field.getValue(document.getValue()));
+        }
 
-            Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
-            if (optionalConverter.isPresent()) {
-                AttributeConverter attributeConverter = converter.getConverters().get(optionalConverter.get());
-                Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
-                field.write(instance, field.getValue(Value.of(attributeConverted)));
-            } else {
-                field.write(instance, field.getValue(value));
-            }
+        @Override
+        public void toDocument(Object value, FieldMapping field, DocumentEntityConverter converter,
+                               List<Document> documents) {
+            documents.add(Document.of(field.getName(), value));
         }
     }
 
-    private static class CollectionEmbeddableConverter implements DocumentFieldConverter {
+    private static class AttributeConverterConverter implements DocumentFieldConverter {
+
+        private final AttributeConverter attributeConverter;
+
+        AttributeConverterConverter(AttributeConverter attributeConverter) {
+            this.attributeConverter = attributeConverter;
+        }
 
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
+        public <T> void convert(T instance, List<Document> documents, Document document,
                                 FieldMapping field, AbstractDocumentEntityConverter converter) {
-            document.ifPresent(convertDocument(instance, field, converter));
+            Object attributeConverted = attributeConverter.convertToEntityAttribute(document.getValue().get());
+            field.write(instance, field.getValue(Value.of(attributeConverted)));
         }
 
-        private <T> Consumer<Document> convertDocument(T instance, FieldMapping field, AbstractDocumentEntityConverter converter) {
-            return document -> {
-                GenericFieldMapping genericField = GenericFieldMapping.class.cast(field);
-                Collection collection = genericField.getCollectionInstance();
-                List<List<Document>> embeddable = (List<List<Document>>) document.get();
-                for (List<Document> documentList : embeddable) {
-                    Object element = converter.toEntity(genericField.getElementType(), documentList);
-                    collection.add(element);
-                }
-                field.write(instance, collection);
-            };
+        @Override
+        public void toDocument(Object value, FieldMapping field, DocumentEntityConverter converter,
+                               List<Document> documents) {
+            documents.add(Document.of(field.getName(), attributeConverter.convertToDatabaseColumn(value)));
         }
     }
 
 
+    private static class CollectionEmbeddableConverter implements DocumentFieldConverter {
+
+        @Override
+        public <T> void convert(T instance, List<Document> documents, Document document, FieldMapping field,
+                                AbstractDocumentEntityConverter converter) {
+
+            if (document == null) {
+                return;
+            }
+            GenericFieldMapping genericField = GenericFieldMapping.class.cast(field);
+            Collection collection = genericField.getCollectionInstance();
+            List<List<Document>> embeddable = (List<List<Document>>) document.get();
+            for (List<Document> documentList : embeddable) {
+                Object element = converter.toEntity(genericField.getElementType(), documentList);
+                collection.add(element);
+            }
+            field.write(instance, collection);
+        }
+
+        @Override
+        public void toDocument(Object value, FieldMapping field, DocumentEntityConverter converter,
+                               List<Document> documents) {
+            List<List<Document>> embeddable = new ArrayList<>();
+            for (Object element : Iterable.class.cast(value)) {
+                embeddable.add(converter.toDocument(element).getDocuments());
+            }
+            documents.add(Document.of(field.getName(), embeddable));
+        }
+    }
 }
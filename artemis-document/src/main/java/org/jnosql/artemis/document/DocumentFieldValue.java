@@ -22,7 +22,11 @@ import java.util.List;
 
 /**
  * The specialist {@link FieldValue} to document
+ *
+ * @deprecated the converter writes the fields through the conversion plan of each entity and no longer creates
+ * this value, it will be removed in a future version
  */
+@Deprecated
 public interface DocumentFieldValue extends FieldValue {
 
     List<Document> toDocument(DocumentEntityConverter converter, Converters converters);
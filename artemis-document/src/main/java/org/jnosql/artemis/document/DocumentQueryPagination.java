@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.artemis.Pagination;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link DocumentQuery} restricted to a {@link Pagination}. The offset pagination replaces the skip and the limit
+ * of the query, and the {@link KeysetPagination} appends the key condition and sorts the rows by the key.
+ */
+final class DocumentQueryPagination implements DocumentQuery {
+
+    private final DocumentQuery query;
+
+    private final long skip;
+
+    private final long limit;
+
+    private final DocumentCondition condition;
+
+    private final List<Sort> sorts;
+
+    private DocumentQueryPagination(DocumentQuery query, long skip, long limit, DocumentCondition condition,
+                                  List<Sort> sorts) {
+        this.query = query;
+        this.skip = skip;
+        this.limit = limit;
+        this.condition = condition;
+        this.sorts = sorts;
+    }
+
+    @Override
+    public long getLimit() {
+        return limit;
+    }
+
+    @Override
+    public long getSkip() {
+        return skip;
+    }
+
+    @Override
+    public String getDocumentCollection() {
+        return query.getDocumentCollection();
+    }
+
+    @Override
+    public Optional<DocumentCondition> getCondition() {
+        return Optional.ofNullable(condition);
+    }
+
+    @Override
+    public List<String> getDocuments() {
+        return query.getDocuments();
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return sorts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DocumentQuery)) {
+            return false;
+        }
+        DocumentQuery that = (DocumentQuery) o;
+        return limit == that.getLimit()
+                && skip == that.getSkip()
+                && Objects.equals(sorts, that.getSorts())
+                && Objects.equals(condition, that.getCondition().orElse(null))
+                && Objects.equals(getDocuments(), that.getDocuments())
+                && Objects.equals(getDocumentCollection(), that.getDocumentCollection());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(limit, skip, getDocumentCollection(), getDocuments(), sorts, condition);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DocumentQueryPagination{");
+        sb.append("limit=").append(limit);
+        sb.append(", skip=").append(skip);
+        sb.append(", documentCollection='").append(getDocumentCollection()).append('\'');
+        sb.append(", documents=").append(getDocuments());
+        sb.append(", sorts=").append(sorts);
+        sb.append(", condition=").append(condition);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    /**
+     * Creates the query of the page of an offset pagination
+     *
+     * @param query      the query
+     * @param pagination the pagination
+     * @return the query restricted to the page
+     * @throws UnsupportedOperationException when the pagination is a {@link KeysetPagination}, which needs the
+     *                                       entity mapping to read the key
+     */
+    static DocumentQuery of(DocumentQuery query, Pagination pagination) {
+        if (pagination instanceof KeysetPagination) {
+            throw new UnsupportedOperationException("The keyset pagination requires the entity mapping");
+        }
+        return new DocumentQueryPagination(query, pagination.getSkip(), pagination.getLimit(),
+                query.getCondition().orElse(null), query.getSorts());
+    }
+
+    /**
+     * Creates the query of the page
+     *
+     * @param query      the query
+     * @param pagination the pagination
+     * @param mapping    the mapping of the entity, used to read the document name of the keyset field
+     * @param converters the converters
+     * @return the query restricted to the page
+     */
+    static DocumentQuery of(DocumentQuery query, Pagination pagination, ClassMapping mapping, Converters converters) {
+        if (!(pagination instanceof KeysetPagination)) {
+            return of(query, pagination);
+        }
+        KeysetPagination keyset = (KeysetPagination) pagination;
+        String name = mapping.getColumnField(keyset.getField());
+
+        List<Sort> sorts = new ArrayList<>();
+        sorts.add(Sort.of(name, Sort.SortType.ASC));
+        query.getSorts().stream().filter(s -> !name.equals(s.getName())).forEach(sorts::add);
+
+        DocumentCondition condition = query.getCondition().orElse(null);
+        if (keyset.getLastValue().isPresent()) {
+            Object value = ConverterUtil.getValue(keyset.getLastValue().get(), mapping, keyset.getField(), converters);
+            DocumentCondition after = DocumentCondition.gt(Document.of(name, value));
+            condition = Objects.isNull(condition) ? after : condition.and(after);
+        }
+        return new DocumentQueryPagination(query, 0L, keyset.getLimit(), condition, sorts);
+    }
+}
@@ -17,8 +17,15 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * This implementation defines the workflow to insert an Entity on {@link DocumentTemplate}.
  * The default implementation follows:
@@ -44,4 +51,36 @@ public interface DocumentWorkflow {
      * DocumentTemplate#update(Object)
      */
     <T> T flow(T entity, UnaryOperator<DocumentEntity> action);
+
+    /**
+     * Executes the workflow to do an interaction on a database document collection with a batch of entities.
+     * It follows the same steps of {@link DocumentWorkflow#flow(Object, UnaryOperator)}, however, all the entities
+     * are converted before the database alteration, which receives the whole batch at once.
+     * The default implementation calls {@link #flow(Object, UnaryOperator)} for each entity, sending a batch of
+     * one entity at a time; implementations should override it to send the whole batch in a single call.
+     *
+     * @param entities the entities to be saved
+     * @param action   the alteration to be executed on database
+     * @param <T>      the entity type
+     * @return after the workflow the entities response
+     * @throws NullPointerException  when either entities, an entity or action is null
+     * @throws IllegalStateException when the database does not return one entity for each entity sent
+     * @see DocumentTemplate#insert(Iterable) DocumentTemplate#insert(Iterable, java.time.Duration)
+     * DocumentTemplate#update(Iterable)
+     */
+    default <T> List<T> batchFlow(List<T> entities, Function<List<DocumentEntity>, Iterable<DocumentEntity>> action) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(action, "action is required");
+        List<T> result = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            result.add(flow(entity, e -> {
+                Iterator<DocumentEntity> saved = action.apply(Collections.singletonList(e)).iterator();
+                if (!saved.hasNext()) {
+                    throw new IllegalStateException("The database did not return the entity saved");
+                }
+                return saved.next();
+            }));
+        }
+        return result;
+    }
 }
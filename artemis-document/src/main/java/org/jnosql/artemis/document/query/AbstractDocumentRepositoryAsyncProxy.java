@@ -21,14 +21,24 @@ import org.jnosql.artemis.Query;
 import org.jnosql.artemis.RepositoryAsync;
 import org.jnosql.artemis.document.DocumentTemplateAsync;
 import org.jnosql.artemis.query.RepositoryType;
+import org.jnosql.artemis.util.CompletionStageUtil;
+import org.jnosql.artemis.util.EntityPublisher;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
+import org.reactivestreams.Publisher;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.jnosql.artemis.util.CompletionStageUtil.isCompletionStage;
+import static org.jnosql.artemis.util.CompletionStageUtil.isOptional;
+import static org.jnosql.artemis.util.CompletionStageUtil.toReturnType;
 
 /**
  * The template method to {@link org.jnosql.artemis.RepositoryAsync} to Document
@@ -53,10 +63,10 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> extends BaseDocume
                 return method.invoke(getRepository(), args);
             case FIND_BY:
                 DocumentQuery query = getQuery(method, args);
-                return executeQuery(getCallBack(args), query);
+                return executeQuery(method, args, query);
             case DELETE_BY:
                 DocumentDeleteQuery deleteQuery = getDeleteQuery(method, args);
-                return executeDelete(args, deleteQuery);
+                return executeDelete(method, args, deleteQuery);
             case OBJECT_METHOD:
                 return method.invoke(this, args);
             case JNOSQL_QUERY:
@@ -67,7 +77,10 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> extends BaseDocume
 
     }
 
-    private Object executeDelete(Object[] args, DocumentDeleteQuery query1) {
+    private Object executeDelete(Method method, Object[] args, DocumentDeleteQuery query1) {
+        if (isCompletionStage(method)) {
+            return toReturnType(method, getTemplate().deleteAsync(query1));
+        }
         Object callBack = getCallBack(args);
         if (Consumer.class.isInstance(callBack)) {
             getTemplate().delete(query1, Consumer.class.cast(callBack));
@@ -81,21 +94,42 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> extends BaseDocume
         return args[args.length - 1];
     }
 
-    private Object executeQuery(Object arg, DocumentQuery query) {
+    private Object executeQuery(Method method, Object[] args, DocumentQuery query) {
+        if (isPublisher(method)) {
+            return getTemplate().selectPublisher(query);
+        }
+        if (isCompletionStage(method)) {
+            if (isOptional(method)) {
+                return toReturnType(method, getTemplate().singleResult(query));
+            }
+            return toReturnType(method, getTemplate().select(query));
+        }
+        Object arg = getCallBack(args);
         if (Consumer.class.isInstance(arg)) {
             getTemplate().select(query, Consumer.class.cast(arg));
         } else {
-            throw new DynamicQueryException("On select async method you must put a java.util.function.Consumer" +
-                    " as end parameter as callback");
+            throw new DynamicQueryException("On select async method you must either return a " +
+                    "java.util.concurrent.CompletionStage or put a java.util.function.Consumer as end parameter" +
+                    " as callback");
         }
         return Void.class;
     }
 
 
     private Object getJnosqlQuery(Method method, Object[] args) {
+        if (isPublisher(method)) {
+            return getPublisher(method, args);
+        }
+        if (isCompletionStage(method)) {
+            return toReturnType(method, executeJnosqlQuery(method, args));
+        }
+        executeJnosqlQuery(method, args, getConsumer(args));
+        return Void.class;
+    }
+
+    private void executeJnosqlQuery(Method method, Object[] args, Consumer<List<T>> consumer) {
         String value = method.getAnnotation(Query.class).value();
         Map<String, Object> params = getParams(method, args);
-        Consumer<List<T>> consumer = getConsumer(args);
         if (params.isEmpty()) {
             getTemplate().query(value, consumer);
         } else {
@@ -103,10 +137,42 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> extends BaseDocume
             params.forEach(prepare::bind);
             prepare.getResultList(consumer);
         }
+    }
 
-        return Void.class;
+    private CompletionStage<?> executeJnosqlQuery(Method method, Object[] args) {
+        String value = method.getAnnotation(Query.class).value();
+        Map<String, Object> params = getParams(method, args);
+        boolean singleResult = isOptional(method);
+        if (params.isEmpty()) {
+            if (singleResult) {
+                return getTemplate().singleResult(value);
+            }
+            return getTemplate().query(value);
+        }
+        PreparedStatementAsync prepare = getTemplate().prepare(value);
+        params.forEach(prepare::bind);
+        if (singleResult) {
+            return CompletionStageUtil.<Optional<T>>toStage(prepare::getSingleResult);
+        }
+        return CompletionStageUtil.<List<T>>toStage(prepare::getResultList);
+    }
+
+    private Publisher<T> getPublisher(Method method, Object[] args) {
+        String value = method.getAnnotation(Query.class).value();
+        Map<String, Object> params = getParams(method, args);
+        if (params.isEmpty()) {
+            return getTemplate().queryPublisher(value);
+        }
+        PreparedStatementAsync prepare = getTemplate().prepare(value);
+        params.forEach(prepare::bind);
+        return EntityPublisher.<T, T>of(prepare::getResultList, Function.identity());
     }
 
+    private boolean isPublisher(Method method) {
+        return Publisher.class.equals(method.getReturnType());
+    }
+
+
     private Consumer<List<T>> getConsumer(Object[] args) {
         Consumer<List<T>> consumer;
         Object callBack = getCallback(args);
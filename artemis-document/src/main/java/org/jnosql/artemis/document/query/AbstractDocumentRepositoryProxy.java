@@ -15,11 +15,13 @@
 package org.jnosql.artemis.document.query;
 
 
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.artemis.Query;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.document.DocumentTemplate;
 import org.jnosql.artemis.query.RepositoryType;
+import org.jnosql.artemis.util.PaginationUtil;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
 
@@ -27,6 +29,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.jnosql.artemis.document.query.ReturnTypeConverterUtil.returnObject;
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
@@ -54,11 +57,9 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
             case DEFAULT:
                 return method.invoke(getRepository(), args);
             case FIND_BY:
-                DocumentQuery query = getQuery(method, args);
-                return returnObject(query, getTemplate(), typeClass, method);
+                return executeQuery(getQuery(method, args), method, args, typeClass);
             case FIND_ALL:
-                return returnObject(select().from(getClassMapping().getName()).build(), getTemplate(),
-                        typeClass, method);
+                return executeQuery(select().from(getClassMapping().getName()).build(), method, args, typeClass);
             case DELETE_BY:
                 DocumentDeleteQuery documentDeleteQuery = getDeleteQuery(method, args);
                 getTemplate().delete(documentDeleteQuery);
@@ -72,6 +73,15 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
         }
     }
 
+    private Object executeQuery(DocumentQuery query, Method method, Object[] args, Class<?> typeClass) {
+        Optional<Pagination> pagination = PaginationUtil.getPagination(args);
+        if (pagination.isPresent()) {
+            List<T> entities = getTemplate().select(query, pagination.get());
+            return ReturnTypeConverterUtil.returnObject(entities, typeClass, method);
+        }
+        return returnObject(query, getTemplate(), typeClass, method);
+    }
+
     private Object getJnosqlQuery(Method method, Object[] args, Class<?> typeClass) {
         String value = method.getAnnotation(Query.class).value();
         Map<String, Object> params = getParams(method, args);
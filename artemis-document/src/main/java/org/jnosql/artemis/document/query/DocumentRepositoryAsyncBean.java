@@ -19,6 +19,7 @@ import org.jnosql.artemis.DatabaseQualifier;
 import org.jnosql.artemis.DatabaseType;
 import org.jnosql.artemis.RepositoryAsync;
 import org.jnosql.artemis.document.DocumentTemplateAsync;
+import org.jnosql.artemis.query.RepositoryQueries;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.util.AnnotationLiteralUtil;
 
@@ -51,6 +52,8 @@ public class DocumentRepositoryAsyncBean implements Bean<RepositoryAsync>, Passi
 
     private final Set<Annotation> qualifiers;
 
+    private final RepositoryQueries queries;
+
     /**
      * Constructor
      *
@@ -59,6 +62,19 @@ public class DocumentRepositoryAsyncBean implements Bean<RepositoryAsync>, Passi
      * @param provider    the provider name, that must be a
      */
     public DocumentRepositoryAsyncBean(Class type, BeanManager beanManager, String provider) {
+        this(type, beanManager, provider, RepositoryQueries.empty());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param type        the tye
+     * @param beanManager the beanManager
+     * @param provider    the provider name, that must be a
+     * @param queries     the queries of the repository methods already parsed by the extension
+     */
+    public DocumentRepositoryAsyncBean(Class type, BeanManager beanManager, String provider, RepositoryQueries queries) {
+        this.queries = queries;
         this.type = type;
         this.beanManager = beanManager;
         this.types = Collections.singleton(type);
@@ -95,7 +111,7 @@ public class DocumentRepositoryAsyncBean implements Bean<RepositoryAsync>, Passi
         Converters converters = getInstance(Converters.class);
 
         DocumentRepositoryAsyncProxy handler = new DocumentRepositoryAsyncProxy(repository,
-                classMappings, type, converters);
+                classMappings, type, converters, queries);
         return (RepositoryAsync) Proxy.newProxyInstance(type.getClassLoader(),
                 new Class[]{type},
                 handler);
@@ -18,6 +18,7 @@ package org.jnosql.artemis.document.query;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.RepositoryAsync;
 import org.jnosql.artemis.document.DocumentTemplateAsync;
+import org.jnosql.artemis.query.RepositoryQueries;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 
@@ -52,6 +53,13 @@ class DocumentRepositoryAsyncProxy<T> extends AbstractDocumentRepositoryAsyncPro
         this.converters = converters;
     }
 
+    DocumentRepositoryAsyncProxy(DocumentTemplateAsync template, ClassMappings classMappings,
+                                 Class<?> repositoryType, Converters converters,
+                                 RepositoryQueries queries) {
+        this(template, classMappings, repositoryType, converters);
+        putQueries(queries);
+    }
+
     @Override
     protected RepositoryAsync getRepository() {
         return repository;
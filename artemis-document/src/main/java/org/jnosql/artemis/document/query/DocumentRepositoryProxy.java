@@ -18,6 +18,7 @@ package org.jnosql.artemis.document.query;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.document.DocumentTemplate;
+import org.jnosql.artemis.query.RepositoryQueries;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 
@@ -50,6 +51,13 @@ class DocumentRepositoryProxy<T> extends AbstractDocumentRepositoryProxy<T> {
         this.converters = converters;
     }
 
+    DocumentRepositoryProxy(DocumentTemplate template, ClassMappings classMappings,
+                            Class<?> repositoryType, Converters converters,
+                            RepositoryQueries queries) {
+        this(template, classMappings, repositoryType, converters);
+        putQueries(queries);
+    }
+
 
     @Override
     protected Repository getRepository() {
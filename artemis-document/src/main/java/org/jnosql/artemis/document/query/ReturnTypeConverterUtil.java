@@ -55,7 +55,7 @@ final class ReturnTypeConverterUtil {
         } else if (Queue.class.equals(returnType)) {
             return new PriorityQueue<>(repository.select(query));
         } else if (Stream.class.equals(returnType)) {
-            return repository.select(query).stream();
+            return repository.stream(query);
         }
 
         return repository.select(query);
@@ -15,12 +15,16 @@
 package org.jnosql.artemis.document.spi;
 
 
+import org.jnosql.aphrodite.antlr.method.DeleteMethodFactory;
+import org.jnosql.aphrodite.antlr.method.SelectMethodFactory;
 import org.jnosql.artemis.DatabaseMetadata;
 import org.jnosql.artemis.Databases;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.RepositoryAsync;
 import org.jnosql.artemis.document.query.DocumentRepositoryAsyncBean;
 import org.jnosql.artemis.document.query.RepositoryDocumentBean;
+import org.jnosql.artemis.query.RepositoryQueries;
+import org.jnosql.artemis.reflection.ClassMappingExtension;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 
@@ -34,6 +38,7 @@ import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -96,6 +101,10 @@ public class DocumentCollectionProducerExtension implements Extension {
         LOGGER.info(String.format("Starting to process on documents: %d databases crud %d and crudAsync %d",
                 databases.size(), crudTypes.size(), crudAsyncTypes.size()));
 
+        Collection<Class<?>> repositories = new HashSet<>(crudTypes);
+        repositories.addAll(crudAsyncTypes);
+        Map<Class<?>, RepositoryQueries> queries = parseQueries(afterBeanDiscovery, beanManager, repositories);
+
         databases.forEach(type -> {
             final DocumentTemplateBean bean = new DocumentTemplateBean(beanManager, type.getProvider());
             afterBeanDiscovery.addBean(bean);
@@ -107,26 +116,39 @@ public class DocumentCollectionProducerExtension implements Extension {
         });
 
         crudTypes.forEach(type -> {
+            RepositoryQueries typeQueries = queries.getOrDefault(type, RepositoryQueries.empty());
             if (!databases.contains(DatabaseMetadata.DEFAULT_DOCUMENT)) {
-                afterBeanDiscovery.addBean(new RepositoryDocumentBean(type, beanManager, ""));
+                afterBeanDiscovery.addBean(new RepositoryDocumentBean(type, beanManager, "", typeQueries));
             }
             databases.forEach(database -> {
-                final RepositoryDocumentBean bean = new RepositoryDocumentBean(type, beanManager, database.getProvider());
+                final RepositoryDocumentBean bean = new RepositoryDocumentBean(type, beanManager,
+                        database.getProvider(), typeQueries);
                 afterBeanDiscovery.addBean(bean);
             });
         });
 
         crudAsyncTypes.forEach(type -> {
+            RepositoryQueries typeQueries = queries.getOrDefault(type, RepositoryQueries.empty());
             if (!databases.contains(DatabaseMetadata.DEFAULT_DOCUMENT)) {
-                afterBeanDiscovery.addBean(new DocumentRepositoryAsyncBean(type, beanManager, ""));
+                afterBeanDiscovery.addBean(new DocumentRepositoryAsyncBean(type, beanManager, "", typeQueries));
             }
             databasesAsync.forEach(database -> {
                 final DocumentRepositoryAsyncBean bean = new DocumentRepositoryAsyncBean(type, beanManager,
-                        database.getProvider());
+                        database.getProvider(), typeQueries);
                 afterBeanDiscovery.addBean(bean);
             });
         });
 
     }
 
+    private Map<Class<?>, RepositoryQueries> parseQueries(AfterBeanDiscovery afterBeanDiscovery,
+                                                          BeanManager beanManager,
+                                                          Collection<Class<?>> repositories) {
+        ClassMappingExtension extension = beanManager.getExtension(ClassMappingExtension.class);
+        Map<Class<?>, RepositoryQueries> queries = RepositoryQueries.parse(repositories, extension.getClasses(),
+                SelectMethodFactory.get()::apply, DeleteMethodFactory.get()::apply);
+        queries.values().stream().flatMap(q -> q.getErrors().stream())
+                .forEach(afterBeanDiscovery::addDefinitionError);
+        return queries;
+    }
 }
@@ -17,12 +17,14 @@ package org.jnosql.artemis.document;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.artemis.model.Job;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.jnosql.diana.api.document.DocumentCondition;
@@ -43,7 +45,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -178,11 +182,13 @@ public class DefaultDocumentTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class), Mockito.eq(duration)))
-                .thenReturn(documentEntity);
+                .insert(any(Iterable.class), Mockito.eq(duration)))
+                .thenReturn(Arrays.asList(documentEntity, documentEntity));
 
         subject.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class), any(Duration.class));
+        verify(managerMock).insert(any(Iterable.class), any(Duration.class));
+        verify(documentEventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(documentEventPersistManager, times(2)).firePostEntity(any(Person.class));
     }
 
     @Test
@@ -191,11 +197,39 @@ public class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .insert(any(Iterable.class)))
+                .thenReturn(Arrays.asList(documentEntity, documentEntity));
+
+        Iterable<Person> entities = subject.insert(Arrays.asList(person, person));
+        verify(managerMock).insert(any(Iterable.class));
+        verify(documentEventPersistManager, times(2)).firePreDocument(any(DocumentEntity.class));
+        verify(documentEventPersistManager, times(2)).firePostDocument(any(DocumentEntity.class));
+        assertEquals(2L, StreamSupport.stream(entities.spliterator(), false).count());
+    }
+
+    @Test
+    public void shouldInsertEntitiesInBatches() {
+        Mockito.when(managerMock.insert(any(Iterable.class))).then(i -> i.getArgument(0));
+
+        List<Person> people = IntStream.range(0, 250).mapToObj(i -> person).collect(Collectors.toList());
+        subject.insert(people);
+
+        ArgumentCaptor<Iterable> batches = ArgumentCaptor.forClass(Iterable.class);
+        verify(managerMock, times(3)).insert(batches.capture());
+        List<Long> sizes = batches.getAllValues().stream()
+                .map(b -> StreamSupport.stream(b.spliterator(), false).count())
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(100L, 100L, 50L), sizes);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTheDatabaseReturnsFewerEntities() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        Mockito.when(managerMock
+                .insert(any(Iterable.class)))
+                .thenReturn(singletonList(entity));
 
-        subject.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class));
+        Assertions.assertThrows(IllegalStateException.class, () -> subject.insert(Arrays.asList(person, person)));
     }
 
     @Test
@@ -204,11 +238,11 @@ public class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .update(any(Iterable.class)))
+                .thenReturn(Arrays.asList(documentEntity, documentEntity));
 
         subject.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(DocumentEntity.class));
+        verify(managerMock).update(any(Iterable.class));
     }
 
 
@@ -227,6 +261,49 @@ public class DefaultDocumentTemplateTest {
         verify(managerMock).select(query);
     }
 
+    @Test
+    public void shouldStream() {
+        DocumentEntity document = DocumentEntity.of("Person");
+        document.addAll(Stream.of(documents).collect(Collectors.toList()));
+
+        Mockito.when(managerMock
+                .select(any(DocumentQuery.class)))
+                .thenReturn(Arrays.asList(document, document));
+
+        DocumentQuery query = select().from("person").build();
+        Stream<Person> people = subject.stream(query);
+        verify(documentEventPersistManager).firePreQuery(query);
+        assertEquals(2L, people.count());
+    }
+
+    @Test
+    public void shouldSelectWithPagination() {
+        DocumentQuery query = select().from("Person").where("name").eq("Ada").build();
+        subject.select(query, Pagination.of(10L, 5L));
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        DocumentQuery page = queryCaptor.getValue();
+        assertEquals("Person", page.getDocumentCollection());
+        assertEquals(10L, page.getSkip());
+        assertEquals(5L, page.getLimit());
+        assertEquals(query.getCondition(), page.getCondition());
+    }
+
+    @Test
+    public void shouldSelectWithKeysetPagination() {
+        DocumentQuery query = select().from("Person").where("name").eq("Ada").build();
+        subject.select(query, Pagination.keyset("id", 19L, 5L));
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        DocumentQuery page = queryCaptor.getValue();
+        assertEquals(0L, page.getSkip());
+        assertEquals(5L, page.getLimit());
+        assertEquals(singletonList(Sort.of("_id", Sort.SortType.ASC)), page.getSorts());
+        DocumentCondition expected = DocumentCondition.eq(Document.of("name", "Ada"))
+                .and(DocumentCondition.gt(Document.of("_id", 19L)));
+        assertEquals(expected, page.getCondition().get());
+    }
+
 
     @Test
     public void shouldReturnSingleResult() {
@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.document.DocumentFieldConverters.DocumentFieldConverterFactory;
+import org.jnosql.artemis.model.AppointmentBook;
+import org.jnosql.artemis.model.Contact;
+import org.jnosql.artemis.model.ContactType;
+import org.jnosql.artemis.model.Job;
+import org.jnosql.artemis.model.Money;
+import org.jnosql.artemis.model.Worker;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.diana.api.document.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(CDIExtension.class)
+public class DocumentEntityPlanTest {
+
+    @Inject
+    private DefaultDocumentEntityConverter converter;
+
+    @Inject
+    private ClassMappings classMappings;
+
+    @Inject
+    private Converters converters;
+
+    private DocumentFieldConverterFactory factory;
+
+    @BeforeEach
+    public void setUp() {
+        factory = new DocumentFieldConverterFactory();
+    }
+
+    @Test
+    public void shouldWriteEmbeddedAndConvertedFields() {
+        DocumentEntityPlan plan = getPlan(Worker.class);
+
+        List<Document> documents = plan.toDocuments(getWorker(), converter);
+
+        assertEquals("Worker", plan.getName());
+        assertThat(documents, containsInAnyOrder(Document.of("name", "Bob"), Document.of("city", "Sao Paulo"),
+                Document.of("description", "Java Developer"), Document.of("money", "BRL 10")));
+    }
+
+    @Test
+    public void shouldSkipNullFields() {
+        Worker worker = new Worker();
+        worker.setName("Bob");
+
+        List<Document> documents = getPlan(Worker.class).toDocuments(worker, converter);
+
+        assertEquals(singletonList(Document.of("name", "Bob")), documents);
+    }
+
+    @Test
+    public void shouldReadEmbeddedAndConvertedFields() {
+        List<Document> documents = asList(Document.of("name", "Bob"), Document.of("city", "Sao Paulo"),
+                Document.of("description", "Java Developer"), Document.of("money", "BRL 10"));
+
+        Worker worker = getPlan(Worker.class).toEntity(new Worker(), documents, converter);
+
+        assertEquals("Bob", worker.getName());
+        assertEquals(new Money("BRL", BigDecimal.TEN), worker.getSalary());
+        assertEquals("Sao Paulo", worker.getJob().getCity());
+        assertEquals("Java Developer", worker.getJob().getDescription());
+    }
+
+    @Test
+    public void shouldWriteAndReadEmbeddableCollection() {
+        AppointmentBook appointmentBook = getAppointmentBook();
+        DocumentEntityPlan plan = getPlan(AppointmentBook.class);
+
+        List<Document> documents = plan.toDocuments(appointmentBook, converter);
+        Document contacts = documents.stream().filter(c -> c.getName().equals("contacts")).findFirst().get();
+        List<List<Document>> embeddable = (List<List<Document>>) contacts.get();
+        AppointmentBook result = plan.toEntity(new AppointmentBook(null), documents, converter);
+
+        assertEquals(2, embeddable.size());
+        assertThat(embeddable.get(0), containsInAnyOrder(Document.of("name", "Ada"),
+                Document.of("type", ContactType.EMAIL), Document.of("information", "ada@lovelace.com")));
+        assertEquals("ids", result.getId());
+        assertEquals(appointmentBook.getContacts(), result.getContacts());
+    }
+
+    @Test
+    public void shouldNotWriteEmbeddableCollectionWhenItIsMissing() {
+        AppointmentBook result = getPlan(AppointmentBook.class).toEntity(new AppointmentBook(null),
+                singletonList(Document.of("_id", "ids")), converter);
+
+        assertEquals("ids", result.getId());
+        assertTrue(result.getContacts().isEmpty());
+    }
+
+    @Test
+    public void shouldWriteTheDeprecatedFieldValueWithThePlan() {
+        Worker worker = getWorker();
+        ClassMapping mapping = classMappings.get(Worker.class);
+        List<Document> documents = new ArrayList<>();
+        for (FieldMapping field : mapping.getFields()) {
+            DocumentFieldValue value = DefaultDocumentFieldValue.of(field.read(worker), field,
+                    getPlan(Worker.class).getConverter(field).get());
+            documents.addAll(value.toDocument(converter, converters));
+        }
+
+        assertEquals(getPlan(Worker.class).toDocuments(worker, converter), documents);
+    }
+
+    @Test
+    public void shouldReadTheDeprecatedFeedObjectWithThePlan() {
+        List<Document> documents = asList(Document.of("name", "Bob"), Document.of("city", "Sao Paulo"),
+                Document.of("description", "Java Developer"), Document.of("money", "BRL 10"));
+        Map<String, FieldMapping> fields = classMappings.get(Worker.class).getFieldsGroupByName();
+        Worker worker = new Worker();
+
+        Consumer<String> feedObject = converter.feedObject(worker, documents, fields);
+        feedObject.accept("money");
+        assertEquals(new Money("BRL", BigDecimal.TEN), worker.getSalary());
+        assertNull(worker.getJob());
+
+        feedObject.accept("job");
+        assertEquals("Sao Paulo", worker.getJob().getCity());
+    }
+
+    private DocumentEntityPlan getPlan(Class<?> entityClass) {
+        return DocumentEntityPlan.of(classMappings.get(entityClass), factory, converters);
+    }
+
+    private Worker getWorker() {
+        Job job = new Job();
+        job.setCity("Sao Paulo");
+        job.setDescription("Java Developer");
+        Worker worker = new Worker();
+        worker.setName("Bob");
+        worker.setSalary(new Money("BRL", BigDecimal.TEN));
+        worker.setJob(job);
+        return worker;
+    }
+
+    private AppointmentBook getAppointmentBook() {
+        AppointmentBook appointmentBook = new AppointmentBook("ids");
+        appointmentBook.add(Contact.builder().withType(ContactType.EMAIL).withName("Ada")
+                .withInformation("ada@lovelace.com").build());
+        appointmentBook.add(Contact.builder().withType(ContactType.MOBILE).withName("Ada")
+                .withInformation("11 1231231 123").build());
+        return appointmentBook;
+    }
+}
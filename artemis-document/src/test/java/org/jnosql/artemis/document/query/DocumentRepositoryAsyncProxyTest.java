@@ -37,12 +37,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
+import org.reactivestreams.Publisher;
 
 import javax.inject.Inject;
 import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static java.util.Collections.singletonList;
@@ -267,6 +270,76 @@ public class DocumentRepositoryAsyncProxyTest {
     }
 
 
+    @Test
+    public void shouldFindByAgeAsCompletionStage() throws Exception {
+        Person ada = Person.builder().withAge(20).withName("Ada").build();
+        when(template.select(any(DocumentQuery.class)))
+                .thenReturn(CompletableFuture.completedFuture(singletonList(ada)));
+
+        CompletionStage<List<Person>> stage = personRepository.findByAge(20);
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        DocumentCondition condition = query.getCondition().get();
+        assertEquals("Person", query.getDocumentCollection());
+        assertEquals(Condition.EQUALS, condition.getCondition());
+        assertEquals(Document.of("age", 20), condition.getDocument());
+        assertEquals(singletonList(ada), stage.toCompletableFuture().get());
+    }
+
+    @Test
+    public void shouldFindByNameAndAgeAsCompletableFuture() throws Exception {
+        Person ada = Person.builder().withAge(20).withName("Ada").build();
+        when(template.singleResult(any(DocumentQuery.class)))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(ada)));
+
+        CompletableFuture<Optional<Person>> future = personRepository.findByNameAndAge("Ada", 20);
+        verify(template).singleResult(any(DocumentQuery.class));
+        assertEquals(Optional.of(ada), future.get());
+    }
+
+    @Test
+    public void shouldDeleteByAgeAsCompletionStage() {
+        CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+        when(template.deleteAsync(any(DocumentDeleteQuery.class))).thenReturn(future);
+
+        CompletionStage<Void> stage = personRepository.deleteByAge(20);
+        ArgumentCaptor<DocumentDeleteQuery> captor = ArgumentCaptor.forClass(DocumentDeleteQuery.class);
+        verify(template).deleteAsync(captor.capture());
+        DocumentCondition condition = captor.getValue().getCondition().get();
+        assertEquals(Document.of("age", 20), condition.getDocument());
+        assertEquals(future, stage);
+    }
+
+    @Test
+    public void shouldExecuteJNoSQLQueryAsCompletionStage() throws Exception {
+        Person ada = Person.builder().withAge(20).withName("Ada").build();
+        when(template.singleResult("select * from Person where age = 20"))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(ada)));
+
+        CompletionStage<Optional<Person>> stage = personRepository.findByQueryAge();
+        assertEquals(Optional.of(ada), stage.toCompletableFuture().get());
+    }
+
+    @Test
+    public void shouldFindByNameAsPublisher() {
+        Publisher<Person> publisher = Mockito.mock(Publisher.class);
+        when(template.<Person>selectPublisher(any(DocumentQuery.class))).thenReturn(publisher);
+
+        assertEquals(publisher, personRepository.findByNameOrderByAge("Ada"));
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).selectPublisher(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals(Sort.of("age", Sort.SortType.ASC), query.getSorts().get(0));
+    }
+
+    @Test
+    public void shouldExecuteJNoSQLQueryAsPublisher() {
+        Publisher<Person> publisher = Mockito.mock(Publisher.class);
+        when(template.<Person>queryPublisher("select * from Person")).thenReturn(publisher);
+        assertEquals(publisher, personRepository.findByQueryPublisher());
+    }
+
     interface PersonAsyncRepository extends RepositoryAsync<Person, Long> {
 
         void deleteByName(String name);
@@ -284,6 +357,20 @@ public class DocumentRepositoryAsyncProxyTest {
 
         @Query("select * from Person where id = @id")
         void findByQuery(@Param("id") String id, Consumer<List<Person>> calback);
+
+        CompletionStage<List<Person>> findByAge(Integer age);
+
+        CompletableFuture<Optional<Person>> findByNameAndAge(String name, Integer age);
+
+        CompletionStage<Void> deleteByAge(Integer age);
+
+        @Query("select * from Person where age = 20")
+        CompletionStage<Optional<Person>> findByQueryAge();
+
+        Publisher<Person> findByNameOrderByAge(String name);
+
+        @Query("select * from Person")
+        Publisher<Person> findByQueryPublisher();
     }
 
 }
\ No newline at end of file
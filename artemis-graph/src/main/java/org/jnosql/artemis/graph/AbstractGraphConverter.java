@@ -29,6 +29,7 @@ import org.jnosql.diana.api.Value;
 import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -36,6 +37,7 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
@@ -44,6 +46,7 @@ import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
 
 abstract class AbstractGraphConverter implements GraphConverter {
 
+    private static final int ENDPOINTS_SIZE = 1_000;
 
     protected abstract ClassMappings getClassMappings();
 
@@ -54,7 +57,16 @@ abstract class AbstractGraphConverter implements GraphConverter {
     @Override
     public <T> Vertex toVertex(T entity) {
         requireNonNull(entity, "entity is required");
+        return toVertex(entity, true);
+    }
+
+    @Override
+    public <T> Vertex toNewVertex(T entity) {
+        requireNonNull(entity, "entity is required");
+        return toVertex(entity, false);
+    }
 
+    private <T> Vertex toVertex(T entity, boolean lookup) {
         ClassMapping mapping = getClassMappings().get(entity.getClass());
         String label = mapping.getName();
 
@@ -64,7 +76,7 @@ abstract class AbstractGraphConverter implements GraphConverter {
 
         Optional<FieldGraph> id = fields.stream().filter(FieldGraph::isId).findFirst();
         final Function<Property, Vertex> findVertexOrCreateWithId = p -> {
-            Iterator<Vertex> vertices = getGraph().vertices(p.value());
+            Iterator<Vertex> vertices = lookup ? getGraph().vertices(p.value()) : Collections.emptyIterator();
             return vertices.hasNext() ? vertices.next() :
                     getGraph().addVertex(org.apache.tinkerpop.gremlin.structure.T.label, label,
                             org.apache.tinkerpop.gremlin.structure.T.id, p.value());
@@ -74,6 +86,10 @@ abstract class AbstractGraphConverter implements GraphConverter {
                 .map(findVertexOrCreateWithId)
                 .orElseGet(() -> getGraph().addVertex(label));
 
+        if (!lookup && !id.isPresent()) {
+            feedId(vertex, entity);
+        }
+
         fields.stream().filter(FieldGraph::isNotId)
                 .flatMap(f -> f.toElements(this, getConverters()).stream())
                 .forEach(p -> vertex.property(p.key(), p.value()));
@@ -138,6 +154,48 @@ abstract class AbstractGraphConverter implements GraphConverter {
         return EdgeEntity.of(out, edge, in);
     }
 
+    @Override
+    public Function<Edge, EdgeEntity> getEdgeEntityConverter(boolean deferred) {
+        return getEdgeEntityConverter(this::toEntity, deferred);
+    }
+
+    /**
+     * Returns a function that converts the edges of a same result, where a vertex shared by more than one edge
+     * is converted once
+     *
+     * @param converter the converter of the vertices
+     * @param deferred  whether the vertices are converted at the first access instead of with the edge
+     * @return a function that converts {@link Edge} to {@link EdgeEntity}
+     */
+    static Function<Edge, EdgeEntity> getEdgeEntityConverter(Function<Vertex, Object> converter, boolean deferred) {
+        Map<Object, Object> entities = getEndpoints();
+        return edge -> {
+            requireNonNull(edge, "edge is required");
+            Vertex out = edge.outVertex();
+            Vertex in = edge.inVertex();
+            Supplier<Object> outgoing = () -> entities.computeIfAbsent(out.id(), id -> converter.apply(out));
+            Supplier<Object> incoming = () -> entities.computeIfAbsent(in.id(), id -> converter.apply(in));
+            if (deferred) {
+                return new DefaultEdgeEntity<>(edge, incoming, outgoing);
+            }
+            Object outEntity = outgoing.get();
+            return new DefaultEdgeEntity<>(edge, incoming.get(), outEntity);
+        };
+    }
+
+    /**
+     * The vertices already converted in a result, bounded to the most recently used ones, so a lazy result
+     * does not keep every vertex it went through
+     */
+    private static Map<Object, Object> getEndpoints() {
+        return Collections.synchronizedMap(new LinkedHashMap<Object, Object>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                return size() > ENDPOINTS_SIZE;
+            }
+        });
+    }
+
     @Override
     public Edge toEdge(EdgeEntity edge) {
         requireNonNull(edge, "vertex is required");
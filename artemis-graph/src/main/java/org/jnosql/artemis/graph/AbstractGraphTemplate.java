@@ -14,9 +14,11 @@
  */
 package org.jnosql.artemis.graph;
 
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -34,9 +36,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -64,22 +69,89 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
 
     protected abstract GraphWorkflow getFlow();
 
+    private volatile Optional<EntityCache> cache;
+
     private GremlinExecutor gremlinExecutor;
 
+    private volatile GraphConverter readConverter;
+
     private GremlinExecutor getExecutor() {
         if (Objects.isNull(gremlinExecutor)) {
-            this.gremlinExecutor = new GremlinExecutor(getConverter());
+            this.gremlinExecutor = new GremlinExecutor(getReadConverter());
         }
         return gremlinExecutor;
     }
 
+    private GraphConverter getReadConverter() {
+        Optional<EntityCache> cache = getCache();
+        if (!cache.isPresent()) {
+            return getConverter();
+        }
+        if (Objects.isNull(readConverter)) {
+            this.readConverter = new CachedGraphConverter(getConverter(), cache.get());
+        }
+        return readConverter;
+    }
+
+    private Optional<EntityCache> getCache() {
+        if (Objects.isNull(cache)) {
+            this.cache = EntityCaches.get(getCacheGraph());
+        }
+        return cache;
+    }
+
+    /**
+     * The graph whose {@link EntityCache} this template shares with the other templates of the same graph.
+     * It must be the graph itself, not the threaded transaction of the current thread.
+     *
+     * @return the graph
+     */
+    Graph getCacheGraph() {
+        return getTraversal().getGraph();
+    }
+
+    /**
+     * Listens to the transaction to update the entity cache when it either commits or rolls back
+     *
+     * @param transaction the transaction
+     * @return the transaction
+     */
+    Transaction listen(Transaction transaction) {
+        return getCache().map(c -> c.listen(transaction)).orElse(transaction);
+    }
+
     @Override
     public <T> T insert(T entity) {
         requireNonNull(entity, "entity is required");
         checkId(entity);
-        UnaryOperator<Vertex> save = v -> v;
+        UnaryOperator<Vertex> save = v -> {
+            invalidate(v);
+            return v;
+        };
+
+        T saved = getFlow().flow(entity, save);
+        TransactionContext.operation(getGraph());
+        return saved;
+    }
+
+    @Override
+    public <T> BulkLoadResult insert(Stream<T> entities, BulkLoadOptions options) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        UnaryOperator<Vertex> save = v -> {
+            invalidate(v);
+            return v;
+        };
+        return new GraphBulkLoader(getGraph(), getConverter(), getFlow(), getClassMappings(), options)
+                .insert(entities, save);
+    }
 
-        return getFlow().flow(entity, save);
+    @Override
+    public BulkLoadResult insertEdges(Stream<? extends EdgeDescriptor<?, ?>> edges, BulkLoadOptions options) {
+        requireNonNull(edges, "edges is required");
+        requireNonNull(options, "options is required");
+        return new GraphBulkLoader(getGraph(), getConverter(), getFlow(), getClassMappings(), options)
+                .insertEdges(edges, this);
     }
 
     @Override
@@ -89,17 +161,25 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         if (isIdNull(entity)) {
             throw new NullPointerException("to update a graph id cannot be null");
         }
-        getVertex(entity).orElseThrow(() -> new EntityNotFoundException("Entity does not find in the update"));
+        Vertex vertex = getVertex(entity)
+                .orElseThrow(() -> new EntityNotFoundException("Entity does not find in the update"));
 
         UnaryOperator<Vertex> update = e -> getConverter().toVertex(entity);
-        return getFlow().flow(entity, update);
+        T updated = getFlow().flow(entity, update);
+        invalidate(vertex);
+        TransactionContext.operation(getGraph());
+        return updated;
     }
 
     @Override
     public <T> void delete(T idValue) {
         requireNonNull(idValue, "id is required");
         List<Vertex> vertices = getTraversal().V(idValue).toList();
-        vertices.forEach(Vertex::remove);
+        vertices.forEach(v -> {
+            invalidate(v);
+            v.remove();
+        });
+        TransactionContext.operation(getGraph());
 
     }
 
@@ -108,13 +188,14 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         requireNonNull(idEdge, "idEdge is required");
         List<Edge> edges = getTraversal().E(idEdge).toList();
         edges.forEach(Edge::remove);
+        TransactionContext.operation(getGraph());
     }
 
     @Override
     public <T, ID> Optional<T> find(ID idValue) {
         requireNonNull(idValue, "id is required");
         Optional<Vertex> vertex = getTraversal().V(idValue).tryNext();
-        return vertex.map(getConverter()::toEntity);
+        return vertex.map(getReadConverter()::toEntity);
     }
 
     @Override
@@ -148,10 +229,74 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         Optional<Edge> edge = getTraversal().V(outVertex.id())
                 .out(label).has(id, inVertex.id()).inE(label).filter(predicate).tryNext();
 
-        return edge.<EdgeEntity>map(edge1 -> new DefaultEdgeEntity<>(edge1, incoming, outgoing))
+        EdgeEntity edgeEntity = edge.<EdgeEntity>map(edge1 -> new DefaultEdgeEntity<>(edge1, incoming, outgoing))
                 .orElseGet(() -> new DefaultEdgeEntity<>(outVertex.addEdge(label, inVertex), incoming, outgoing));
+        TransactionContext.operation(getGraph());
+        return edgeEntity;
+
+
+    }
 
+    @Override
+    public <OUT, IN> List<EdgeEntity> edges(OUT outgoing, String label, Iterable<IN> incomings) {
+        requireNonNull(outgoing, "outgoing is required");
+        requireNonNull(label, "label is required");
+        requireNonNull(incomings, "incomings is required");
+
+        checkId(outgoing);
+        if (isIdNull(outgoing)) {
+            throw new NullPointerException("outgoing Id field is required");
+        }
+
+        Map<Object, IN> entities = new LinkedHashMap<>();
+        for (IN incoming : incomings) {
+            requireNonNull(incoming, "incoming is required");
+            checkId(incoming);
+            Object incomingId = getId(incoming);
+            if (isNull(incomingId)) {
+                throw new NullPointerException("incoming Id field is required");
+            }
+            entities.putIfAbsent(incomingId, incoming);
+        }
+        if (entities.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Vertex outVertex = getVertex(outgoing)
+                .orElseThrow(() -> new EntityNotFoundException("Outgoing entity does not found"));
+        Map<Object, Vertex> inVertices = getTraversal().V(entities.keySet().toArray()).toList().stream()
+                .collect(Collectors.toMap(Vertex::id, Function.identity(), (a, b) -> a));
+
+        List<Vertex> vertices = new ArrayList<>(entities.size());
+        for (Object incomingId : entities.keySet()) {
+            Vertex inVertex = inVertices.get(incomingId);
+            if (isNull(inVertex)) {
+                Iterator<Vertex> iterator = getVertices(incomingId);
+                if (!iterator.hasNext()) {
+                    throw new EntityNotFoundException("Incoming entity does not found with the id: " + incomingId);
+                }
+                inVertex = iterator.next();
+            }
+            vertices.add(inVertex);
+        }
 
+        Set<Object> inIds = vertices.stream().map(Vertex::id).collect(Collectors.toSet());
+        Map<Object, Edge> existing = getTraversal().V(outVertex.id()).outE(label)
+                .where(__.inV().hasId(P.within(inIds))).toList().stream()
+                .collect(Collectors.toMap(e -> e.inVertex().id(), Function.identity(), (a, b) -> a));
+
+        List<EdgeEntity> edges = new ArrayList<>(vertices.size());
+        Iterator<IN> incomingIterator = entities.values().iterator();
+        for (Vertex inVertex : vertices) {
+            IN incoming = incomingIterator.next();
+            Edge edge = existing.get(inVertex.id());
+            if (isNull(edge)) {
+                edge = outVertex.addEdge(label, inVertex);
+                TransactionContext.operation(getGraph());
+            }
+            edges.add(new DefaultEdgeEntity<>(edge, incoming, outgoing));
+        }
+        return edges;
     }
 
     @Override
@@ -162,7 +307,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
 
         if (edgeOptional.isPresent()) {
             Edge edge = edgeOptional.get();
-            return Optional.of(getConverter().toEdgeEntity(edge));
+            return Optional.of(getReadConverter().toEdgeEntity(edge));
         }
 
         return Optional.empty();
@@ -211,7 +356,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         if (Stream.of(vertexIds).anyMatch(Objects::isNull)) {
             throw new NullPointerException("No one vertexId element cannot be null");
         }
-        return new DefaultVertexTraversal(() -> getTraversal().V(vertexIds), INITIAL_VERTEX, getConverter());
+        return new DefaultVertexTraversal(() -> getTraversal().V(vertexIds), INITIAL_VERTEX, getReadConverter());
     }
 
     @Override
@@ -219,12 +364,17 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         if (Stream.of(edgeIds).anyMatch(Objects::isNull)) {
             throw new NullPointerException("No one edgeId element cannot be null");
         }
-        return new DefaultEdgeTraversal(() -> getTraversal().E(edgeIds), INITIAL_EDGE, getConverter());
+        return new DefaultEdgeTraversal(() -> getTraversal().E(edgeIds), INITIAL_EDGE, getReadConverter());
     }
 
     @Override
     public Transaction getTransaction() {
-        return getGraph().tx();
+        return listen(getGraph().tx());
+    }
+
+    @Override
+    public Optional<EntityCacheStatistics> getCacheStatistics() {
+        return getCache().map(EntityCacheStatistics.class::cast);
     }
 
 
@@ -285,7 +435,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         if (vertices.hasNext()) {
             List<Edge> edges = new ArrayList<>();
             vertices.next().edges(direction, labels).forEachRemaining(edges::add);
-            return edges.stream().map(getConverter()::toEdgeEntity).collect(Collectors.toList());
+            return edges.stream().map(getReadConverter().getEdgeEntityConverter()).collect(Collectors.toList());
         }
         return Collections.emptyList();
     }
@@ -322,11 +472,18 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         }
     }
 
-    private <T> boolean isIdNull(T entity) {
+    private <T> Object getId(T entity) {
         ClassMapping classMapping = getClassMappings().get(entity.getClass());
         FieldMapping field = classMapping.getId().get();
-        return isNull(field.read(entity));
+        return field.read(entity);
+    }
 
+    private void invalidate(Vertex vertex) {
+        getCache().ifPresent(c -> c.invalidate(vertex));
+    }
+
+    private <T> boolean isIdNull(T entity) {
+        return isNull(getId(entity));
     }
 
 
@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The options to load elements in bulk with {@link GraphTemplate#insert(java.util.stream.Stream, BulkLoadOptions)}
+ * and {@link GraphTemplate#insertEdges(java.util.stream.Stream, BulkLoadOptions)}.
+ */
+public final class BulkLoadOptions {
+
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private static final BulkLoadOptions DEFAULT = builder().build();
+
+    private final int batchSize;
+
+    private final boolean newElements;
+
+    private final Consumer<BulkLoadResult> listener;
+
+    private BulkLoadOptions(int batchSize, boolean newElements, Consumer<BulkLoadResult> listener) {
+        this.batchSize = batchSize;
+        this.newElements = newElements;
+        this.listener = listener;
+    }
+
+    /**
+     * @return the number of elements written before each commit
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return whether the elements are new, so the loader does not check whether they already exist
+     */
+    public boolean isNewElements() {
+        return newElements;
+    }
+
+    /**
+     * @return the listener called after each batch with the progress so far
+     */
+    public Consumer<BulkLoadResult> getListener() {
+        return listener;
+    }
+
+    /**
+     * The default options: batches of 1000 elements and checking the existing elements
+     *
+     * @return the default options
+     */
+    public static BulkLoadOptions defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a new {@link BulkLoadOptionsBuilder}
+     *
+     * @return a new builder instance
+     */
+    public static BulkLoadOptionsBuilder builder() {
+        return new BulkLoadOptionsBuilder();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkLoadOptions{" +
+                "batchSize=" + batchSize +
+                ", newElements=" + newElements +
+                '}';
+    }
+
+    /**
+     * The {@link BulkLoadOptions} builder
+     */
+    public static final class BulkLoadOptionsBuilder {
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private boolean newElements;
+
+        private Consumer<BulkLoadResult> listener = r -> {
+        };
+
+        private BulkLoadOptionsBuilder() {
+        }
+
+        /**
+         * Defines the number of elements written before each commit
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         * @throws IllegalArgumentException when the batch size is not positive
+         */
+        public BulkLoadOptionsBuilder withBatchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Defines that the elements are new: the vertices are added without looking up their ids
+         * and the edges without looking up an edge with the same label between the same vertices.
+         * The entity and graph events are still fired for each entity.
+         *
+         * @return this builder
+         */
+        public BulkLoadOptionsBuilder withNewElements() {
+            this.newElements = true;
+            return this;
+        }
+
+        /**
+         * Defines the listener called after each batch with the progress so far
+         *
+         * @param listener the listener
+         * @return this builder
+         * @throws NullPointerException when listener is null
+         */
+        public BulkLoadOptionsBuilder withListener(Consumer<BulkLoadResult> listener) {
+            this.listener = requireNonNull(listener, "listener is required");
+            return this;
+        }
+
+        /**
+         * Creates the {@link BulkLoadOptions}
+         *
+         * @return a new {@link BulkLoadOptions} instance
+         */
+        public BulkLoadOptions build() {
+            return new BulkLoadOptions(batchSize, newElements, listener);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import java.time.Duration;
+
+/**
+ * The progress of a bulk load: how many elements were written, in how many batches and how long it took.
+ */
+public final class BulkLoadResult {
+
+    private final long count;
+
+    private final long batches;
+
+    private final Duration duration;
+
+    BulkLoadResult(long count, long batches, Duration duration) {
+        this.count = count;
+        this.batches = batches;
+        this.duration = duration;
+    }
+
+    /**
+     * @return the number of elements written
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the number of batches committed
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * @return the time spent
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return the number of elements written per second
+     */
+    public double getThroughput() {
+        long nanos = duration.toNanos();
+        if (nanos == 0L) {
+            return 0D;
+        }
+        return count * 1_000_000_000D / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkLoadResult{" +
+                "count=" + count +
+                ", batches=" + batches +
+                ", duration=" + duration +
+                ", throughput=" + getThroughput() +
+                '}';
+    }
+}
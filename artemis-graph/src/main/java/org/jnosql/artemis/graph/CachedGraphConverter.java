@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link GraphConverter} that reads the entities of the vertices from an {@link EntityCache}
+ * before converting them with the delegate.
+ */
+final class CachedGraphConverter implements GraphConverter {
+
+    private final GraphConverter converter;
+
+    private final EntityCache cache;
+
+    CachedGraphConverter(GraphConverter converter, EntityCache cache) {
+        this.converter = converter;
+        this.cache = cache;
+    }
+
+    @Override
+    public <T> Vertex toVertex(T entity) {
+        return converter.toVertex(entity);
+    }
+
+    @Override
+    public <T> Vertex toNewVertex(T entity) {
+        return converter.toNewVertex(entity);
+    }
+
+    @Override
+    public <T> T toEntity(Vertex vertex) {
+        requireNonNull(vertex, "vertex is required");
+        return cache.get(vertex, converter::toEntity);
+    }
+
+    @Override
+    public <T> T toEntity(Class<T> entityClass, Vertex vertex) {
+        return converter.toEntity(entityClass, vertex);
+    }
+
+    @Override
+    public <T> List<Property<?>> getProperties(T entity) {
+        return converter.getProperties(entity);
+    }
+
+    @Override
+    public <T> T toEntity(T entityInstance, Vertex vertex) {
+        return converter.toEntity(entityInstance, vertex);
+    }
+
+    @Override
+    public EdgeEntity toEdgeEntity(Edge edge) {
+        requireNonNull(edge, "edge is required");
+        Object out = toEntity(edge.outVertex());
+        Object in = toEntity(edge.inVertex());
+        return EdgeEntity.of(out, edge, in);
+    }
+
+    @Override
+    public Function<Edge, EdgeEntity> getEdgeEntityConverter(boolean deferred) {
+        return AbstractGraphConverter.getEdgeEntityConverter(this::toEntity, deferred);
+    }
+
+    @Override
+    public Edge toEdge(EdgeEntity edge) {
+        return converter.toEdge(edge);
+    }
+}
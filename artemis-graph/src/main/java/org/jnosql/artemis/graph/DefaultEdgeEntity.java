@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.collectingAndThen;
@@ -29,16 +30,26 @@ import static java.util.stream.Collectors.toList;
 
 class DefaultEdgeEntity<OUT, IN> implements EdgeEntity {
 
-    private final OUT outgoing;
+    private final Endpoint<OUT> outgoing;
 
     private final Edge edge;
 
-    private final IN incoming;
+    private final Endpoint<IN> incoming;
 
     DefaultEdgeEntity(Edge edge, IN incoming, OUT outgoing) {
         this.edge = edge;
-        this.incoming = incoming;
-        this.outgoing = outgoing;
+        this.incoming = new Endpoint<>(incoming);
+        this.outgoing = new Endpoint<>(outgoing);
+    }
+
+    /**
+     * Creates an edge whose vertices are converted just when either {@link #getIncoming()} or
+     * {@link #getOutgoing()} is first called
+     */
+    DefaultEdgeEntity(Edge edge, Supplier<IN> incoming, Supplier<OUT> outgoing) {
+        this.edge = edge;
+        this.incoming = new Endpoint<>(incoming);
+        this.outgoing = new Endpoint<>(outgoing);
     }
 
     @Override
@@ -53,12 +64,12 @@ class DefaultEdgeEntity<OUT, IN> implements EdgeEntity {
 
     @Override
     public IN getIncoming() {
-        return incoming;
+        return incoming.get();
     }
 
     @Override
     public OUT getOutgoing() {
-        return outgoing;
+        return outgoing.get();
     }
 
     @Override
@@ -125,23 +136,51 @@ class DefaultEdgeEntity<OUT, IN> implements EdgeEntity {
             return false;
         }
         DefaultEdgeEntity<?, ?> that = (DefaultEdgeEntity<?, ?>) o;
-        return Objects.equals(edge, that.edge) &&
-                Objects.equals(incoming, that.incoming) &&
-                Objects.equals(outgoing, that.outgoing);
+        return Objects.equals(edge, that.edge);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(edge, incoming, outgoing);
+        return Objects.hashCode(edge);
     }
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
-        sb.append(outgoing);
+        sb.append(outgoing.isConverted() ? outgoing.get() : edge.outVertex());
         sb.append("---").append(edge.label());
-        sb.append(" --->").append(incoming);
+        sb.append(" --->").append(incoming.isConverted() ? incoming.get() : edge.inVertex());
         return sb.toString();
     }
 
+    /**
+     * A vertex of the edge, either converted or to be converted once, at the first call
+     */
+    private static final class Endpoint<T> {
+
+        private Supplier<T> supplier;
+
+        private T entity;
+
+        private Endpoint(T entity) {
+            this.entity = entity;
+        }
+
+        private Endpoint(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        synchronized T get() {
+            if (supplier != null) {
+                entity = supplier.get();
+                supplier = null;
+            }
+            return entity;
+        }
+
+        synchronized boolean isConverted() {
+            return supplier == null;
+        }
+    }
+
 }
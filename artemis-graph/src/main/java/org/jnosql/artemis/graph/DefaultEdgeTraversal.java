@@ -136,7 +136,10 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
 
     @Override
     public Optional<EdgeEntity> getSingleResult() {
-        List<EdgeEntity> result = getResultList();
+        List<EdgeEntity> result;
+        try (Stream<EdgeEntity> stream = stream()) {
+            result = stream.limit(2L).collect(toList());
+        }
 
         if(result.isEmpty()) {
             return Optional.empty();
@@ -148,17 +151,19 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
 
     @Override
     public List<EdgeEntity> getResultList() {
-        return stream().collect(toList());
+        try (Stream<EdgeEntity> stream = stream()) {
+            return stream.collect(toList());
+        }
     }
 
     @Override
     public Stream<EdgeEntity> stream() {
-        return flow.apply(supplier.get()).toList().stream().map(converter::toEdgeEntity);
+        return TraversalStreams.of(flow.apply(supplier.get()), converter.getEdgeEntityConverter());
     }
 
     @Override
     public Stream<EdgeEntity> next(int limit) {
-        return flow.apply(supplier.get()).next(limit).stream().map(converter::toEdgeEntity);
+        return flow.apply(supplier.get()).next(limit).stream().map(converter.getEdgeEntityConverter());
     }
 
     @Override
@@ -54,6 +54,6 @@ class DefaultGraphConverter extends AbstractGraphConverter implements GraphConve
 
     @Override
     protected Graph getGraph() {
-        return graph.get();
+        return TransactionContext.getGraph(graph.get());
     }
 }
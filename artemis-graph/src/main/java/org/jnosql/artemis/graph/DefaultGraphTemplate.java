@@ -49,6 +49,11 @@ class DefaultGraphTemplate extends AbstractGraphTemplate {
 
     @Override
     protected Graph getGraph() {
+        return TransactionContext.getGraph(graph.get());
+    }
+
+    @Override
+    Graph getCacheGraph() {
         return graph.get();
     }
 
@@ -60,7 +60,7 @@ class DefaultGraphTraversalSourceTemplate extends AbstractGraphTemplate {
 
     @Override
     public Transaction getTransaction() {
-        return getTraversal().tx();
+        return listen(getTraversal().tx());
     }
 
     @Override
@@ -42,11 +42,16 @@ class DefaultGraphWorkflow implements GraphWorkflow {
 
     @Override
     public <T> T flow(T entity, UnaryOperator<Vertex> action) {
-        Function<T, T> flow = getFlow(entity, action);
+        return flow(entity, t -> converter.toVertex(t), action);
+    }
+
+    @Override
+    public <T> T flow(T entity, Function<T, Vertex> toVertex, UnaryOperator<Vertex> action) {
+        Function<T, T> flow = getFlow(entity, toVertex, action);
         return flow.apply(entity);
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<Vertex> action) {
+    private <T> Function<T, T> getFlow(T entity, Function<T, Vertex> converterGraph, UnaryOperator<Vertex> action) {
         UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
 
         UnaryOperator<T> firePreEntity = t -> {
@@ -59,8 +64,6 @@ class DefaultGraphWorkflow implements GraphWorkflow {
             return t;
         };
 
-        Function<T, Vertex> converterGraph = t -> converter.toVertex(t);
-
         UnaryOperator<Vertex> firePreGraph = t -> {
             graphEventPersistManager.firePreGraph(t);
             return t;
@@ -45,7 +45,7 @@ class DefaultValueMapTraversal implements ValueMapTraversal {
 
     @Override
     public Stream<Map<String, Object>> stream() {
-        return flow.apply(supplier.get()).toList().stream();
+        return TraversalStreams.of(flow.apply(supplier.get()), Function.identity());
     }
 
     @Override
@@ -60,7 +60,10 @@ class DefaultValueMapTraversal implements ValueMapTraversal {
 
     @Override
     public Optional<Map<String, Object>> getSingleResult() {
-        List<Map<String, Object>> result = getResultList();
+        List<Map<String, Object>> result;
+        try (Stream<Map<String, Object>> stream = stream()) {
+            result = stream.limit(2L).collect(toList());
+        }
         if (result.isEmpty()) {
             return Optional.empty();
         }
@@ -72,7 +75,9 @@ class DefaultValueMapTraversal implements ValueMapTraversal {
 
     @Override
     public List<Map<String, Object>> getResultList() {
-        return stream().collect(toList());
+        try (Stream<Map<String, Object>> stream = stream()) {
+            return stream.collect(toList());
+        }
     }
 
     @Override
@@ -194,13 +194,15 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
 
     @Override
     public <T> Stream<T> stream() {
-        return flow.apply(supplier.get()).toList().stream()
-                .map(converter::toEntity);
+        return TraversalStreams.of(flow.apply(supplier.get()), converter::toEntity);
     }
 
     @Override
     public <T> Optional<T> getSingleResult() {
-        List<T> result = getResultList();
+        List<T> result;
+        try (Stream<T> stream = stream()) {
+            result = stream.limit(2L).collect(Collectors.toList());
+        }
 
         if (result.isEmpty()) {
             return Optional.empty();
@@ -212,8 +214,9 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
 
     @Override
     public <T> List<T> getResultList() {
-        Stream<T> stream = stream();
-        return stream.collect(Collectors.toList());
+        try (Stream<T> stream = stream()) {
+            return stream.collect(Collectors.toList());
+        }
     }
 
     @Override
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The description of an edge to be loaded with {@link GraphTemplate#insertEdges(java.util.stream.Stream,
+ * BulkLoadOptions)}: both outgoing and incoming entities must have their ids.
+ *
+ * @param <OUT> the outgoing type
+ * @param <IN>  the incoming type
+ */
+public final class EdgeDescriptor<OUT, IN> {
+
+    private final OUT outgoing;
+
+    private final String label;
+
+    private final IN incoming;
+
+    private final Map<String, Object> properties;
+
+    private EdgeDescriptor(OUT outgoing, String label, IN incoming, Map<String, Object> properties) {
+        this.outgoing = outgoing;
+        this.label = label;
+        this.incoming = incoming;
+        this.properties = properties;
+    }
+
+    public OUT getOutgoing() {
+        return outgoing;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public IN getIncoming() {
+        return incoming;
+    }
+
+    /**
+     * @return the edge properties
+     */
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Creates an {@link EdgeDescriptor} without properties
+     *
+     * @param outgoing the outgoing entity
+     * @param label    the edge label
+     * @param incoming the incoming entity
+     * @param <OUT>    the outgoing type
+     * @param <IN>     the incoming type
+     * @return a new {@link EdgeDescriptor} instance
+     * @throws NullPointerException when any parameter is null
+     */
+    public static <OUT, IN> EdgeDescriptor<OUT, IN> of(OUT outgoing, String label, IN incoming) {
+        return of(outgoing, label, incoming, Collections.emptyMap());
+    }
+
+    /**
+     * Creates an {@link EdgeDescriptor}
+     *
+     * @param outgoing   the outgoing entity
+     * @param label      the edge label
+     * @param incoming   the incoming entity
+     * @param properties the edge properties
+     * @param <OUT>      the outgoing type
+     * @param <IN>       the incoming type
+     * @return a new {@link EdgeDescriptor} instance
+     * @throws NullPointerException when any parameter is null
+     */
+    public static <OUT, IN> EdgeDescriptor<OUT, IN> of(OUT outgoing, String label, IN incoming,
+                                                       Map<String, Object> properties) {
+        requireNonNull(outgoing, "outgoing is required");
+        requireNonNull(label, "label is required");
+        requireNonNull(incoming, "incoming is required");
+        requireNonNull(properties, "properties is required");
+        return new EdgeDescriptor<>(outgoing, label, incoming,
+                Collections.unmodifiableMap(new HashMap<>(properties)));
+    }
+
+    @Override
+    public String toString() {
+        return outgoing + "---" + label + " --->" + incoming;
+    }
+}
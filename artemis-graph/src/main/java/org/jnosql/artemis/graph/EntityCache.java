@@ -0,0 +1,289 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of the vertex properties used to build the entities, keyed by the vertex id. Each read converts
+ * a new entity from the detached copy of the vertex, so the callers never share an instance and the properties
+ * are read from the graph once. When the cache is full, the least recently used vertex is removed. The maximum
+ * size is defined by the system property {@link EntityCache#SIZE_PROPERTY}, and the cache is disabled when it is
+ * not greater than zero.
+ * <p>The cache only holds committed state: a vertex read or written while the graph transaction of the thread is
+ * open is kept in a cache of that thread, which is published when the transaction commits and dropped when it
+ * rolls back. There is one cache to each {@link Graph}, see {@link EntityCaches}.</p>
+ */
+final class EntityCache implements EntityCacheStatistics {
+
+    static final String SIZE_PROPERTY = "artemis.graph.entity.cache.size";
+
+    private final int maxSize;
+
+    private final Map<Object, Vertex> vertices;
+
+    private final ThreadLocal<Uncommitted> uncommitted = new ThreadLocal<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private long generation;
+
+    private final Consumer<Transaction.Status> listener = status -> {
+        if (Transaction.Status.COMMIT.equals(status)) {
+            commit();
+        } else if (Transaction.Status.ROLLBACK.equals(status)) {
+            rollback();
+        }
+    };
+
+    EntityCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The cache size must be greater than zero: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.vertices = Collections.synchronizedMap(newMap(maxSize));
+    }
+
+    /**
+     * Creates the cache from the system property {@link EntityCache#SIZE_PROPERTY}
+     *
+     * @return the cache or {@link Optional#empty()} when it is disabled
+     */
+    static Optional<EntityCache> fromProperty() {
+        int size = Integer.getInteger(SIZE_PROPERTY, 0);
+        if (size <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new EntityCache(size));
+    }
+
+    /**
+     * Returns a new entity of the vertex, converted from the cached copy of the vertex, which is detached and
+     * stored in the cache when it is not there. While the graph transaction of the current thread is open, the
+     * copy is only visible to this thread until the transaction commits.
+     *
+     * @param vertex    the vertex
+     * @param converter the converter of the cached vertex
+     * @param <T>       the entity type
+     * @return the entity
+     */
+    <T> T get(Vertex vertex, Function<Vertex, T> converter) {
+        Object id = vertex.id();
+        Uncommitted current = uncommitted.get();
+        Vertex cached = current == null ? null : current.vertices.get(id);
+        if (cached == null && (current == null || !current.written.contains(id))) {
+            cached = vertices.get(id);
+        }
+        if (cached != null) {
+            hits.increment();
+            return converter.apply(cached);
+        }
+        misses.increment();
+        long read = getGeneration();
+        Vertex detached = DetachedFactory.detach(vertex, true);
+        Optional<Transaction> transaction = getOpenTransaction(vertex);
+        if (transaction.isPresent()) {
+            getUncommitted(transaction.get(), read).vertices.put(id, detached);
+        } else {
+            publish(id, detached, read);
+        }
+        return converter.apply(detached);
+    }
+
+    /**
+     * Listens to the transaction to publish the vertices read in it when it commits and to drop them when it
+     * rolls back
+     *
+     * @param transaction the transaction
+     * @return the transaction
+     */
+    Transaction listen(Transaction transaction) {
+        transaction.removeTransactionListener(listener);
+        transaction.addTransactionListener(listener);
+        return transaction;
+    }
+
+    /**
+     * Removes the vertex written. When the graph transaction of the current thread is open, the vertex is
+     * removed again when it commits, and this thread does not read it from the shared cache until then.
+     *
+     * @param vertex the vertex written
+     */
+    void invalidate(Vertex vertex) {
+        Object id = vertex.id();
+        invalidate(id);
+        Optional<Transaction> transaction = getOpenTransaction(vertex);
+        if (transaction.isPresent()) {
+            Uncommitted current = getUncommitted(transaction.get(), getGeneration());
+            current.vertices.remove(id);
+            current.written.add(id);
+        }
+    }
+
+    /**
+     * Removes the vertex of the id
+     *
+     * @param id the vertex id
+     */
+    void invalidate(Object id) {
+        if (id != null) {
+            synchronized (vertices) {
+                generation++;
+                vertices.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Removes all the vertices, and the vertices of the transaction of the current thread
+     */
+    void clear() {
+        synchronized (vertices) {
+            generation++;
+            vertices.clear();
+        }
+        uncommitted.remove();
+    }
+
+    /**
+     * Publishes the vertices read in the transaction of the current thread, unless a vertex was written
+     * since the first read of that transaction, and removes the vertices it has written
+     */
+    void commit() {
+        Uncommitted current = uncommitted.get();
+        if (current == null) {
+            return;
+        }
+        uncommitted.remove();
+        current.written.forEach(this::invalidate);
+        synchronized (vertices) {
+            if (current.written.isEmpty() && generation == current.generation) {
+                vertices.putAll(current.vertices);
+            }
+        }
+    }
+
+    /**
+     * Drops the vertices read and written in the transaction of the current thread
+     */
+    void rollback() {
+        uncommitted.remove();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public int getSize() {
+        return vertices.size();
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCache{" +
+                "size=" + getSize() +
+                ", maxSize=" + maxSize +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                '}';
+    }
+
+    private long getGeneration() {
+        synchronized (vertices) {
+            return generation;
+        }
+    }
+
+    private void publish(Object id, Vertex vertex, long read) {
+        synchronized (vertices) {
+            if (generation == read) {
+                vertices.put(id, vertex);
+            }
+        }
+    }
+
+    private Uncommitted getUncommitted(Transaction transaction, long read) {
+        Uncommitted current = uncommitted.get();
+        if (current == null) {
+            current = new Uncommitted(maxSize, read);
+            uncommitted.set(current);
+            listen(transaction);
+            TransactionContext.cache(this);
+        }
+        return current;
+    }
+
+    private static Optional<Transaction> getOpenTransaction(Vertex vertex) {
+        Graph graph = vertex.graph();
+        if (graph == null || !graph.features().graph().supportsTransactions()) {
+            return Optional.empty();
+        }
+        Transaction transaction = graph.tx();
+        return transaction.isOpen() ? Optional.of(transaction) : Optional.empty();
+    }
+
+    private static <V> Map<Object, V> newMap(int maxSize) {
+        return new LinkedHashMap<Object, V>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * The vertices read and written by the open transaction of a thread
+     */
+    private static final class Uncommitted {
+
+        private final Map<Object, Vertex> vertices;
+
+        private final Set<Object> written = new HashSet<>();
+
+        private final long generation;
+
+        private Uncommitted(int maxSize, long generation) {
+            this.vertices = newMap(maxSize);
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+/**
+ * The metrics of the entity cache of a graph, which is shared by its {@link GraphTemplate} instances
+ *
+ * @see GraphTemplate#getCacheStatistics()
+ */
+public interface EntityCacheStatistics {
+
+    /**
+     * @return the number of times a vertex was found in the cache
+     */
+    long getHits();
+
+    /**
+     * @return the number of times a vertex had to be read from the graph
+     */
+    long getMisses();
+
+    /**
+     * @return the hits divided by the number of requests, zero when there is no request
+     */
+    default double getHitRatio() {
+        long requests = getHits() + getMisses();
+        if (requests == 0L) {
+            return 0D;
+        }
+        return (double) getHits() / requests;
+    }
+
+    /**
+     * @return the number of vertices in the cache
+     */
+    int getSize();
+
+    /**
+     * @return the maximum number of vertices in the cache
+     */
+    int getMaxSize();
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link EntityCache} of each {@link Graph}, so all the {@link GraphTemplate} instances and repositories of a
+ * same graph read from and invalidate a single cache. The cache is released with the graph.
+ */
+final class EntityCaches {
+
+    private static final Map<Graph, Optional<EntityCache>> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private EntityCaches() {
+    }
+
+    /**
+     * Returns the cache of the graph, creating it from the system property {@link EntityCache#SIZE_PROPERTY}
+     * when the graph does not have one yet
+     *
+     * @param graph the graph
+     * @return the cache or {@link Optional#empty()} when it is disabled
+     * @throws NullPointerException when graph is null
+     */
+    static Optional<EntityCache> get(Graph graph) {
+        requireNonNull(graph, "graph is required");
+        return CACHES.computeIfAbsent(graph, g -> EntityCache.fromProperty());
+    }
+
+    /**
+     * Removes the cache of the graph, so the next {@link EntityCaches#get(Graph)} creates it again,
+     * e.g. when the graph is closed
+     *
+     * @param graph the graph
+     * @throws NullPointerException when graph is null
+     */
+    static void remove(Graph graph) {
+        requireNonNull(graph, "graph is required");
+        CACHES.remove(graph);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.jnosql.artemis.EntityNotFoundException;
+import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.artemis.reflection.FieldMapping;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes the elements of a bulk load, committing the transaction, when the graph supports it, at each batch.
+ * Each entity goes through the {@link GraphWorkflow}, so its events are fired as in
+ * {@link GraphTemplate#insert(Object)}.
+ */
+final class GraphBulkLoader {
+
+    private final Graph graph;
+
+    private final GraphConverter converter;
+
+    private final GraphWorkflow workflow;
+
+    private final ClassMappings classMappings;
+
+    private final BulkLoadOptions options;
+
+    private final boolean transactional;
+
+    private final Map<Object, Vertex> vertices = new HashMap<>();
+
+    private final long start = System.nanoTime();
+
+    private long count;
+
+    private long batches;
+
+    private int pending;
+
+    GraphBulkLoader(Graph graph, GraphConverter converter, GraphWorkflow workflow, ClassMappings classMappings,
+                    BulkLoadOptions options) {
+        this.graph = graph;
+        this.converter = converter;
+        this.workflow = workflow;
+        this.classMappings = classMappings;
+        this.options = options;
+        this.transactional = graph.features().graph().supportsTransactions();
+    }
+
+    <T> BulkLoadResult insert(Stream<T> entities, UnaryOperator<Vertex> action) {
+        return load(entities, entity -> {
+            requireNonNull(entity, "entity is required");
+            if (options.isNewElements()) {
+                workflow.flow(entity, converter::toNewVertex, action);
+            } else {
+                workflow.flow(entity, action);
+            }
+        });
+    }
+
+    BulkLoadResult insertEdges(Stream<? extends EdgeDescriptor<?, ?>> edges, GraphTemplate template) {
+        return load(edges, edge -> {
+            requireNonNull(edge, "edge is required");
+            if (options.isNewElements()) {
+                Vertex outVertex = getVertex(edge.getOutgoing());
+                Vertex inVertex = getVertex(edge.getIncoming());
+                outVertex.addEdge(edge.getLabel(), inVertex, toKeyValues(edge.getProperties()));
+            } else {
+                EdgeEntity entity = template.edge(edge.getOutgoing(), edge.getLabel(), edge.getIncoming());
+                edge.getProperties().forEach(entity::add);
+            }
+        });
+    }
+
+    private <T> BulkLoadResult load(Stream<T> elements, Consumer<T> writer) {
+        try (Stream<T> stream = elements) {
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writer.accept(iterator.next());
+                count++;
+                pending++;
+                if (pending == options.getBatchSize()) {
+                    commit();
+                }
+            }
+            if (pending > 0) {
+                commit();
+            }
+            return getResult();
+        } catch (RuntimeException exception) {
+            if (transactional && graph.tx().isOpen()) {
+                graph.tx().rollback();
+            }
+            throw exception;
+        }
+    }
+
+    static <T> BulkLoadResult write(Stream<T> elements, BulkLoadOptions options, Consumer<T> writer) {
+        long start = System.nanoTime();
+        long count = 0;
+        long batches = 0;
+        try (Stream<T> stream = elements) {
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writer.accept(iterator.next());
+                count++;
+                if (count % options.getBatchSize() == 0 || !iterator.hasNext()) {
+                    batches++;
+                    options.getListener().accept(new BulkLoadResult(count, batches,
+                            Duration.ofNanos(System.nanoTime() - start)));
+                }
+            }
+        }
+        return new BulkLoadResult(count, batches, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void commit() {
+        if (transactional) {
+            graph.tx().commit();
+        }
+        vertices.clear();
+        pending = 0;
+        batches++;
+        options.getListener().accept(getResult());
+    }
+
+    private BulkLoadResult getResult() {
+        return new BulkLoadResult(count, batches, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private Vertex getVertex(Object entity) {
+        FieldMapping field = classMappings.get(entity.getClass()).getId()
+                .orElseThrow(() -> IdNotFoundException.newInstance(entity.getClass()));
+        Object id = requireNonNull(field.read(entity), "entity id is required in the edge");
+        Vertex vertex = vertices.get(id);
+        if (vertex == null) {
+            Iterator<Vertex> iterator = graph.vertices(id);
+            if (!iterator.hasNext()) {
+                throw new EntityNotFoundException("Entity does not found with the id: " + id);
+            }
+            vertex = iterator.next();
+            vertices.put(id, vertex);
+        }
+        return vertex;
+    }
+
+    private Object[] toKeyValues(Map<String, Object> properties) {
+        Object[] keyValues = new Object[properties.size() * 2];
+        int index = 0;
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            keyValues[index++] = entry.getKey();
+            keyValues[index++] = entry.getValue();
+        }
+        return keyValues;
+    }
+}
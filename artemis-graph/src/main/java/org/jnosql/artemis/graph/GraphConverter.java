@@ -19,6 +19,7 @@ import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.List;
+import java.util.function.Function;
 
 public interface GraphConverter {
 
@@ -32,6 +33,20 @@ public interface GraphConverter {
      */
     <T> Vertex toVertex(T entity);
 
+    /**
+     * Converts entity object to a new TinkerPop Vertex, unlike {@link GraphConverter#toVertex(Object)}
+     * it does not check whether there is a vertex with the same id. When the entity has no id,
+     * the vertex id is set in the entity.
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the new ThinkerPop Vertex with the entity values
+     * @throws NullPointerException when entity is null
+     */
+    default <T> Vertex toNewVertex(T entity) {
+        return toVertex(entity);
+    }
+
     /**
      * Converts vertex to an entity
      *
@@ -83,6 +98,30 @@ public interface GraphConverter {
      */
     EdgeEntity toEdgeEntity(Edge edge);
 
+    /**
+     * Returns a function to convert the edges of a same result to {@link EdgeEntity}.
+     * A vertex shared by more than one edge is converted once, and the vertices are converted
+     * with the edge.
+     *
+     * @return a function that converts {@link Edge} to {@link EdgeEntity}
+     */
+    default Function<Edge, EdgeEntity> getEdgeEntityConverter() {
+        return getEdgeEntityConverter(false);
+    }
+
+    /**
+     * Returns a function to convert the edges of a same result to {@link EdgeEntity}.
+     * A vertex shared by more than one edge is converted once. When deferred, each vertex is only converted
+     * when either {@link EdgeEntity#getIncoming()} or {@link EdgeEntity#getOutgoing()} is first called,
+     * so the vertex must still be readable then, e.g. the transaction that read it is still open.
+     *
+     * @param deferred whether the vertices are converted at the first access instead of with the edge
+     * @return a function that converts {@link Edge} to {@link EdgeEntity}
+     */
+    default Function<Edge, EdgeEntity> getEdgeEntityConverter(boolean deferred) {
+        return this::toEdgeEntity;
+    }
+
     /**
      * Converts {@link Edge} from {@link EdgeEntity}
      *
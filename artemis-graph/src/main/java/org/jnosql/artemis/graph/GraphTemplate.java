@@ -18,11 +18,15 @@ import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
 import org.jnosql.artemis.PreparedStatement;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * This interface that represents the common operation between an entity
@@ -41,6 +45,45 @@ public interface GraphTemplate {
      */
     <T> T insert(T entity);
 
+    /**
+     * Inserts the entities in bulk. Each entity goes through the same workflow as {@link #insert(Object)},
+     * so the entity and graph events are fired, and the transaction, when the graph supports it,
+     * is committed at each {@link BulkLoadOptions#getBatchSize()} entities. The default implementation
+     * calls {@link #insert(Object)} to each entity and does not commit the transaction.
+     *
+     * @param entities the entities to be saved
+     * @param options  the bulk load options
+     * @param <T>      the instance type
+     * @return the result with the number of vertices written and the throughput
+     * @throws NullPointerException when either entities or options is null
+     */
+    default <T> BulkLoadResult insert(Stream<T> entities, BulkLoadOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return GraphBulkLoader.write(entities, options, this::insert);
+    }
+
+    /**
+     * Inserts the edges in bulk. The transaction, when the graph supports it,
+     * is committed at each {@link BulkLoadOptions#getBatchSize()} edges. The default implementation
+     * calls {@link #edge(Object, String, Object)} to each edge and does not commit the transaction.
+     *
+     * @param edges   the edges to be saved
+     * @param options the bulk load options
+     * @return the result with the number of edges written and the throughput
+     * @throws NullPointerException                     when either edges or options is null
+     * @throws org.jnosql.artemis.EntityNotFoundException when either outgoing or incoming entity does not exist
+     */
+    default BulkLoadResult insertEdges(Stream<? extends EdgeDescriptor<?, ?>> edges, BulkLoadOptions options) {
+        Objects.requireNonNull(edges, "edges is required");
+        Objects.requireNonNull(options, "options is required");
+        return GraphBulkLoader.write(edges, options, descriptor -> {
+            Objects.requireNonNull(descriptor, "edge is required");
+            EdgeEntity entity = edge(descriptor.getOutgoing(), descriptor.getLabel(), descriptor.getIncoming());
+            descriptor.getProperties().forEach(entity::add);
+        });
+    }
+
     /**
      * Updates entity
      *
@@ -101,6 +144,34 @@ public interface GraphTemplate {
      */
     <OUT, IN> EdgeEntity edge(OUT outgoing, String label, IN incoming);
 
+    /**
+     * Either find or create the Edges between the outgoing entity and each incoming entity.
+     * All the vertices are read at once and the existing edges are checked in a single traversal,
+     * so just the missing edges are created. The default implementation calls
+     * {@link #edge(Object, String, Object)} to each distinct incoming entity.
+     * <pre>entityOUT ---label---&#62; entityIN.</pre>
+     *
+     * @param outgoing  the outgoing entity
+     * @param label     the Edge label
+     * @param incomings the incoming entities
+     * @param <IN>      the incoming type
+     * @param <OUT>     the outgoing type
+     * @return the {@link EdgeEntity} list in the incoming entities order, without the duplicated incoming entities
+     * @throws NullPointerException                       Either when any elements are null or the entity is null
+     * @throws org.jnosql.artemis.IdNotFoundException     when {@link org.jnosql.artemis.Id} annotation is missing in the entities
+     * @throws org.jnosql.artemis.EntityNotFoundException when neither outgoing or any incoming is found
+     */
+    default <OUT, IN> List<EdgeEntity> edges(OUT outgoing, String label, Iterable<IN> incomings) {
+        Objects.requireNonNull(incomings, "incomings is required");
+        Set<IN> entities = new LinkedHashSet<>();
+        incomings.forEach(entities::add);
+        List<EdgeEntity> edges = new ArrayList<>(entities.size());
+        for (IN incoming : entities) {
+            edges.add(edge(outgoing, label, incoming));
+        }
+        return edges;
+    }
+
     /**
      * Either find or create an Edge between this two entities.
      * {@link org.apache.tinkerpop.gremlin.structure.Edge}
@@ -232,6 +303,31 @@ public interface GraphTemplate {
      */
     Transaction getTransaction();
 
+    /**
+     * Returns the metrics of the entity cache of the graph of this template, which is shared by all the templates
+     * and repositories of that graph. The cache keeps a detached copy of the vertices by id, and each read converts
+     * a new entity from it. It is invalidated on {@link GraphTemplate#insert(Object)},
+     * {@link GraphTemplate#update(Object)} and {@link GraphTemplate#delete(Object)} of any of those templates, and
+     * it is enabled when the system property {@code artemis.graph.entity.cache.size} defines its maximum size.
+     * A vertex read while the graph transaction is open is only shared when that transaction commits. A change
+     * in the database that does not go through a template is not seen until the vertex leaves the cache.
+     *
+     * @return the cache metrics or {@link Optional#empty()} when the cache is disabled
+     */
+    default Optional<EntityCacheStatistics> getCacheStatistics() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the metrics of the cache of compiled Gremlin scripts used by {@link GraphTemplate#query(String)} and
+     * {@link GraphTemplate#prepare(String)}. The cache is shared by all the templates.
+     *
+     * @return the Gremlin script cache metrics
+     */
+    default GremlinCacheStatistics getGremlinCacheStatistics() {
+        return GremlinExecutor.getScripts();
+    }
+
 
     /**
      * Executes a Gremlin gremlin then bring the result as a {@link List}
@@ -17,6 +17,7 @@ package org.jnosql.artemis.graph;
 
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -41,4 +42,20 @@ public interface GraphWorkflow {
      * @return after the workflow the the entity response
      */
     <T> T flow(T entity, UnaryOperator<Vertex> action);
+
+    /**
+     * Executes the workflow to do an interaction on a graph database, converting the entity to {@link Vertex}
+     * with the given function, e.g. {@link GraphConverter#toNewVertex(Object)} to skip the vertex lookup by id.
+     * An implementation that does not override this method ignores the function and converts the entity
+     * as {@link #flow(Object, UnaryOperator)} does.
+     *
+     * @param entity    the entity to be saved
+     * @param converter the conversion of the entity to {@link Vertex}
+     * @param action    the alteration to be executed on database
+     * @param <T>       the entity type
+     * @return after the workflow the the entity response
+     */
+    default <T> T flow(T entity, Function<T, Vertex> converter, UnaryOperator<Vertex> action) {
+        return flow(entity, action);
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+/**
+ * The metrics of the cache of compiled Gremlin scripts. The cache is shared by all the {@link GraphTemplate}
+ * instances, and its maximum size is defined by the system property {@code artemis.graph.gremlin.cache.size}.
+ *
+ * @see GraphTemplate#getGremlinCacheStatistics()
+ */
+public interface GremlinCacheStatistics {
+
+    /**
+     * @return the number of times a script was found in the cache
+     */
+    long getHits();
+
+    /**
+     * @return the number of times a script had to be compiled
+     */
+    long getMisses();
+
+    /**
+     * @return the hits divided by the number of requests, zero when there is no request
+     */
+    default double getHitRatio() {
+        long requests = getHits() + getMisses();
+        if (requests == 0L) {
+            return 0D;
+        }
+        return (double) getHits() / requests;
+    }
+
+    /**
+     * @return the number of scripts in the cache
+     */
+    int getSize();
+
+    /**
+     * @return the maximum number of scripts in the cache
+     */
+    int getMaxSize();
+}
@@ -21,19 +21,22 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import javax.script.Bindings;
-import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 
 final class GremlinExecutor {
 
 
     private final GraphConverter converter;
 
-    private static final ScriptEngine ENGINE = new GremlinGroovyScriptEngine();
+    private static final GremlinGroovyScriptEngine ENGINE = new GremlinGroovyScriptEngine();
+
+    private static final GremlinScriptCache SCRIPTS = new GremlinScriptCache(ENGINE);
 
     GremlinExecutor(GraphConverter converter) {
         this.converter = converter;
@@ -44,12 +47,17 @@ final class GremlinExecutor {
     }
 
     <T> List<T> executeGremlin(GraphTraversalSource traversalSource, String gremlin, Map<String, Object> params) {
+        Optional<GraphTraversal<?, ?>> traversal = GremlinTraversalParser.INSTANCE
+                .parse(traversalSource, gremlin, params);
+        if (traversal.isPresent()) {
+            return convertToList(traversal.get().toList());
+        }
         try {
             Bindings bindings = ENGINE.createBindings();
             bindings.put("g", traversalSource);
             params.forEach(bindings::put);
 
-            Object eval = ENGINE.eval(gremlin, bindings);
+            Object eval = SCRIPTS.get(gremlin).eval(bindings);
             if (eval instanceof GraphTraversal) {
                 return convertToList(GraphTraversal.class.cast(eval).toList());
             }
@@ -62,22 +70,26 @@ final class GremlinExecutor {
         }
     }
 
+    static GremlinScriptCache getScripts() {
+        return SCRIPTS;
+    }
+
     private <T> List<T> convertToList(Iterable<?> iterable) {
         List<T> entities = new ArrayList<>();
-
+        Function<Edge, EdgeEntity> edgeConverter = converter.getEdgeEntityConverter();
         for (Object entity : iterable) {
-            entities.add((T) getElement(entity));
+            entities.add((T) getElement(entity, edgeConverter));
         }
         return entities;
     }
 
-    private Object getElement(Object entity) {
+    private Object getElement(Object entity, Function<Edge, EdgeEntity> edgeConverter) {
         if (entity instanceof Vertex) {
             return converter.toEntity(Vertex.class.cast(entity));
         }
 
         if (entity instanceof Edge) {
-            return converter.toEdgeEntity(Edge.class.cast(entity));
+            return edgeConverter.apply(Edge.class.cast(entity));
         }
         return entity;
     }
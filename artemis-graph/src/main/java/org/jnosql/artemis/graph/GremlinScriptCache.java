@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * A bounded cache of the compiled Gremlin scripts keyed by the script text. When the cache is full, the least
+ * recently used script is removed. The maximum size is defined by the system property
+ * {@link GremlinScriptCache#SIZE_PROPERTY}.
+ */
+final class GremlinScriptCache implements GremlinCacheStatistics {
+
+    static final String SIZE_PROPERTY = "artemis.graph.gremlin.cache.size";
+
+    static final int DEFAULT_SIZE = 500;
+
+    private static final Logger LOGGER = Logger.getLogger(GremlinScriptCache.class.getName());
+
+    private final Compilable engine;
+
+    private final Map<String, CompiledScript> scripts;
+
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    GremlinScriptCache(Compilable engine, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The cache size must be greater than zero: " + maxSize);
+        }
+        this.engine = engine;
+        this.maxSize = maxSize;
+        this.scripts = Collections.synchronizedMap(new LinkedHashMap<String, CompiledScript>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledScript> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    GremlinScriptCache(Compilable engine) {
+        this(engine, getSizeProperty());
+    }
+
+    /**
+     * Returns the compiled script, compiling and storing it in the cache when it is not there
+     *
+     * @param gremlin the gremlin script
+     * @return the compiled script
+     * @throws ScriptException when the script cannot be compiled
+     */
+    CompiledScript get(String gremlin) throws ScriptException {
+        CompiledScript script = scripts.get(gremlin);
+        if (script != null) {
+            hits.increment();
+            return script;
+        }
+        misses.increment();
+        script = engine.compile(gremlin);
+        scripts.put(gremlin, script);
+        return script;
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public int getSize() {
+        return scripts.size();
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public String toString() {
+        return "GremlinScriptCache{" +
+                "size=" + getSize() +
+                ", maxSize=" + maxSize +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                '}';
+    }
+
+    /**
+     * Reads the {@link GremlinScriptCache#SIZE_PROPERTY}, a size that is not greater than zero
+     * falls back to the default size, so an invalid property does not break the graph template.
+     */
+    private static int getSizeProperty() {
+        int size = Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE);
+        if (size <= 0) {
+            LOGGER.warning("The " + SIZE_PROPERTY + " must be greater than zero: " + size
+                    + ", using the default size " + DEFAULT_SIZE);
+            return DEFAULT_SIZE;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,515 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Translates a subset of the Gremlin language straight to {@link GraphTraversal} steps, so the common queries
+ * don't need the script engine. The supported query starts with either <b>g.V()</b> or <b>g.E()</b>,
+ * followed by the steps: has, hasNot, hasLabel, out, in, both, outE, inE, bothE, outV, inV, bothV, limit,
+ * order, by, dedup, values, count and toList at the end. The arguments might be strings, numbers, booleans,
+ * the parameters names, the {@link P} predicates and either incr or decr.
+ * When the query has anything else, the parser returns {@link Optional#empty()}.
+ */
+enum GremlinTraversalParser {
+
+    INSTANCE;
+
+    /**
+     * Translates the gremlin query to a traversal
+     *
+     * @param traversalSource the traversal source, the <b>g</b> in the query
+     * @param gremlin         the gremlin query
+     * @param params          the parameters
+     * @return the traversal or {@link Optional#empty()} when the query is not supported
+     */
+    Optional<GraphTraversal<?, ?>> parse(GraphTraversalSource traversalSource, String gremlin,
+                                         Map<String, Object> params) {
+        try {
+            List<Token> tokens = tokenize(gremlin);
+            return Optional.of(new Parser(tokens, traversalSource, params).parse());
+        } catch (UnsupportedGremlinException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private List<Token> tokenize(String gremlin) {
+        List<Token> tokens = new ArrayList<>();
+        int index = 0;
+        int length = gremlin.length();
+        while (index < length) {
+            char character = gremlin.charAt(index);
+            if (Character.isWhitespace(character)) {
+                index++;
+            } else if (Character.isJavaIdentifierStart(character)) {
+                int start = index;
+                while (index < length && Character.isJavaIdentifierPart(gremlin.charAt(index))) {
+                    index++;
+                }
+                tokens.add(new Token(TokenType.IDENTIFIER, gremlin.substring(start, index)));
+            } else if (character == '\'' || character == '"') {
+                index = readString(gremlin, index, tokens);
+            } else if (Character.isDigit(character) || character == '-') {
+                index = readNumber(gremlin, index, tokens);
+            } else if (character == '.') {
+                tokens.add(new Token(TokenType.DOT, "."));
+                index++;
+            } else if (character == '(') {
+                tokens.add(new Token(TokenType.OPEN, "("));
+                index++;
+            } else if (character == ')') {
+                tokens.add(new Token(TokenType.CLOSE, ")"));
+                index++;
+            } else if (character == ',') {
+                tokens.add(new Token(TokenType.COMMA, ","));
+                index++;
+            } else if (character == ';') {
+                tokens.add(new Token(TokenType.SEMICOLON, ";"));
+                index++;
+            } else {
+                throw new UnsupportedGremlinException();
+            }
+        }
+        return tokens;
+    }
+
+    private int readString(String gremlin, int start, List<Token> tokens) {
+        char quote = gremlin.charAt(start);
+        StringBuilder value = new StringBuilder();
+        int index = start + 1;
+        while (index < gremlin.length()) {
+            char character = gremlin.charAt(index);
+            if (character == quote) {
+                tokens.add(new Token(TokenType.STRING, value.toString()));
+                return index + 1;
+            }
+            if (character == '\\' || (quote == '"' && character == '$')) {
+                throw new UnsupportedGremlinException();
+            }
+            value.append(character);
+            index++;
+        }
+        throw new UnsupportedGremlinException();
+    }
+
+    private int readNumber(String gremlin, int start, List<Token> tokens) {
+        int index = start + 1;
+        int length = gremlin.length();
+        while (index < length && (Character.isDigit(gremlin.charAt(index)) || gremlin.charAt(index) == '.')) {
+            index++;
+        }
+        String number = gremlin.substring(start, index);
+        char suffix = index < length ? Character.toUpperCase(gremlin.charAt(index)) : ' ';
+        try {
+            if (suffix == 'L') {
+                tokens.add(new Token(TokenType.NUMBER, Long.valueOf(number)));
+                return index + 1;
+            }
+            if (suffix == 'D') {
+                tokens.add(new Token(TokenType.NUMBER, Double.valueOf(number)));
+                return index + 1;
+            }
+            if (suffix == 'F') {
+                tokens.add(new Token(TokenType.NUMBER, Float.valueOf(number)));
+                return index + 1;
+            }
+            if (number.contains(".")) {
+                tokens.add(new Token(TokenType.NUMBER, new BigDecimal(number)));
+                return index;
+            }
+            long value = Long.parseLong(number);
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                tokens.add(new Token(TokenType.NUMBER, (int) value));
+            } else {
+                tokens.add(new Token(TokenType.NUMBER, value));
+            }
+            return index;
+        } catch (NumberFormatException exception) {
+            throw new UnsupportedGremlinException();
+        }
+    }
+
+    private enum TokenType {
+        IDENTIFIER, STRING, NUMBER, DOT, OPEN, CLOSE, COMMA, SEMICOLON
+    }
+
+    private static final class Token {
+
+        private final TokenType type;
+
+        private final Object value;
+
+        private Token(TokenType type, Object value) {
+            this.type = type;
+            this.value = value;
+        }
+
+        private boolean is(TokenType type) {
+            return this.type == type;
+        }
+
+        private boolean is(TokenType type, String value) {
+            return this.type == type && this.value.equals(value);
+        }
+    }
+
+    private static final class Parser {
+
+        private final List<Token> tokens;
+
+        private final GraphTraversalSource traversalSource;
+
+        private final Map<String, Object> params;
+
+        private int index;
+
+        private String previousStep;
+
+        private Parser(List<Token> tokens, GraphTraversalSource traversalSource, Map<String, Object> params) {
+            this.tokens = tokens;
+            this.traversalSource = traversalSource;
+            this.params = params;
+        }
+
+        private GraphTraversal<?, ?> parse() {
+            expect(TokenType.IDENTIFIER, "g");
+            expect(TokenType.DOT);
+            GraphTraversal<?, ?> traversal = start(identifier(), arguments());
+
+            while (hasNext() && peek().is(TokenType.DOT)) {
+                index++;
+                String step = identifier();
+                List<Object> arguments = arguments();
+                if ("toList".equals(step) && arguments.isEmpty()) {
+                    break;
+                }
+                traversal = step(traversal, step, arguments);
+                previousStep = step;
+            }
+
+            if (hasNext() && peek().is(TokenType.SEMICOLON)) {
+                index++;
+            }
+            if (hasNext()) {
+                throw new UnsupportedGremlinException();
+            }
+            return traversal;
+        }
+
+        private GraphTraversal<?, ?> start(String source, List<Object> ids) {
+            if (ids.stream().anyMatch(P.class::isInstance)) {
+                throw new UnsupportedGremlinException();
+            }
+            switch (source) {
+                case "V":
+                    return traversalSource.V(ids.toArray());
+                case "E":
+                    return traversalSource.E(ids.toArray());
+                default:
+                    throw new UnsupportedGremlinException();
+            }
+        }
+
+        private GraphTraversal<?, ?> step(GraphTraversal<?, ?> traversal, String step, List<Object> arguments) {
+            switch (step) {
+                case "has":
+                    return has(traversal, arguments);
+                case "hasNot":
+                    return traversal.hasNot(string(arguments, 0, 1));
+                case "hasLabel":
+                    String[] labels = strings(arguments);
+                    if (labels.length == 0) {
+                        throw new UnsupportedGremlinException();
+                    }
+                    return traversal.hasLabel(labels[0], copyOfRange(labels));
+                case "out":
+                    return traversal.out(strings(arguments));
+                case "in":
+                    return traversal.in(strings(arguments));
+                case "both":
+                    return traversal.both(strings(arguments));
+                case "outE":
+                    return traversal.outE(strings(arguments));
+                case "inE":
+                    return traversal.inE(strings(arguments));
+                case "bothE":
+                    return traversal.bothE(strings(arguments));
+                case "outV":
+                    noArguments(arguments);
+                    return traversal.outV();
+                case "inV":
+                    noArguments(arguments);
+                    return traversal.inV();
+                case "bothV":
+                    noArguments(arguments);
+                    return traversal.bothV();
+                case "limit":
+                    return traversal.limit(number(arguments).longValue());
+                case "order":
+                    noArguments(arguments);
+                    return traversal.order();
+                case "by":
+                    return by(traversal, arguments);
+                case "dedup":
+                    noArguments(arguments);
+                    return traversal.dedup();
+                case "values":
+                    return traversal.values(strings(arguments));
+                case "count":
+                    noArguments(arguments);
+                    return traversal.count();
+                default:
+                    throw new UnsupportedGremlinException();
+            }
+        }
+
+        private GraphTraversal<?, ?> has(GraphTraversal<?, ?> traversal, List<Object> arguments) {
+            if (arguments.size() == 2) {
+                String key = string(arguments, 0, 2);
+                Object value = arguments.get(1);
+                if (value instanceof P) {
+                    return traversal.has(key, (P<?>) value);
+                }
+                return traversal.has(key, value);
+            } else if (arguments.size() == 3) {
+                String label = string(arguments, 0, 3);
+                String key = string(arguments, 1, 3);
+                Object value = arguments.get(2);
+                if (value instanceof P) {
+                    return traversal.has(label, key, (P<?>) value);
+                }
+                return traversal.has(label, key, value);
+            }
+            throw new UnsupportedGremlinException();
+        }
+
+        private GraphTraversal<?, ?> by(GraphTraversal<?, ?> traversal, List<Object> arguments) {
+            if (!"order".equals(previousStep) && !"by".equals(previousStep)) {
+                throw new UnsupportedGremlinException();
+            }
+            if (arguments.size() == 1) {
+                return traversal.by(string(arguments, 0, 1));
+            } else if (arguments.size() == 2 && arguments.get(1) instanceof Order) {
+                return traversal.by(string(arguments, 0, 2), (Order) arguments.get(1));
+            }
+            throw new UnsupportedGremlinException();
+        }
+
+        private List<Object> arguments() {
+            expect(TokenType.OPEN);
+            List<Object> arguments = new ArrayList<>();
+            if (peek().is(TokenType.CLOSE)) {
+                index++;
+                return arguments;
+            }
+            arguments.add(value());
+            while (peek().is(TokenType.COMMA)) {
+                index++;
+                arguments.add(value());
+            }
+            expect(TokenType.CLOSE);
+            return arguments;
+        }
+
+        private Object value() {
+            Token token = next();
+            switch (token.type) {
+                case STRING:
+                case NUMBER:
+                    return token.value;
+                case IDENTIFIER:
+                    return identifierValue(token.value.toString());
+                default:
+                    throw new UnsupportedGremlinException();
+            }
+        }
+
+        private Object identifierValue(String name) {
+            switch (name) {
+                case "true":
+                    return Boolean.TRUE;
+                case "false":
+                    return Boolean.FALSE;
+                case "incr":
+                case "decr":
+                    return order(name);
+                case "Order":
+                    expect(TokenType.DOT);
+                    return order(identifier());
+                case "P":
+                    expect(TokenType.DOT);
+                    return predicate(identifier());
+                default:
+                    if (hasNext() && peek().is(TokenType.OPEN)) {
+                        return predicate(name);
+                    }
+                    if (params.containsKey(name)) {
+                        return params.get(name);
+                    }
+                    throw new UnsupportedGremlinException();
+            }
+        }
+
+        private Order order(String name) {
+            switch (name) {
+                case "incr":
+                    return Order.incr;
+                case "decr":
+                    return Order.decr;
+                default:
+                    throw new UnsupportedGremlinException();
+            }
+        }
+
+        private P<?> predicate(String name) {
+            List<Object> arguments = arguments();
+            switch (name) {
+                case "eq":
+                    return P.eq(single(arguments));
+                case "neq":
+                    return P.neq(single(arguments));
+                case "gt":
+                    return P.gt(single(arguments));
+                case "gte":
+                    return P.gte(single(arguments));
+                case "lt":
+                    return P.lt(single(arguments));
+                case "lte":
+                    return P.lte(single(arguments));
+                case "between":
+                    return P.between(first(arguments, 2), arguments.get(1));
+                case "inside":
+                    return P.inside(first(arguments, 2), arguments.get(1));
+                case "outside":
+                    return P.outside(first(arguments, 2), arguments.get(1));
+                case "within":
+                    return P.within(collection(arguments));
+                case "without":
+                    return P.without(collection(arguments));
+                default:
+                    throw new UnsupportedGremlinException();
+            }
+        }
+
+        private Object single(List<Object> arguments) {
+            return first(arguments, 1);
+        }
+
+        private Object first(List<Object> arguments, int size) {
+            if (arguments.size() != size || arguments.stream().anyMatch(P.class::isInstance)) {
+                throw new UnsupportedGremlinException();
+            }
+            return arguments.get(0);
+        }
+
+        private Collection<?> collection(List<Object> arguments) {
+            if (arguments.size() == 1 && arguments.get(0) instanceof Collection) {
+                return (Collection<?>) arguments.get(0);
+            }
+            if (arguments.stream().anyMatch(P.class::isInstance)) {
+                throw new UnsupportedGremlinException();
+            }
+            return arguments;
+        }
+
+        private String string(List<Object> arguments, int position, int size) {
+            if (arguments.size() != size || !(arguments.get(position) instanceof String)) {
+                throw new UnsupportedGremlinException();
+            }
+            return (String) arguments.get(position);
+        }
+
+        private String[] strings(List<Object> arguments) {
+            if (!arguments.stream().allMatch(String.class::isInstance)) {
+                throw new UnsupportedGremlinException();
+            }
+            return arguments.toArray(new String[arguments.size()]);
+        }
+
+        private String[] copyOfRange(String[] labels) {
+            String[] others = new String[labels.length - 1];
+            System.arraycopy(labels, 1, others, 0, others.length);
+            return others;
+        }
+
+        private Number number(List<Object> arguments) {
+            if (arguments.size() != 1 || !(arguments.get(0) instanceof Number)) {
+                throw new UnsupportedGremlinException();
+            }
+            return (Number) arguments.get(0);
+        }
+
+        private void noArguments(List<Object> arguments) {
+            if (!arguments.isEmpty()) {
+                throw new UnsupportedGremlinException();
+            }
+        }
+
+        private String identifier() {
+            Token token = next();
+            if (!token.is(TokenType.IDENTIFIER)) {
+                throw new UnsupportedGremlinException();
+            }
+            return token.value.toString();
+        }
+
+        private void expect(TokenType type) {
+            if (!next().is(type)) {
+                throw new UnsupportedGremlinException();
+            }
+        }
+
+        private void expect(TokenType type, String value) {
+            if (!next().is(type, value)) {
+                throw new UnsupportedGremlinException();
+            }
+        }
+
+        private boolean hasNext() {
+            return index < tokens.size();
+        }
+
+        private Token peek() {
+            if (!hasNext()) {
+                throw new UnsupportedGremlinException();
+            }
+            return tokens.get(index);
+        }
+
+        private Token next() {
+            Token token = peek();
+            index++;
+            return token;
+        }
+    }
+
+    private static final class UnsupportedGremlinException extends RuntimeException {
+
+        private UnsupportedGremlinException() {
+            super(null, null, false, false);
+        }
+    }
+}
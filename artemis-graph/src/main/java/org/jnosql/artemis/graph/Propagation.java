@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+/**
+ * Defines how a {@link Transactional} method deals with the transaction of the caller.
+ */
+public enum Propagation {
+
+    /**
+     * Joins the transaction of a caller annotated with {@link Transactional}, so just the outermost method commits
+     * or rolls back. Otherwise, the method defines its own transaction.
+     */
+    REQUIRED,
+
+    /**
+     * The method always defines its own transaction. Within the transaction of a caller, the method runs in a
+     * threaded transaction, {@link org.apache.tinkerpop.gremlin.structure.Transaction#createThreadedTx()}, so the
+     * work of the caller is neither committed nor rolled back by the method. When the graph does not support
+     * threaded transactions, calling the method within another transaction throws
+     * {@link UnsupportedOperationException}.
+     */
+    REQUIRES_NEW
+}
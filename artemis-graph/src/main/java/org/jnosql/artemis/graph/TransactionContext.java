@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * The {@link Transactional} method running in the current thread: it tells the nested methods that there is
+ * a transaction to join, counts the {@link GraphTemplate} write operations to commit at each batch, holds
+ * the threaded transaction of a {@link Propagation#REQUIRES_NEW} method and the entity caches to update when
+ * the transaction either commits or rolls back.
+ */
+final class TransactionContext {
+
+    private static final ThreadLocal<TransactionContext> CURRENT = new ThreadLocal<>();
+
+    private final int batchSize;
+
+    private final Graph graph;
+
+    private final TransactionContext previous;
+
+    private final Set<EntityCache> caches = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private int operations;
+
+    private TransactionContext(int batchSize, Graph graph, TransactionContext previous) {
+        this.batchSize = batchSize;
+        this.graph = graph;
+        this.previous = previous;
+    }
+
+    /**
+     * @return whether there is a {@link Transactional} method running in the current thread
+     */
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Starts a context in the current thread
+     *
+     * @param batchSize the number of write operations at each commit, zero to disable it
+     * @param graph     the threaded transaction used in this context, null to use the thread-bound transaction
+     */
+    static void begin(int batchSize, Graph graph) {
+        CURRENT.set(new TransactionContext(batchSize, graph, CURRENT.get()));
+    }
+
+    /**
+     * Returns the graph to be used in the current thread: the threaded transaction of the current context,
+     * when there is one, otherwise the graph itself
+     *
+     * @param graph the graph
+     * @return the graph to be used in the current thread
+     */
+    static Graph getGraph(Graph graph) {
+        TransactionContext context = CURRENT.get();
+        if (context == null || context.graph == null) {
+            return graph;
+        }
+        return context.graph;
+    }
+
+    /**
+     * Ends the current context and restores the context of the caller
+     */
+    static void end() {
+        TransactionContext context = CURRENT.get();
+        if (context == null || context.previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context.previous);
+        }
+    }
+
+    /**
+     * Registers a cache that has read or written a vertex in the current context, so the vertices of this thread
+     * are published when the transaction commits and dropped when it rolls back
+     *
+     * @param cache the cache
+     */
+    static void cache(EntityCache cache) {
+        TransactionContext context = CURRENT.get();
+        if (context != null) {
+            context.caches.add(cache);
+        }
+    }
+
+    /**
+     * Publishes the vertices of the caches used in the current context, which has committed
+     */
+    static void commit() {
+        TransactionContext context = CURRENT.get();
+        if (context != null) {
+            context.caches.forEach(EntityCache::commit);
+            context.caches.clear();
+        }
+    }
+
+    /**
+     * Drops the vertices of the caches used in the current context, which has rolled back
+     */
+    static void rollback() {
+        TransactionContext context = CURRENT.get();
+        if (context != null) {
+            context.caches.forEach(EntityCache::rollback);
+            context.caches.clear();
+        }
+    }
+
+    /**
+     * Counts a write operation, committing the graph transaction when the batch is complete
+     *
+     * @param graph the graph written
+     */
+    static void operation(Graph graph) {
+        TransactionContext context = CURRENT.get();
+        if (context == null || context.batchSize <= 0) {
+            return;
+        }
+        context.operations++;
+        if (context.operations >= context.batchSize) {
+            context.operations = 0;
+            if (graph.features().graph().supportsTransactions() && graph.tx().isOpen()) {
+                graph.tx().commit();
+            }
+        }
+    }
+}
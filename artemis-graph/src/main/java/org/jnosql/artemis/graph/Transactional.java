@@ -15,6 +15,7 @@
 package org.jnosql.artemis.graph;
 
 
+import javax.enterprise.util.Nonbinding;
 import javax.interceptor.InterceptorBinding;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -31,4 +32,22 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 @Target({METHOD, TYPE})
 @Retention(RUNTIME)
 public @interface Transactional {
+
+    /**
+     * The transaction propagation
+     *
+     * @return the propagation, by default {@link Propagation#REQUIRED}
+     */
+    @Nonbinding
+    Propagation value() default Propagation.REQUIRED;
+
+    /**
+     * Commits the transaction each time the {@link GraphTemplate} executes this number of write operations,
+     * so long running ingestion does not hold a huge transaction. When it is zero, the transaction is just
+     * committed at the end of the method.
+     *
+     * @return the number of write operations at each commit
+     */
+    @Nonbinding
+    int batchSize() default 0;
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
 import javax.interceptor.InvocationContext;
 import javax.annotation.Priority;
+import java.lang.reflect.Method;
 
 
 @Transactional
@@ -32,25 +33,67 @@ import javax.annotation.Priority;
 @Priority(Interceptor.Priority.APPLICATION)
 class TransactionalInterceptor {
 
+    private static final Transactional DEFAULT = TransactionalInterceptor.class.getAnnotation(Transactional.class);
+
     @Inject
     private Instance<Graph> graph;
 
+    TransactionalInterceptor(Instance<Graph> graph) {
+        this.graph = graph;
+    }
+
+    TransactionalInterceptor() {
+    }
+
     @AroundInvoke
     public Object manageTransaction(InvocationContext context) throws Exception {
-        Transaction transaction = graph.get().tx();
+        Transactional transactional = getTransactional(context);
+        if (Propagation.REQUIRED.equals(transactional.value()) && TransactionContext.isActive()) {
+            return context.proceed();
+        }
+
+        Graph current = TransactionContext.getGraph(graph.get());
+        Graph threaded = null;
+        Transaction transaction;
+        if (TransactionContext.isActive()) {
+            if (!current.features().graph().supportsThreadedTransactions()) {
+                throw new UnsupportedOperationException("The graph does not support threaded transactions, " +
+                        "so a Propagation.REQUIRES_NEW method cannot run within another transaction: "
+                        + context.getMethod());
+            }
+            threaded = current.tx().createThreadedTx();
+            transaction = threaded.tx();
+        } else {
+            transaction = current.tx();
+        }
         if (!transaction.isOpen()) {
             transaction.open();
         }
+        TransactionContext.begin(transactional.batchSize(), threaded);
         try {
             Object proceed = context.proceed();
             transaction.commit();
+            TransactionContext.commit();
             return proceed;
-        } catch (Exception exception) {
+        } catch (Throwable throwable) {
             transaction.rollback();
-            throw exception;
+            TransactionContext.rollback();
+            throw throwable;
+        } finally {
+            TransactionContext.end();
         }
 
     }
 
-
+    private Transactional getTransactional(InvocationContext context) {
+        Method method = context.getMethod();
+        Transactional transactional = method.getAnnotation(Transactional.class);
+        if (transactional == null) {
+            transactional = method.getDeclaringClass().getAnnotation(Transactional.class);
+        }
+        if (transactional == null) {
+            return DEFAULT;
+        }
+        return transactional;
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Utilitarian class to read a {@link Traversal} as a lazy {@link Stream}: each element is read from the traversal
+ * and converted only when the stream consumes it, and closing the stream closes the traversal.
+ */
+final class TraversalStreams {
+
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.NONNULL;
+
+    private TraversalStreams() {
+    }
+
+    /**
+     * Creates a lazy stream from the traversal
+     *
+     * @param traversal the traversal
+     * @param converter the converter applied to each element
+     * @param <E>       the traversal element type
+     * @param <T>       the stream type
+     * @return a stream that reads the traversal on demand
+     */
+    static <E, T> Stream<T> of(Traversal<?, E> traversal, Function<E, T> converter) {
+        Spliterator<E> spliterator = Spliterators.spliteratorUnknownSize(traversal, CHARACTERISTICS);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> close(traversal))
+                .map(converter);
+    }
+
+    private static void close(Traversal<?, ?> traversal) {
+        try {
+            traversal.close();
+        } catch (Exception exception) {
+            throw new GremlinQueryException("Error when the traversal was closed", exception);
+        }
+    }
+}
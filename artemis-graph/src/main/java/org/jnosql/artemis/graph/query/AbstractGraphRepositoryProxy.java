@@ -18,22 +18,27 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.Param;
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.artemis.Query;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.graph.GraphConverter;
 import org.jnosql.artemis.graph.GraphTemplate;
+import org.jnosql.artemis.query.RepositoryQueries;
 import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.util.PaginationUtil;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.jnosql.artemis.graph.query.ReturnTypeConverterUtil.returnObject;
@@ -62,6 +67,11 @@ abstract class AbstractGraphRepositoryProxy<T, ID> implements InvocationHandler
 
     protected abstract Converters getConverters();
 
+    protected void putQueries(RepositoryQueries queries) {
+        converter.putAll(queries.getSelectQueries());
+        deleteConverter.putAll(queries.getDeleteQueries());
+    }
+
 
     @Override
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
@@ -114,8 +124,15 @@ abstract class AbstractGraphRepositoryProxy<T, ID> implements InvocationHandler
 
     private Object executeFindAll(Method method, Object[] args) {
         Class<?> classInstance = getClassMapping().getClassInstance();
-        GraphTraversal<Vertex, Vertex> traversal = getGraph().traversal().V();
-        List<Vertex> vertices = traversal.hasLabel(getClassMapping().getName()).toList();
+        GraphTraversal<Vertex, Vertex> traversal = getGraph().traversal().V().hasLabel(getClassMapping().getName());
+        Optional<Pagination> pagination = PaginationUtil.getPagination(args);
+        List<Vertex> vertices;
+        if (pagination.isPresent()) {
+            vertices = converter.page(traversal, getClassMapping(), getConverters(), Collections.emptyList(),
+                    pagination.get());
+        } else {
+            vertices = traversal.toList();
+        }
         Stream<T> stream = vertices.stream().map(getConverter()::toEntity);
         return returnObject(stream, classInstance, method);
     }
@@ -23,29 +23,38 @@ import org.jnosql.query.Condition;
 import org.jnosql.query.ConditionValue;
 import org.jnosql.query.Operator;
 
+import java.util.List;
+
 abstract class AbstractQueryConvert {
 
 
-    protected GraphTraversal<Vertex, Vertex> getPredicate(GraphQueryMethod graphQuery, Condition condition,
-                                                        ClassMapping mapping) {
+    /**
+     * Appends the condition to the traversal. The AND conditions are appended as a chain of has steps,
+     * so the database might use its indexes, and just the other operators are appended as a filter.
+     */
+    protected void filter(GraphTraversal<Vertex, Vertex> traversal, GraphQueryMethod graphQuery,
+                          Condition condition, ClassMapping mapping) {
+        switch (condition.getOperator()) {
+            case AND:
+                List<Condition> conditions = ConditionValue.class.cast(condition.getValue()).get();
+                if (conditions.isEmpty()) {
+                    throw new UnsupportedOperationException("There is an inconsistency at the AND operator");
+                }
+                conditions.forEach(c -> filter(traversal, graphQuery, c, mapping));
+                return;
+            case NOT:
+            case OR:
+                traversal.filter(getPredicate(graphQuery, condition, mapping));
+                return;
+            default:
+                traversal.has(mapping.getColumnField(condition.getName()), getP(graphQuery, condition));
+        }
+    }
+
+    private GraphTraversal<Vertex, Vertex> getPredicate(GraphQueryMethod graphQuery, Condition condition,
+                                                      ClassMapping mapping) {
         Operator operator = condition.getOperator();
-        String name = condition.getName();
-        String nativeName = mapping.getColumnField(name);
         switch (operator) {
-            case EQUALS:
-                return __.has(nativeName, P.eq(graphQuery.getValue(name)));
-            case GREATER_THAN:
-                return __.has(nativeName, P.gt(graphQuery.getValue(name)));
-            case GREATER_EQUALS_THAN:
-                return __.has(nativeName, P.gte(graphQuery.getValue(name)));
-            case LESSER_THAN:
-                return __.has(nativeName, P.lt(graphQuery.getValue(name)));
-            case LESSER_EQUALS_THAN:
-                return __.has(nativeName, P.lte(graphQuery.getValue(name)));
-            case BETWEEN:
-                return __.has(nativeName, P.between(graphQuery.getValue(name), graphQuery.getValue(name)));
-            case IN:
-                return __.has(nativeName, P.within(graphQuery.getInValue(name)));
             case NOT:
                 Condition notCondition = ConditionValue.class.cast(condition.getValue()).get().get(0);
                 return __.not(getPredicate(graphQuery, notCondition, mapping));
@@ -58,9 +67,30 @@ abstract class AbstractQueryConvert {
                         .map(c -> getPredicate(graphQuery, c, mapping)).reduce(GraphTraversal::or)
                         .orElseThrow(() -> new UnsupportedOperationException("There is an inconsistency at the OR operator"));
             default:
-                throw new UnsupportedOperationException("There is not support to the type " + operator + " in graph");
-
+                return __.has(mapping.getColumnField(condition.getName()), getP(graphQuery, condition));
+        }
+    }
 
+    private P<?> getP(GraphQueryMethod graphQuery, Condition condition) {
+        Operator operator = condition.getOperator();
+        String name = condition.getName();
+        switch (operator) {
+            case EQUALS:
+                return P.eq(graphQuery.getValue(name));
+            case GREATER_THAN:
+                return P.gt(graphQuery.getValue(name));
+            case GREATER_EQUALS_THAN:
+                return P.gte(graphQuery.getValue(name));
+            case LESSER_THAN:
+                return P.lt(graphQuery.getValue(name));
+            case LESSER_EQUALS_THAN:
+                return P.lte(graphQuery.getValue(name));
+            case BETWEEN:
+                return P.between(graphQuery.getValue(name), graphQuery.getValue(name));
+            case IN:
+                return P.within(graphQuery.getInValue(name));
+            default:
+                throw new UnsupportedOperationException("There is not support to the type " + operator + " in graph");
         }
     }
 }
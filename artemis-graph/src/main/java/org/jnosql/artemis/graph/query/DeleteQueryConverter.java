@@ -22,25 +22,34 @@ import org.jnosql.query.Condition;
 import org.jnosql.query.DeleteQuery;
 import org.jnosql.query.Where;
 
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 final class DeleteQueryConverter extends AbstractQueryConvert implements Function<GraphQueryMethod, List<Vertex>> {
 
+    private final Map<Method, DeleteQuery> queries = new ConcurrentHashMap<>();
+
+    void putAll(Map<Method, DeleteQuery> queries) {
+        this.queries.putAll(queries);
+    }
+
     @Override
     public List<Vertex> apply(GraphQueryMethod graphQuery) {
-        DeleteMethodFactory factory = DeleteMethodFactory.get();
-        DeleteQuery deleteQuery = factory.apply(graphQuery.getMethod(), graphQuery.getEntityName());
+        DeleteQuery deleteQuery = queries.computeIfAbsent(graphQuery.getMethod(),
+                m -> DeleteMethodFactory.get().apply(m, graphQuery.getEntityName()));
         ClassMapping mapping = graphQuery.getMapping();
         GraphTraversal<Vertex, Vertex> traversal = graphQuery.getTraversal();
+        traversal.hasLabel(mapping.getName());
         if (deleteQuery.getWhere().isPresent()) {
             Where where = deleteQuery.getWhere().get();
 
             Condition condition = where.getCondition();
-            traversal.filter(getPredicate(graphQuery, condition, mapping));
+            filter(traversal, graphQuery, condition, mapping);
         }
 
-        traversal.hasLabel(mapping.getName());
         return traversal.toList();
     }
 }
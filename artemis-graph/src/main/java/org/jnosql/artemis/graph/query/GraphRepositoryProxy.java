@@ -19,6 +19,7 @@ import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.graph.GraphConverter;
 import org.jnosql.artemis.graph.GraphTemplate;
+import org.jnosql.artemis.query.RepositoryQueries;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 
@@ -63,6 +64,15 @@ class GraphRepositoryProxy<T, ID> extends AbstractGraphRepositoryProxy<T, ID> {
 
     }
 
+    GraphRepositoryProxy(GraphTemplate template, ClassMappings classMappings,
+                         Class<?> repositoryType,
+                         Graph graph, GraphConverter converter,
+                         Converters converters,
+                         RepositoryQueries queries) {
+        this(template, classMappings, repositoryType, graph, converter, converters);
+        putQueries(queries);
+    }
+
     @Override
     protected ClassMapping getClassMapping() {
         return classMapping;
@@ -21,6 +21,7 @@ import org.jnosql.artemis.DatabaseType;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.graph.GraphConverter;
 import org.jnosql.artemis.graph.GraphTemplate;
+import org.jnosql.artemis.query.RepositoryQueries;
 import org.jnosql.artemis.reflection.ClassMappings;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -51,6 +52,8 @@ public class RepositoryGraphBean implements Bean<Repository>, PassivationCapable
 
     private final Set<Annotation> qualifiers;
 
+    private final RepositoryQueries queries;
+
     /**
      * Constructor
      *
@@ -59,6 +62,19 @@ public class RepositoryGraphBean implements Bean<Repository>, PassivationCapable
      * @param provider    the provider name, that must be a
      */
     public RepositoryGraphBean(Class type, BeanManager beanManager, String provider) {
+        this(type, beanManager, provider, RepositoryQueries.empty());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param type        the tye
+     * @param beanManager the beanManager
+     * @param provider    the provider name, that must be a
+     * @param queries     the queries of the repository methods already parsed by the extension
+     */
+    public RepositoryGraphBean(Class type, BeanManager beanManager, String provider, RepositoryQueries queries) {
+        this.queries = queries;
         this.type = type;
         this.beanManager = beanManager;
         this.types = Collections.singleton(type);
@@ -98,7 +114,7 @@ public class RepositoryGraphBean implements Bean<Repository>, PassivationCapable
         Converters converters = getInstance(Converters.class);
 
         GraphRepositoryProxy handler = new GraphRepositoryProxy(repository,
-                classMappings, type, graph, converter, converters);
+                classMappings, type, graph, converter, converters, queries);
         return (Repository) Proxy.newProxyInstance(type.getClassLoader(),
                 new Class[]{type},
                 handler);
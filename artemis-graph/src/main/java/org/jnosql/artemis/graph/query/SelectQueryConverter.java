@@ -14,16 +14,27 @@
  */
 package org.jnosql.artemis.graph.query;
 
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.aphrodite.antlr.method.SelectMethodFactory;
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.util.ConverterUtil;
 import org.jnosql.query.Condition;
 import org.jnosql.query.SelectQuery;
 import org.jnosql.query.Sort;
 import org.jnosql.query.Where;
 
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -32,22 +43,35 @@ import static org.apache.tinkerpop.gremlin.process.traversal.Order.incr;
 
 final class SelectQueryConverter extends AbstractQueryConvert implements Function<GraphQueryMethod, List<Vertex>> {
 
+    private final Map<Method, SelectQuery> queries = new ConcurrentHashMap<>();
+
+    void putAll(Map<Method, SelectQuery> queries) {
+        this.queries.putAll(queries);
+    }
 
     @Override
     public List<Vertex> apply(GraphQueryMethod graphQuery) {
 
-        SelectMethodFactory selectMethodFactory = SelectMethodFactory.get();
-        SelectQuery query = selectMethodFactory.apply(graphQuery.getMethod(), graphQuery.getEntityName());
+        SelectQuery query = queries.computeIfAbsent(graphQuery.getMethod(),
+                m -> SelectMethodFactory.get().apply(m, graphQuery.getEntityName()));
         ClassMapping mapping = graphQuery.getMapping();
 
         GraphTraversal<Vertex, Vertex> traversal = graphQuery.getTraversal();
+        traversal.hasLabel(mapping.getName());
         if (query.getWhere().isPresent()) {
             Where where = query.getWhere().get();
 
             Condition condition = where.getCondition();
-            traversal.filter(getPredicate(graphQuery, condition, mapping));
+            filter(traversal, graphQuery, condition, mapping);
+        }
+
+        Optional<Pagination> pagination = graphQuery.getPagination();
+        if (pagination.isPresent()) {
+            return page(traversal, mapping, graphQuery.getConverters(), query.getOrderBy(), pagination.get());
         }
 
+        query.getOrderBy().forEach(getSort(traversal, mapping));
+
         if (query.getSkip() > 0) {
             traversal.skip(query.getSkip());
         }
@@ -55,11 +79,45 @@ final class SelectQueryConverter extends AbstractQueryConvert implements Functio
         if (query.getLimit() > 0) {
             return traversal.next((int) query.getLimit());
         }
-        query.getOrderBy().forEach(getSort(traversal, mapping));
-        traversal.hasLabel(mapping.getName());
         return traversal.toList();
     }
 
+    /**
+     * Returns the vertices of the page: the offset pagination becomes a range step, and the
+     * {@link KeysetPagination} becomes a has step with the key condition that sorts by the key.
+     * When the key is the {@link org.jnosql.artemis.Id} field, the condition and the order use the vertex id.
+     */
+    List<Vertex> page(GraphTraversal<Vertex, Vertex> traversal, ClassMapping mapping, Converters converters,
+                      List<Sort> sorts, Pagination pagination) {
+        if (!(pagination instanceof KeysetPagination)) {
+            sorts.forEach(getSort(traversal, mapping));
+            return traversal.range(pagination.getSkip(), pagination.getSkip() + pagination.getLimit()).toList();
+        }
+
+        KeysetPagination keyset = (KeysetPagination) pagination;
+        String key = mapping.getColumnField(keyset.getField());
+        boolean id = isId(mapping, keyset.getField());
+        if (keyset.getLastValue().isPresent()) {
+            Object value = ConverterUtil.getValue(keyset.getLastValue().get(), mapping, keyset.getField(), converters);
+            if (id) {
+                traversal.has(T.id, P.gt(value));
+            } else {
+                traversal.has(key, P.gt(value));
+            }
+        }
+        GraphTraversal<Vertex, Vertex> order = id ? traversal.order().by(T.id, incr)
+                : traversal.order().by(key, incr);
+        sorts.stream()
+                .filter(s -> !key.equals(mapping.getColumnField(s.getName())))
+                .forEach(s -> order.by(mapping.getColumnField(s.getName()),
+                        Sort.SortType.ASC.equals(s.getType()) ? incr : decr));
+        return order.limit(pagination.getLimit()).toList();
+    }
+
+    private boolean isId(ClassMapping mapping, String field) {
+        return mapping.getId().map(FieldMapping::getFieldName).filter(field::equals).isPresent();
+    }
+
     private Consumer<Sort> getSort(GraphTraversal<Vertex, Vertex> traversal, ClassMapping mapping) {
         return o -> {
             if (Sort.SortType.ASC.equals(o.getType())) {
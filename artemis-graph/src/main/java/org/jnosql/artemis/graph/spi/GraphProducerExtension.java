@@ -15,10 +15,14 @@
 package org.jnosql.artemis.graph.spi;
 
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.jnosql.aphrodite.antlr.method.DeleteMethodFactory;
+import org.jnosql.aphrodite.antlr.method.SelectMethodFactory;
 import org.jnosql.artemis.DatabaseMetadata;
 import org.jnosql.artemis.Databases;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.graph.query.RepositoryGraphBean;
+import org.jnosql.artemis.query.RepositoryQueries;
+import org.jnosql.artemis.reflection.ClassMappingExtension;
 
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.spi.AfterBeanDiscovery;
@@ -30,6 +34,7 @@ import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -70,6 +75,8 @@ public class GraphProducerExtension implements Extension {
         LOGGER.info(String.format("Starting to process on graphs: %d databases crud %d",
                 databases.size(), crudTypes.size()));
 
+        Map<Class<?>, RepositoryQueries> queries = parseQueries(afterBeanDiscovery, beanManager, crudTypes);
+
         databases.forEach(type -> {
             final GraphTemplateBean bean = new GraphTemplateBean(beanManager, type.getProvider());
             afterBeanDiscovery.addBean(bean);
@@ -77,13 +84,25 @@ public class GraphProducerExtension implements Extension {
 
 
         crudTypes.forEach(type -> {
+            RepositoryQueries typeQueries = queries.getOrDefault(type, RepositoryQueries.empty());
             if (!databases.contains(DatabaseMetadata.DEFAULT_GRAPH)) {
-                afterBeanDiscovery.addBean(new RepositoryGraphBean(type, beanManager, ""));
+                afterBeanDiscovery.addBean(new RepositoryGraphBean(type, beanManager, "", typeQueries));
             }
             databases.forEach(database -> afterBeanDiscovery
-                    .addBean(new RepositoryGraphBean(type, beanManager, database.getProvider())));
+                    .addBean(new RepositoryGraphBean(type, beanManager, database.getProvider(), typeQueries)));
         });
 
 
     }
+
+    private Map<Class<?>, RepositoryQueries> parseQueries(AfterBeanDiscovery afterBeanDiscovery,
+                                                          BeanManager beanManager,
+                                                          Collection<Class<?>> repositories) {
+        ClassMappingExtension extension = beanManager.getExtension(ClassMappingExtension.class);
+        Map<Class<?>, RepositoryQueries> queries = RepositoryQueries.parse(repositories, extension.getClasses(),
+                SelectMethodFactory.get()::apply, DeleteMethodFactory.get()::apply);
+        queries.values().stream().flatMap(q -> q.getErrors().stream())
+                .forEach(afterBeanDiscovery::addDefinitionError);
+        return queries;
+    }
 }
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Comparator.comparing;
@@ -207,6 +208,46 @@ abstract class AbstractGraphConverterTest {
         assertEquals(1999L, matrix.getYear());
     }
 
+    @Test
+    public void shouldShareTheVerticesFromEdgeEntityConverter() {
+        Vertex matrixVertex = getGraph().addVertex(T.label, "movie", "title", "Matrix", "movie_year", "1999");
+        Vertex adaVertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Vertex poliVertex = getGraph().addVertex(T.label, "Person", "age", 26, "name", "Poliana");
+        Edge edge = adaVertex.addEdge("watch", matrixVertex);
+        Edge edge2 = poliVertex.addEdge("watch", matrixVertex);
+
+        Function<Edge, EdgeEntity> converter = getConverter().getEdgeEntityConverter();
+        EdgeEntity edgeEntity = converter.apply(edge);
+        EdgeEntity edgeEntity2 = converter.apply(edge2);
+
+        Person ada = edgeEntity.getOutgoing();
+        Person poliana = edgeEntity2.getOutgoing();
+        Movie matrix = edgeEntity.getIncoming();
+
+        assertEquals("Ada", ada.getName());
+        assertEquals("Poliana", poliana.getName());
+        assertEquals("Matrix", matrix.getTitle());
+        assertSame(matrix, edgeEntity2.getIncoming());
+    }
+
+    @Test
+    public void shouldDeferTheVerticesFromEdgeEntityConverter() {
+        Vertex matrixVertex = getGraph().addVertex(T.label, "movie", "title", "Matrix", "movie_year", "1999");
+        Vertex adaVertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Edge edge = adaVertex.addEdge("watch", matrixVertex);
+
+        EdgeEntity eager = getConverter().getEdgeEntityConverter().apply(edge);
+        EdgeEntity deferred = getConverter().getEdgeEntityConverter(true).apply(edge);
+        assertEquals(eager, deferred);
+        matrixVertex.property("title", "Matrix Reloaded");
+
+        Movie eagerMatrix = eager.getIncoming();
+        Movie deferredMatrix = deferred.getIncoming();
+        assertEquals("Matrix", eagerMatrix.getTitle());
+        assertEquals("Matrix Reloaded", deferredMatrix.getTitle());
+        assertSame(deferredMatrix, deferred.getIncoming());
+    }
+
     @Test
     public void shouldReturnToEdgeErrorWhenIsNull() {
         assertThrows(NullPointerException.class, () -> getConverter().toEdge(null));
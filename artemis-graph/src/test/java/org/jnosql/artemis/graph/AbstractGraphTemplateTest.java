@@ -32,10 +32,15 @@ import org.jnosql.diana.api.NonUniqueResultException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
@@ -43,6 +48,7 @@ import static org.jnosql.artemis.graph.model.Person.builder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -269,6 +275,13 @@ public abstract class AbstractGraphTemplateTest {
         MatcherAssert.assertThat(people.stream().map(Person::getName).collect(toList()), Matchers.contains("Otavio"));
     }
 
+    @Test
+    public void shouldReturnGremlinCacheStatistics() {
+        GremlinCacheStatistics statistics = getGraphTemplate().getGremlinCacheStatistics();
+        assertSame(GremlinExecutor.getScripts(), statistics);
+        assertTrue(statistics.getSize() <= statistics.getMaxSize());
+    }
+
     @Test
     public void shouldReturnEmpty() {
         Optional<Person> person = getGraphTemplate().singleResult("g.V().hasLabel('Person')");
@@ -340,4 +353,67 @@ public abstract class AbstractGraphTemplateTest {
         getGraphTemplate().insert(builder().withAge().withName("Poliana").build());
         assertEquals(2L, getGraphTemplate().count(Person.class));
     }
+
+    @Test
+    public void shouldReturnErrorWhenBulkInsertParametersAreNull() {
+        assertThrows(NullPointerException.class, () -> getGraphTemplate().insert(null, BulkLoadOptions.defaults()));
+        assertThrows(NullPointerException.class, () -> getGraphTemplate().insert(Stream.empty(), null));
+        assertThrows(NullPointerException.class, () -> getGraphTemplate().insertEdges(null, BulkLoadOptions.defaults()));
+    }
+
+    @Test
+    public void shouldInsertInBulk() {
+        List<BulkLoadResult> batches = new ArrayList<>();
+        BulkLoadOptions options = BulkLoadOptions.builder().withBatchSize(2)
+                .withNewElements().withListener(batches::add).build();
+        List<Person> people = IntStream.range(0, 5)
+                .mapToObj(i -> builder().withAge(20 + i).withName("Person " + i).build())
+                .collect(toList());
+
+        BulkLoadResult result = getGraphTemplate().insert(people.stream(), options);
+
+        assertEquals(5L, result.getCount());
+        assertEquals(3L, result.getBatches());
+        assertEquals(3, batches.size());
+        assertEquals(5L, getGraphTemplate().count(Person.class));
+        assertTrue(people.stream().map(Person::getId).allMatch(Objects::nonNull));
+    }
+
+    @Test
+    public void shouldInsertEdgesInBulk() {
+        Person poliana = getGraphTemplate().insert(builder().withName("Poliana").withAge(25).build());
+        Book ddd = getGraphTemplate().insert(Book.builder().withName("Domain-Driven Design").withAge(2003).build());
+        Book shack = getGraphTemplate().insert(Book.builder().withName("The Shack").withAge(2007).build());
+
+        BulkLoadOptions options = BulkLoadOptions.builder().withNewElements().build();
+        BulkLoadResult result = getGraphTemplate().insertEdges(Stream.of(
+                EdgeDescriptor.of(poliana, "reads", ddd, singletonMap("motivation", "job")),
+                EdgeDescriptor.of(poliana, "reads", shack)), options);
+
+        assertEquals(2L, result.getCount());
+        Collection<EdgeEntity> edges = getGraphTemplate().getEdges(poliana, Direction.OUT, "reads");
+        assertEquals(2, edges.size());
+        assertTrue(edges.stream().anyMatch(e -> e.get("motivation").isPresent()));
+    }
+
+    @Test
+    public void shouldNotDuplicateEdgesInBulk() {
+        Person poliana = getGraphTemplate().insert(builder().withName("Poliana").withAge(25).build());
+        Book ddd = getGraphTemplate().insert(Book.builder().withName("Domain-Driven Design").withAge(2003).build());
+
+        getGraphTemplate().insertEdges(Stream.of(EdgeDescriptor.of(poliana, "reads", ddd)), BulkLoadOptions.defaults());
+        getGraphTemplate().insertEdges(Stream.of(EdgeDescriptor.of(poliana, "reads", ddd)), BulkLoadOptions.defaults());
+
+        assertEquals(1, getGraphTemplate().getEdges(poliana, Direction.OUT, "reads").size());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenEdgeEntityDoesNotExistInBulk() {
+        Person poliana = getGraphTemplate().insert(builder().withName("Poliana").withAge(25).build());
+        Book ddd = Book.builder().withId(-10L).withName("Domain-Driven Design").withAge(2003).build();
+        BulkLoadOptions options = BulkLoadOptions.builder().withNewElements().build();
+
+        assertThrows(EntityNotFoundException.class, () -> getGraphTemplate()
+                .insertEdges(Stream.of(EdgeDescriptor.of(poliana, "reads", ddd)), options));
+    }
 }
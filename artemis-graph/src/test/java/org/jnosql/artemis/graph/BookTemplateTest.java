@@ -20,18 +20,25 @@ import org.apache.tinkerpop.gremlin.structure.Transaction.Status;
 import org.jnosql.artemis.graph.cdi.CDIExtension;
 import org.jnosql.artemis.graph.model.Book;
 import org.jnosql.artemis.graph.model.BookTemplate;
+import org.jnosql.artemis.graph.model.LibraryTemplate;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.apache.tinkerpop.gremlin.structure.Transaction.Status.COMMIT;
 import static org.apache.tinkerpop.gremlin.structure.Transaction.Status.ROLLBACK;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(CDIExtension.class)
 public class BookTemplateTest {
@@ -39,6 +46,9 @@ public class BookTemplateTest {
     @Inject
     private BookTemplate template;
 
+    @Inject
+    private LibraryTemplate libraryTemplate;
+
     @Inject
     private Graph graph;
 
@@ -84,4 +94,44 @@ public class BookTemplateTest {
         assertTrue(transaction.isOpen());
        assertNull(status.get());
     }
+
+    @Test
+    public void shouldCommitAtEachBatch() {
+        List<Status> status = new ArrayList<>();
+
+        Transaction transaction = graph.tx();
+        transaction.addTransactionListener(status::add);
+        template.insertAll(Arrays.asList(Book.builder().withName("The Book").build(),
+                Book.builder().withName("The Book 2").build(),
+                Book.builder().withName("The Book 3").build()));
+        assertFalse(transaction.isOpen());
+        assertThat(status, contains(COMMIT, COMMIT));
+    }
+
+    @Test
+    public void shouldJoinTheCallerTransaction() {
+        List<Status> status = new ArrayList<>();
+
+        Transaction transaction = graph.tx();
+        transaction.addTransactionListener(status::add);
+        libraryTemplate.insert(Book.builder().withName("The Book").build(),
+                Book.builder().withName("The Book 2").build());
+        assertFalse(transaction.isOpen());
+        assertThat(status, contains(COMMIT));
+    }
+
+    @Test
+    public void shouldRollbackTheCallerWhenThreadedTransactionIsNotSupported() {
+        List<Status> status = new ArrayList<>();
+
+        Transaction transaction = graph.tx();
+        transaction.addTransactionListener(status::add);
+        assertThrows(UnsupportedOperationException.class, () ->
+                libraryTemplate.insertNewException(Book.builder().withName("The Outer Book").build(),
+                        Book.builder().withName("The Inner Book").build()));
+        assertFalse(transaction.isOpen());
+        assertThat(status, contains(ROLLBACK));
+        assertFalse(graph.traversal().V().has("name", "The Outer Book").hasNext());
+        graph.tx().rollback();
+    }
 }
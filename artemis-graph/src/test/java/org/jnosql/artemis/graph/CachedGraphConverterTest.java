@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.jnosql.artemis.graph.cdi.CDIExtension;
+import org.jnosql.artemis.graph.model.Movie;
+import org.jnosql.artemis.graph.model.Person;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@ExtendWith(CDIExtension.class)
+class CachedGraphConverterTest {
+
+    @Inject
+    private GraphConverter converter;
+
+    @Inject
+    private Graph graph;
+
+    private EntityCache cache;
+
+    private Edge edge;
+
+    private Edge edge2;
+
+    @BeforeEach
+    public void before() {
+        cache = new EntityCache(10);
+        Vertex matrix = graph.addVertex(T.label, "movie", "title", "Matrix", "movie_year", "1999");
+        Vertex ada = graph.addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Vertex poliana = graph.addVertex(T.label, "Person", "age", 26, "name", "Poliana");
+        edge = ada.addEdge("watch", matrix);
+        edge2 = poliana.addEdge("watch", matrix);
+    }
+
+    @AfterEach
+    public void after() {
+        graph.traversal().V().toList().forEach(Vertex::remove);
+    }
+
+    @Test
+    public void shouldShareTheVerticesFromEdgeEntityConverter() {
+        Function<Edge, EdgeEntity> edgeConverter = new CachedGraphConverter(converter, cache)
+                .getEdgeEntityConverter();
+        EdgeEntity edgeEntity = edgeConverter.apply(edge);
+        EdgeEntity edgeEntity2 = edgeConverter.apply(edge2);
+
+        Movie matrix = edgeEntity.getIncoming();
+        assertEquals("Matrix", matrix.getTitle());
+        assertEquals("Poliana", edgeEntity2.<Person>getOutgoing().getName());
+        assertSame(matrix, edgeEntity2.getIncoming());
+        assertEquals(3L, cache.getMisses());
+        assertEquals(0L, cache.getHits());
+    }
+
+    @Test
+    public void shouldShareTheDeferredVerticesFromEdgeEntityConverter() {
+        Function<Edge, EdgeEntity> edgeConverter = new CachedGraphConverter(converter, cache)
+                .getEdgeEntityConverter(true);
+        EdgeEntity edgeEntity = edgeConverter.apply(edge);
+        EdgeEntity edgeEntity2 = edgeConverter.apply(edge2);
+        assertEquals(0L, cache.getMisses());
+
+        Movie matrix = edgeEntity.getIncoming();
+        assertSame(matrix, edgeEntity2.getIncoming());
+        assertEquals(1L, cache.getMisses());
+        assertEquals(0L, cache.getHits());
+    }
+}
@@ -430,6 +430,14 @@ public class DefaultEdgeTraversalTest extends AbstractTraversalTest {
         assertEquals(3, entities.size());
     }
 
+    @Test
+    public void shouldReturnFirstFromStream() {
+        try (Stream<EdgeEntity> stream = graphTemplate.getTraversalEdge().stream()) {
+            Optional<EdgeEntity> entity = stream.findFirst();
+            assertTrue(entity.isPresent());
+        }
+    }
+
     @Test
     public void shouldReturnErrorWhenThereAreMoreThanOneInGetSingleResult() {
         assertThrows(NonUniqueResultException.class, () -> graphTemplate.getTraversalEdge().getSingleResult());
@@ -26,6 +26,7 @@ import java.util.function.UnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,4 +74,20 @@ public class DefaultGraphWorkflowTest {
         verify(converter).toVertex(any());
     }
 
+    @Test
+    public void shouldFollowWorkflowWithTheGivenConverter() {
+        UnaryOperator<Vertex> action = t -> t;
+        Person person = Person.builder().withId(1L).withAge().withName("Ada").build();
+        subject.flow(person, p -> vertex, action);
+
+        verify(graphEventPersistManager).firePreEntity(person);
+        verify(graphEventPersistManager).firePreGraphEntity(person);
+        verify(graphEventPersistManager).firePreGraph(vertex);
+        verify(graphEventPersistManager).firePostGraph(vertex);
+        verify(graphEventPersistManager).firePostEntity(any());
+        verify(graphEventPersistManager).firePostGraphEntity(any());
+        verify(converter).toEntity(person, vertex);
+        verify(converter, never()).toVertex(any());
+    }
+
 }
\ No newline at end of file
@@ -438,6 +438,14 @@ public class DefaultVertexTraversalTest extends AbstractTraversalTest {
         assertEquals(3, people.size());
     }
 
+    @Test
+    public void shouldReturnFirstFromStream() {
+        try (Stream<Person> stream = graphTemplate.getTraversalVertex().hasLabel("Person").stream()) {
+            Optional<Person> person = stream.findFirst();
+            assertTrue(person.isPresent());
+        }
+    }
+
     @Test
     public void shouldReturnErrorWhenThereAreMoreThanOneInGetSingleResult() {
         assertThrows(NonUniqueResultException.class, () -> graphTemplate.getTraversalVertex().hasLabel("Person").getSingleResult());
@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.graph;
 
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.hamcrest.Matchers;
 import org.jnosql.artemis.EntityNotFoundException;
 import org.jnosql.artemis.graph.cdi.CDIExtension;
@@ -25,6 +26,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -133,6 +136,50 @@ public class EdgeEntityTest {
         assertNotNull(edge.getId());
     }
 
+    @Test
+    public void shouldReturnErrorWhenIncomingsIsNull() {
+        Person person = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        assertThrows(NullPointerException.class, () -> graphTemplate.edges(person, "reads", null));
+    }
+
+    @Test
+    public void shouldCreateEdges() {
+        Person person = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Book shack = graphTemplate.insert(Book.builder().withAge(2007).withName("The Shack").build());
+        Book license = graphTemplate.insert(Book.builder().withAge(2013).withName("Software License").build());
+
+        List<EdgeEntity> edges = graphTemplate.edges(person, "reads", Arrays.asList(shack, license, shack));
+
+        assertEquals(2, edges.size());
+        assertEquals(shack, edges.get(0).getIncoming());
+        assertEquals(license, edges.get(1).getIncoming());
+        assertTrue(edges.stream().allMatch(e -> "reads".equals(e.getLabel())));
+        assertTrue(edges.stream().allMatch(e -> person.equals(e.getOutgoing())));
+    }
+
+    @Test
+    public void shouldCreateJustTheMissingEdges() {
+        Person person = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Book shack = graphTemplate.insert(Book.builder().withAge(2007).withName("The Shack").build());
+        Book license = graphTemplate.insert(Book.builder().withAge(2013).withName("Software License").build());
+        EdgeEntity edge = graphTemplate.edge(person, "reads", shack);
+
+        List<EdgeEntity> edges = graphTemplate.edges(person, "reads", Arrays.asList(shack, license));
+
+        assertEquals(edge.getId(), edges.get(0).getId());
+        assertEquals(2, graphTemplate.getEdges(person, Direction.OUT, "reads").size());
+    }
+
+    @Test
+    public void shouldReturnEntityNotFoundWhenAnIncomingDidNotFound() {
+        Person person = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Book shack = graphTemplate.insert(Book.builder().withAge(2007).withName("The Shack").build());
+        Book book = Book.builder().withId(-10L).withAge(2007).withName("The Shack").build();
+
+        assertThrows(EntityNotFoundException.class, () -> graphTemplate.edges(person, "reads",
+                Arrays.asList(shack, book)));
+    }
+
     @Test
     public void shouldUseAnEdge() {
         Person person = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EntityCacheTest {
+
+    private EntityCache cache;
+
+    private Function<Vertex, Object> converter;
+
+    @BeforeEach
+    public void before() {
+        cache = new EntityCache(2);
+        converter = Mockito.mock(Function.class);
+        when(converter.apply(Mockito.any(Vertex.class))).then(i -> new Object());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSizeIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new EntityCache(0));
+    }
+
+    @Test
+    public void shouldReadTheVertexOnce() {
+        Vertex vertex = vertex(1L);
+        Object entity = cache.get(vertex, converter);
+        assertNotSame(entity, cache.get(vertex, converter));
+        verify(vertex, times(1)).properties();
+        verify(converter, never()).apply(vertex);
+        verify(converter, times(2)).apply(Mockito.any(Vertex.class));
+        assertEquals(1L, cache.getHits());
+        assertEquals(1L, cache.getMisses());
+        assertEquals(0.5D, cache.getHitRatio());
+    }
+
+    @Test
+    public void shouldInvalidate() {
+        Vertex vertex = vertex(1L);
+        cache.get(vertex, converter);
+        cache.invalidate(1L);
+        assertEquals(0, cache.getSize());
+        cache.get(vertex, converter);
+        verify(vertex, times(2)).properties();
+        assertEquals(0L, cache.getHits());
+        assertEquals(2L, cache.getMisses());
+    }
+
+    @Test
+    public void shouldPublishWhenTheTransactionCommits() {
+        Transaction transaction = transaction();
+        Vertex vertex = vertex(1L, transaction);
+        cache.get(vertex, converter);
+        cache.get(vertex, converter);
+        assertEquals(0, cache.getSize());
+        assertEquals(1L, cache.getHits());
+
+        getListener(transaction).accept(Transaction.Status.COMMIT);
+        assertEquals(1, cache.getSize());
+        verify(vertex, times(1)).properties();
+    }
+
+    @Test
+    public void shouldDropWhenTheTransactionRollsBack() {
+        Transaction transaction = transaction();
+        Vertex vertex = vertex(1L, transaction);
+        cache.get(vertex, converter);
+
+        getListener(transaction).accept(Transaction.Status.ROLLBACK);
+        assertEquals(0, cache.getSize());
+        cache.get(vertex, converter);
+        assertEquals(2L, cache.getMisses());
+    }
+
+    @Test
+    public void shouldNotShareTheUncommittedVertices() throws InterruptedException {
+        cache.get(vertex(1L, transaction()), converter);
+
+        Thread thread = new Thread(() -> cache.get(vertex(1L), converter));
+        thread.start();
+        thread.join();
+        assertEquals(0L, cache.getHits());
+        assertEquals(2L, cache.getMisses());
+    }
+
+    @Test
+    public void shouldNotPublishTheVerticesWrittenInTheTransaction() {
+        Transaction transaction = transaction();
+        Vertex vertex = vertex(1L, transaction);
+        cache.get(vertex, converter);
+        cache.invalidate(vertex);
+        cache.get(vertex, converter);
+
+        getListener(transaction).accept(Transaction.Status.COMMIT);
+        assertEquals(0, cache.getSize());
+        assertEquals(2L, cache.getMisses());
+    }
+
+    @Test
+    public void shouldNotPublishWhenAVertexIsWrittenSinceTheRead() {
+        Transaction transaction = transaction();
+        cache.get(vertex(1L, transaction), converter);
+        cache.invalidate(2L);
+
+        getListener(transaction).accept(Transaction.Status.COMMIT);
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void shouldRemoveTheLeastRecentlyUsed() {
+        Vertex first = vertex(1L);
+        cache.get(first, converter);
+        cache.get(vertex(2L), converter);
+        cache.get(first, converter);
+        cache.get(vertex(3L), converter);
+
+        assertEquals(2, cache.getSize());
+        assertEquals(2, cache.getMaxSize());
+        cache.get(first, converter);
+        verify(first, times(1)).properties();
+        assertEquals(2L, cache.getHits());
+        assertEquals(3L, cache.getMisses());
+    }
+
+    private Consumer<Transaction.Status> getListener(Transaction transaction) {
+        ArgumentCaptor<Consumer> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(transaction).addTransactionListener(captor.capture());
+        return captor.getValue();
+    }
+
+    private Transaction transaction() {
+        Transaction transaction = Mockito.mock(Transaction.class);
+        when(transaction.isOpen()).thenReturn(true);
+        return transaction;
+    }
+
+    private Vertex vertex(Object id, Transaction transaction) {
+        Graph graph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        when(graph.features().graph().supportsTransactions()).thenReturn(true);
+        when(graph.tx()).thenReturn(transaction);
+        Vertex vertex = vertex(id);
+        when(vertex.graph()).thenReturn(graph);
+        return vertex;
+    }
+
+    private Vertex vertex(Object id) {
+        Vertex vertex = Mockito.mock(Vertex.class);
+        when(vertex.id()).thenReturn(id);
+        when(vertex.label()).thenReturn("Person");
+        when(vertex.properties()).thenReturn(Collections.emptyIterator());
+        return vertex;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.jnosql.artemis.graph.cdi.CDIExtension;
+import org.jnosql.artemis.graph.model.Person;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+
+import static org.jnosql.artemis.graph.model.Person.builder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(CDIExtension.class)
+public class GraphTemplateCacheTest {
+
+    @Inject
+    private GraphTemplateProducer producer;
+
+    @Inject
+    private GraphTemplate defaultTemplate;
+
+    @Inject
+    private Graph graph;
+
+    private GraphTemplate template;
+
+    @BeforeEach
+    public void before() {
+        System.setProperty(EntityCache.SIZE_PROPERTY, "10");
+        EntityCaches.remove(graph);
+        template = producer.get(graph);
+    }
+
+    @AfterEach
+    public void after() {
+        System.clearProperty(EntityCache.SIZE_PROPERTY);
+        EntityCaches.remove(graph);
+        graph.traversal().V().toList().forEach(Vertex::remove);
+        graph.tx().commit();
+    }
+
+    @Test
+    public void shouldDisableTheCacheByDefault() {
+        System.clearProperty(EntityCache.SIZE_PROPERTY);
+        EntityCaches.remove(graph);
+        assertFalse(producer.get(graph).getCacheStatistics().isPresent());
+    }
+
+    @Test
+    public void shouldShareTheCacheOfTheGraph() {
+        assertTrue(template.getCacheStatistics().isPresent());
+        assertSame(template.getCacheStatistics().get(), defaultTemplate.getCacheStatistics().get());
+        assertSame(template.getCacheStatistics().get(), producer.get(graph).getCacheStatistics().get());
+    }
+
+    @Test
+    public void shouldReturnANewEntityFromTheCache() {
+        Person person = template.insert(builder().withName("Otavio").withAge(30).build());
+        template.getTransaction().commit();
+
+        Person first = template.<Person, Long>find(person.getId()).get();
+        Person second = template.<Person, Long>find(person.getId()).get();
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertEquals("Otavio", second.getName());
+        assertNotSame(second, template.getTraversalVertex(person.getId()).<Person>next().get());
+
+        EntityCacheStatistics statistics = template.getCacheStatistics().get();
+        assertEquals(2L, statistics.getHits());
+        assertEquals(1L, statistics.getMisses());
+    }
+
+    @Test
+    public void shouldPublishWhenTheTransactionCommits() {
+        Person person = template.insert(builder().withName("Otavio").withAge(30).build());
+        template.getTransaction().commit();
+
+        template.<Person, Long>find(person.getId());
+        assertEquals(0, template.getCacheStatistics().get().getSize());
+        template.getTransaction().commit();
+        assertEquals(1, template.getCacheStatistics().get().getSize());
+    }
+
+    @Test
+    public void shouldInvalidateWhenUpdate() {
+        Person person = template.insert(builder().withName("Otavio").withAge(30).build());
+        Person first = template.<Person, Long>find(person.getId()).get();
+
+        template.update(builder().withId(person.getId()).withName("Ada").withAge(30).build());
+        Person updated = template.<Person, Long>find(person.getId()).get();
+        assertNotSame(first, updated);
+        assertEquals("Ada", updated.getName());
+    }
+
+    @Test
+    public void shouldInvalidateWhenAnotherTemplateUpdates() {
+        Person person = template.insert(builder().withName("Otavio").withAge(30).build());
+        template.getTransaction().commit();
+        template.<Person, Long>find(person.getId());
+        template.getTransaction().commit();
+        assertEquals(1, template.getCacheStatistics().get().getSize());
+
+        defaultTemplate.update(builder().withId(person.getId()).withName("Ada").withAge(30).build());
+        assertEquals(0, template.getCacheStatistics().get().getSize());
+        defaultTemplate.getTransaction().commit();
+        assertEquals("Ada", template.<Person, Long>find(person.getId()).get().getName());
+    }
+
+    @Test
+    public void shouldDropTheUncommittedVerticesWhenTheTransactionRollsBack() {
+        Person person = template.insert(builder().withName("Otavio").withAge(30).build());
+        template.getTransaction().commit();
+        template.<Person, Long>find(person.getId());
+
+        template.getTransaction().rollback();
+        template.<Person, Long>find(person.getId());
+        assertEquals(0, template.getCacheStatistics().get().getSize());
+        assertEquals(2L, template.getCacheStatistics().get().getMisses());
+    }
+
+    @Test
+    public void shouldInvalidateWhenDelete() {
+        Person person = template.insert(builder().withName("Otavio").withAge(30).build());
+        template.<Person, Long>find(person.getId());
+
+        template.delete(person.getId());
+        assertFalse(template.find(person.getId()).isPresent());
+        assertEquals(0, template.getCacheStatistics().get().getSize());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.jnosql.artemis.graph.model.Book;
+import org.jnosql.artemis.graph.model.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GraphTemplateDefaultMethodsTest {
+
+    private GraphTemplate template;
+
+    @BeforeEach
+    public void setUp() {
+        template = Mockito.mock(GraphTemplate.class, Mockito.CALLS_REAL_METHODS);
+    }
+
+    @Test
+    public void shouldInsertEachEntityInBulk() {
+        List<BulkLoadResult> batches = new ArrayList<>();
+        BulkLoadOptions options = BulkLoadOptions.builder().withBatchSize(2).withListener(batches::add).build();
+        Person ada = Person.builder().withName("Ada").build();
+        Person poliana = Person.builder().withName("Poliana").build();
+        Person otavio = Person.builder().withName("Otavio").build();
+
+        BulkLoadResult result = template.insert(Stream.of(ada, poliana, otavio), options);
+
+        verify(template).insert(ada);
+        verify(template).insert(poliana);
+        verify(template).insert(otavio);
+        assertEquals(3L, result.getCount());
+        assertEquals(2L, result.getBatches());
+        assertEquals(2, batches.size());
+        assertThrows(NullPointerException.class, () -> template.insert(null, options));
+    }
+
+    @Test
+    public void shouldInsertEachEdgeInBulk() {
+        EdgeEntity edge = Mockito.mock(EdgeEntity.class);
+        Person ada = Person.builder().withName("Ada").build();
+        Book ddd = Book.builder().withId(1L).withName("Domain-Driven Design").build();
+        when(template.edge(any(), anyString(), any())).thenReturn(edge);
+
+        BulkLoadResult result = template.insertEdges(Stream.of(EdgeDescriptor.of(ada, "reads", ddd,
+                singletonMap("motivation", "job"))), BulkLoadOptions.defaults());
+
+        verify(template).edge(ada, "reads", ddd);
+        verify(edge).add("motivation", (Object) "job");
+        assertEquals(1L, result.getCount());
+    }
+
+    @Test
+    public void shouldCreateEachDistinctEdge() {
+        Person ada = Person.builder().withName("Ada").build();
+        Book ddd = Book.builder().withId(1L).withName("Domain-Driven Design").build();
+        Book shack = Book.builder().withId(2L).withName("The Shack").build();
+
+        List<EdgeEntity> edges = template.edges(ada, "reads", asList(ddd, shack, ddd));
+
+        assertEquals(2, edges.size());
+        verify(template).edge(ada, "reads", ddd);
+        verify(template, times(1)).edge(ada, "reads", shack);
+    }
+
+    @Test
+    public void shouldNotHaveCacheStatistics() {
+        assertEquals(Optional.empty(), template.getCacheStatistics());
+        assertFalse(template.getCacheStatistics().isPresent());
+    }
+}
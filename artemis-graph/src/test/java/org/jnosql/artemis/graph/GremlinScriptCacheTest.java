@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.script.Bindings;
+import javax.script.CompiledScript;
+import javax.script.ScriptException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GremlinScriptCacheTest {
+
+    private GremlinGroovyScriptEngine engine;
+
+    private GremlinScriptCache cache;
+
+    @BeforeEach
+    public void before() {
+        engine = new GremlinGroovyScriptEngine();
+        cache = new GremlinScriptCache(engine, 2);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSizeIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new GremlinScriptCache(engine, 0));
+    }
+
+    @Test
+    public void shouldUseTheDefaultSizeWhenThePropertyIsInvalid() {
+        System.setProperty(GremlinScriptCache.SIZE_PROPERTY, "0");
+        try {
+            assertEquals(GremlinScriptCache.DEFAULT_SIZE, new GremlinScriptCache(engine).getMaxSize());
+        } finally {
+            System.clearProperty(GremlinScriptCache.SIZE_PROPERTY);
+        }
+    }
+
+    @Test
+    public void shouldUseTheSizeProperty() {
+        System.setProperty(GremlinScriptCache.SIZE_PROPERTY, "10");
+        try {
+            assertEquals(10, new GremlinScriptCache(engine).getMaxSize());
+        } finally {
+            System.clearProperty(GremlinScriptCache.SIZE_PROPERTY);
+        }
+    }
+
+    @Test
+    public void shouldCompileOnce() throws ScriptException {
+        CompiledScript script = cache.get("a + b");
+        assertSame(script, cache.get("a + b"));
+        assertEquals(1L, cache.getHits());
+        assertEquals(1L, cache.getMisses());
+        assertEquals(0.5D, cache.getHitRatio());
+    }
+
+    @Test
+    public void shouldEvalWithNewBindings() throws ScriptException {
+        Bindings bindings = engine.createBindings();
+        bindings.put("a", 1);
+        bindings.put("b", 2);
+        assertEquals(3, cache.get("a + b").eval(bindings));
+
+        bindings.put("b", 3);
+        assertEquals(4, cache.get("a + b").eval(bindings));
+    }
+
+    @Test
+    public void shouldRemoveTheLeastRecentlyUsed() throws ScriptException {
+        CompiledScript script = cache.get("1 + 1");
+        cache.get("2 + 2");
+        cache.get("1 + 1");
+        cache.get("3 + 3");
+
+        assertEquals(2, cache.getSize());
+        assertEquals(2, cache.getMaxSize());
+        assertSame(script, cache.get("1 + 1"));
+        cache.get("2 + 2");
+        assertEquals(2L, cache.getHits());
+        assertEquals(4L, cache.getMisses());
+    }
+}
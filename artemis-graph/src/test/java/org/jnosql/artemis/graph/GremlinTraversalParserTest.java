@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.jnosql.artemis.graph.cdi.CDIExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(CDIExtension.class)
+class GremlinTraversalParserTest {
+
+    @Inject
+    private Graph graph;
+
+    @BeforeEach
+    public void before() {
+        graph.traversal().V().toList().forEach(Vertex::remove);
+        graph.traversal().E().toList().forEach(Edge::remove);
+        Vertex bruce = graph.addVertex(T.label, "Person", "name", "Bruce Banner", "age", 30);
+        Vertex nat = graph.addVertex(T.label, "Person", "name", "Natasha Romanoff", "age", 32);
+        bruce.addEdge("loves", nat);
+    }
+
+    @ParameterizedTest(name = "Should translate the query {0}")
+    @ValueSource(strings = {"g.V()", "g.E().toList()", "g.V().hasLabel('Person').has('age', gt(10)).count()",
+            "g.V().has(\"Person\", 'name', P.within('Bruce Banner')).out('loves').values('name');",
+            "g.V().order().by('age', decr).limit(1L)", "g.E().inV().dedup()"})
+    public void shouldTranslate(String gremlin) {
+        assertTrue(parse(gremlin).isPresent());
+    }
+
+    @ParameterizedTest(name = "Should not translate the query {0}")
+    @ValueSource(strings = {"g.V().valueMap('name')", "g.V().next()", "g.V().has('name', param)",
+            "g.V().has(\"name\", \"${name}\")", "g.V().by('name')", "graph.V()", "g.V().toList().size()"})
+    public void shouldNotTranslate(String gremlin) {
+        assertFalse(parse(gremlin).isPresent());
+    }
+
+    @Test
+    public void shouldUseParams() {
+        Optional<GraphTraversal<?, ?>> traversal = GremlinTraversalParser.INSTANCE.parse(graph.traversal(),
+                "g.V().has('name', name).out('loves').values('name')", singletonMap("name", "Bruce Banner"));
+        assertTrue(traversal.isPresent());
+        List<Object> names = toList(traversal.get());
+        assertThat(names, contains("Natasha Romanoff"));
+    }
+
+    @Test
+    public void shouldTranslatePredicates() {
+        List<Object> names = toList(parse("g.V().has('age', between(30, 31)).values('name')").get());
+        assertThat(names, contains("Bruce Banner"));
+
+        names = toList(parse("g.V().has('name', without('Bruce Banner')).values('name')").get());
+        assertThat(names, contains("Natasha Romanoff"));
+
+        names = toList(parse("g.V().order().by('age', incr).values('name')").get());
+        assertThat(names, contains("Bruce Banner", "Natasha Romanoff"));
+
+        names = toList(parse("g.V().hasLabel('Person').values('age')").get());
+        assertThat(names, containsInAnyOrder(30, 32));
+    }
+
+    @Test
+    public void shouldUseCollectionParam() {
+        Optional<GraphTraversal<?, ?>> traversal = GremlinTraversalParser.INSTANCE.parse(graph.traversal(),
+                "g.V().has('age', within(ages)).count()", singletonMap("ages", Arrays.asList(30, 32)));
+        assertThat(toList(traversal.get()), contains(2L));
+    }
+
+    private List<Object> toList(GraphTraversal<?, ?> traversal) {
+        return new ArrayList<>(traversal.toList());
+    }
+
+    private Optional<GraphTraversal<?, ?>> parse(String gremlin) {
+        return GremlinTraversalParser.INSTANCE.parse(graph.traversal(), gremlin, Collections.emptyMap());
+    }
+}
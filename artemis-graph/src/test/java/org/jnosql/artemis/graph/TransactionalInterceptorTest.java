@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.enterprise.inject.Instance;
+import javax.interceptor.InvocationContext;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TransactionalInterceptorTest {
+
+    private Graph graph;
+
+    private Graph threadedGraph;
+
+    private Transaction transaction;
+
+    private Transaction threadedTransaction;
+
+    private TransactionalInterceptor interceptor;
+
+    @BeforeEach
+    public void setUp() {
+        graph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        threadedGraph = Mockito.mock(Graph.class);
+        transaction = Mockito.mock(Transaction.class);
+        threadedTransaction = Mockito.mock(Transaction.class);
+        when(graph.tx()).thenReturn(transaction);
+        when(graph.features().graph().supportsThreadedTransactions()).thenReturn(true);
+        when(transaction.createThreadedTx()).thenReturn(threadedGraph);
+        when(threadedGraph.tx()).thenReturn(threadedTransaction);
+        Instance<Graph> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(graph);
+        interceptor = new TransactionalInterceptor(instance);
+        TransactionContext.begin(0, null);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionContext.end();
+    }
+
+    @Test
+    public void shouldRunRequiresNewInThreadedTransaction() throws Exception {
+        InvocationContext context = getContext("insertNew");
+        when(context.proceed()).then(i -> TransactionContext.getGraph(graph));
+
+        assertSame(threadedGraph, interceptor.manageTransaction(context));
+        verify(threadedTransaction).commit();
+        verify(transaction, never()).commit();
+        verify(transaction, never()).rollback();
+        assertSame(graph, TransactionContext.getGraph(graph));
+    }
+
+    @Test
+    public void shouldNotCommitTheCallerWhenRequiresNewFails() throws Exception {
+        InvocationContext context = getContext("insertNew");
+        when(context.proceed()).thenThrow(new IllegalStateException("inner failure"));
+
+        assertThrows(IllegalStateException.class, () -> interceptor.manageTransaction(context));
+        verify(threadedTransaction).rollback();
+        verify(threadedTransaction, never()).commit();
+        verify(transaction, never()).commit();
+        verify(transaction, never()).rollback();
+    }
+
+    @Test
+    public void shouldRollbackOnError() throws Exception {
+        InvocationContext context = getContext("insertNew");
+        when(context.proceed()).thenThrow(new AssertionError("inner error"));
+
+        assertThrows(AssertionError.class, () -> interceptor.manageTransaction(context));
+        verify(threadedTransaction).rollback();
+    }
+
+    @Test
+    public void shouldPublishTheCachedVerticesOnCommit() throws Exception {
+        EntityCache cache = new EntityCache(10);
+        Vertex vertex = transactionalVertex();
+        InvocationContext context = getContext("insertNew");
+        when(context.proceed()).then(i -> {
+            cache.get(vertex, v -> v);
+            assertEquals(0, cache.getSize());
+            return null;
+        });
+
+        interceptor.manageTransaction(context);
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void shouldDropTheCachedVerticesOnRollback() throws Exception {
+        EntityCache cache = new EntityCache(10);
+        Vertex vertex = transactionalVertex();
+        InvocationContext context = getContext("insertNew");
+        when(context.proceed()).then(i -> {
+            cache.get(vertex, v -> v);
+            throw new IllegalStateException("inner failure");
+        });
+
+        assertThrows(IllegalStateException.class, () -> interceptor.manageTransaction(context));
+        assertEquals(0, cache.getSize());
+        cache.get(vertex, v -> v);
+        assertEquals(2L, cache.getMisses());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThreadedTransactionIsNotSupported() throws Exception {
+        when(graph.features().graph().supportsThreadedTransactions()).thenReturn(false);
+        InvocationContext context = getContext("insertNew");
+
+        assertThrows(UnsupportedOperationException.class, () -> interceptor.manageTransaction(context));
+        verify(context, never()).proceed();
+        verify(transaction, never()).commit();
+    }
+
+    @Test
+    public void shouldJoinTheCallerTransaction() throws Exception {
+        InvocationContext context = getContext("insert");
+        when(context.proceed()).thenReturn("joined");
+
+        assertEquals("joined", interceptor.manageTransaction(context));
+        verify(transaction, never()).commit();
+        verify(transaction, never()).createThreadedTx();
+    }
+
+    private Vertex transactionalVertex() {
+        Graph vertexGraph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        when(vertexGraph.features().graph().supportsTransactions()).thenReturn(true);
+        when(vertexGraph.tx().isOpen()).thenReturn(true);
+        Vertex vertex = Mockito.mock(Vertex.class);
+        when(vertex.id()).thenReturn(1L);
+        when(vertex.graph()).thenReturn(vertexGraph);
+        when(vertex.properties()).thenReturn(Collections.emptyIterator());
+        return vertex;
+    }
+
+    private InvocationContext getContext(String method) throws NoSuchMethodException {
+        InvocationContext context = Mockito.mock(InvocationContext.class);
+        when(context.getMethod()).thenReturn(Service.class.getMethod(method));
+        return context;
+    }
+
+    public static class Service {
+
+        @Transactional
+        public void insert() {
+        }
+
+        @Transactional(Propagation.REQUIRES_NEW)
+        public void insertNew() {
+        }
+    }
+}
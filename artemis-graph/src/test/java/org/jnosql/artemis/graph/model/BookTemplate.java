@@ -15,9 +15,11 @@
 package org.jnosql.artemis.graph.model;
 
 import org.jnosql.artemis.graph.GraphTemplate;
+import org.jnosql.artemis.graph.Propagation;
 import org.jnosql.artemis.graph.Transactional;
 
 import javax.inject.Inject;
+import java.util.List;
 
 public class BookTemplate {
 
@@ -39,4 +41,14 @@ public class BookTemplate {
         graphTemplate.insert(actor);
     }
 
+    @Transactional(batchSize = 2)
+    public void insertAll(List<Book> books) {
+        books.forEach(graphTemplate::insert);
+    }
+
+    @Transactional(Propagation.REQUIRES_NEW)
+    public void insertNew(Book actor) {
+        graphTemplate.insert(actor);
+    }
+
 }
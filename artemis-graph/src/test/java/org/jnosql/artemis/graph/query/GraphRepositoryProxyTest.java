@@ -19,6 +19,8 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.Param;
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.artemis.Query;
@@ -41,9 +43,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -275,6 +279,45 @@ public class GraphRepositoryProxyTest {
         assertFalse(people.isEmpty());
     }
 
+    @Test
+    public void shouldFindAllWithPagination() {
+        IntStream.rangeClosed(1, 5).forEach(i -> graph.addVertex(T.label, "Person", "name", "name", "age", i));
+        List<Person> people = personRepository.findAll(Pagination.of(1L, 2L));
+        assertEquals(2, people.size());
+    }
+
+    @Test
+    public void shouldFindAllWithKeysetPagination() {
+        IntStream.rangeClosed(1, 5).forEach(i -> graph.addVertex(T.label, "Person", "name", "name", "age", i));
+
+        KeysetPagination pagination = Pagination.keyset("age", 2L);
+        List<Integer> ages = personRepository.findAll(pagination).stream().map(Person::getAge).collect(toList());
+        assertEquals(asList(1, 2), ages);
+
+        pagination = pagination.next(2);
+        ages = personRepository.findAll(pagination).stream().map(Person::getAge).collect(toList());
+        assertEquals(asList(3, 4), ages);
+
+        pagination = pagination.next(4);
+        ages = personRepository.findByName("name", pagination).stream().map(Person::getAge).collect(toList());
+        assertEquals(singletonList(5), ages);
+    }
+
+    @Test
+    public void shouldFindAllWithKeysetPaginationOnTheId() {
+        List<Long> ids = IntStream.rangeClosed(1, 3)
+                .mapToObj(i -> graph.addVertex(T.label, "Person", "name", "name", "age", i))
+                .map(v -> (Long) v.id()).sorted().collect(toList());
+
+        KeysetPagination pagination = Pagination.keyset("id", 2L);
+        List<Long> page = personRepository.findAll(pagination).stream().map(Person::getId).collect(toList());
+        assertEquals(ids.subList(0, 2), page);
+
+        pagination = pagination.next(page.get(1));
+        page = personRepository.findAll(pagination).stream().map(Person::getId).collect(toList());
+        assertEquals(ids.subList(2, 3), page);
+    }
+
     @Test
     public void shouldReturnToString() {
         assertNotNull(personRepository.toString());
@@ -324,6 +367,10 @@ public class GraphRepositoryProxyTest {
 
         List<Person> findAll();
 
+        List<Person> findAll(Pagination pagination);
+
+        List<Person> findByName(String name, Pagination pagination);
+
         Optional<Person> findByAge(Integer age);
 
         List<Person> findByNameAndAge(String name, Integer age);
@@ -14,10 +14,14 @@
  */
 package org.jnosql.artemis.graph.query;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffect.TinkerGraphStep;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.jnosql.artemis.Converters;
@@ -40,6 +44,7 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(CDIExtension.class)
 class SelectQueryConverterTest {
@@ -292,6 +297,49 @@ class SelectQueryConverterTest {
     }
 
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"findByNameAndAge"})
+    public void shouldRunQuery13(String methodName) {
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst().get();
+
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 40);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 25);
+        ClassMapping mapping = mappings.get(Person.class);
+        GraphQueryMethod queryMethod = new GraphQueryMethod(mapping, graph.traversal().V(),
+                converters, method, new Object[]{"Ada", 40});
+
+        List<Vertex> vertices = converter.apply(queryMethod);
+        assertEquals(1, vertices.size());
+        assertEquals(40, vertices.get(0).<Integer>value("age").intValue());
+    }
+
+    @ParameterizedTest(name = "Should use the index to the query {0}")
+    @ValueSource(strings = {"findByNameAndAge"})
+    public void shouldUseIndex(String methodName) {
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst().get();
+
+        TinkerGraph tinkerGraph = TinkerGraph.open();
+        tinkerGraph.createIndex("name", Vertex.class);
+        tinkerGraph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        tinkerGraph.addVertex(T.label, "Person", "name", "Ada", "age", 40);
+        ClassMapping mapping = mappings.get(Person.class);
+        GraphQueryMethod queryMethod = new GraphQueryMethod(mapping, tinkerGraph.traversal().V(),
+                converters, method, new Object[]{"Ada", 40});
+
+        List<Vertex> vertices = converter.apply(queryMethod);
+        assertEquals(1, vertices.size());
+
+        Step<?, ?> step = queryMethod.getTraversal().asAdmin().getStartStep();
+        assertTrue(step instanceof TinkerGraphStep);
+        List<String> keys = TinkerGraphStep.class.cast(step).getHasContainers().stream()
+                .map(h -> ((HasContainer) h).getKey())
+                .collect(Collectors.toList());
+        MatcherAssert.assertThat(keys, Matchers.containsInAnyOrder(T.label.getAccessor(), "name", "age"));
+    }
+
     private void checkEquals(String methodName) {
         Method method = Stream.of(PersonRepository.class.getMethods())
                 .filter(m -> m.getName().equals(methodName)).findFirst().get();
@@ -336,6 +384,8 @@ class SelectQueryConverterTest {
         List<Person> findByAgeIn(List<Integer> ages);
 
         List<Person> findByNameIn(List<String> names);
+
+        List<Person> findByNameAndAge(String name, Integer age);
     }
 
 }
\ No newline at end of file
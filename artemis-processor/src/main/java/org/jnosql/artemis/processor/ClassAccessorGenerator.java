@@ -0,0 +1,220 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Id;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Generates the {@code InstanceSupplier}, {@code FieldReader} and {@code FieldWriter} to an entity class.
+ * The generated classes live in the entity package, so they might use either an accessor method or the field
+ * itself when they are not private; an accessor is used only when its type is the field type. Otherwise, that
+ * operation is not generated and the runtime will use reflection.
+ * The naming convention must be the same one that org.jnosql.artemis.reflection.GeneratedClasses uses.
+ */
+final class ClassAccessorGenerator {
+
+    private static final String INSTANCE_SUPPLIER = "$$InstanceSupplier";
+
+    private static final String FIELD_READER = "$$FieldReader$";
+
+    private static final String FIELD_WRITER = "$$FieldWriter$";
+
+    private static final String READER_TEMPLATE = TemplateReader.INSTANCE.read("FieldReader.template");
+
+    private static final String WRITER_TEMPLATE = TemplateReader.INSTANCE.read("FieldWriter.template");
+
+    private static final String SUPPLIER_TEMPLATE = TemplateReader.INSTANCE.read("InstanceSupplier.template");
+
+    private final Filer filer;
+
+    private final Messager messager;
+
+    private final Elements elements;
+
+    private final Types types;
+
+    ClassAccessorGenerator(ProcessingEnvironment environment) {
+        this.filer = environment.getFiler();
+        this.messager = environment.getMessager();
+        this.elements = environment.getElementUtils();
+        this.types = environment.getTypeUtils();
+    }
+
+    /**
+     * Generates the accessor classes to the type
+     *
+     * @param type the entity, embeddable or mapped superclass
+     * @return the number of classes generated
+     */
+    int generate(TypeElement type) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        if (packageName.isEmpty() || !isAccessible(type)) {
+            messager.printMessage(Diagnostic.Kind.NOTE, "Artemis will use reflection to the class "
+                    + type.getQualifiedName() + " it is either in the default package or not accessible", type);
+            return 0;
+        }
+
+        String prefix = getPrefix(type, packageName);
+        String entity = types.erasure(type.asType()).toString();
+        int generated = 0;
+
+        if (hasDefaultConstructor(type)) {
+            String simpleName = prefix + INSTANCE_SUPPLIER;
+            String source = TemplateReader.INSTANCE.format(SUPPLIER_TEMPLATE, packageName, simpleName, entity);
+            generated += write(packageName, simpleName, source, type);
+        }
+
+        for (VariableElement field : getFields(type)) {
+            Optional<String> reader = getReader(type, field);
+            if (reader.isPresent()) {
+                String simpleName = prefix + FIELD_READER + field.getSimpleName();
+                String source = TemplateReader.INSTANCE.format(READER_TEMPLATE, packageName, simpleName,
+                        entity, reader.get());
+                generated += write(packageName, simpleName, source, type);
+            }
+            Optional<String> writer = getWriter(type, field);
+            if (writer.isPresent()) {
+                String simpleName = prefix + FIELD_WRITER + field.getSimpleName();
+                String source = TemplateReader.INSTANCE.format(WRITER_TEMPLATE, packageName, simpleName,
+                        entity, writer.get());
+                generated += write(packageName, simpleName, source, type);
+            }
+        }
+        return generated;
+    }
+
+    private int write(String packageName, String simpleName, String source, TypeElement type) {
+        try {
+            JavaFileObject file = filer.createSourceFile(packageName + '.' + simpleName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+            return 1;
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.WARNING, "Artemis could not generate the class "
+                    + simpleName + " it will use reflection instead: " + e.getMessage(), type);
+            return 0;
+        }
+    }
+
+    private List<VariableElement> getFields(TypeElement type) {
+        return ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+                .filter(f -> !f.getModifiers().contains(Modifier.STATIC))
+                .filter(f -> f.getAnnotation(Column.class) != null || f.getAnnotation(Id.class) != null)
+                .collect(toList());
+    }
+
+    private Optional<String> getReader(TypeElement type, VariableElement field) {
+        String name = capitalize(field.getSimpleName().toString());
+        boolean isBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+        TypeMirror fieldType = types.erasure(field.asType());
+        Optional<ExecutableElement> getter = getMethods(type).stream()
+                .filter(m -> m.getParameters().isEmpty())
+                .filter(m -> m.getSimpleName().contentEquals("get" + name)
+                        || (isBoolean && m.getSimpleName().contentEquals("is" + name)))
+                .filter(m -> types.isSameType(types.erasure(m.getReturnType()), fieldType))
+                .findFirst();
+
+        if (getter.isPresent()) {
+            return Optional.of(getter.get().getSimpleName() + "()");
+        } else if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return Optional.of(field.getSimpleName().toString());
+        }
+        return Optional.empty();
+    }
+
+    private Optional<String> getWriter(TypeElement type, VariableElement field) {
+        String name = capitalize(field.getSimpleName().toString());
+        TypeMirror fieldType = types.erasure(field.asType());
+        String cast = "(" + fieldType + ") value";
+        Optional<ExecutableElement> setter = getMethods(type).stream()
+                .filter(m -> m.getParameters().size() == 1)
+                .filter(m -> m.getSimpleName().contentEquals("set" + name))
+                .filter(m -> types.isSameType(types.erasure(m.getParameters().get(0).asType()), fieldType))
+                .findFirst();
+
+        if (setter.isPresent()) {
+            return Optional.of(setter.get().getSimpleName() + "(" + cast + ")");
+        } else if (!field.getModifiers().contains(Modifier.PRIVATE)
+                && !field.getModifiers().contains(Modifier.FINAL)) {
+            return Optional.of(field.getSimpleName() + " = " + cast);
+        }
+        return Optional.empty();
+    }
+
+    private List<ExecutableElement> getMethods(TypeElement type) {
+        return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+                .filter(m -> !m.getModifiers().contains(Modifier.PRIVATE))
+                .filter(m -> !m.getModifiers().contains(Modifier.STATIC))
+                .collect(toList());
+    }
+
+    private boolean hasDefaultConstructor(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(c -> c.getParameters().isEmpty())
+                .anyMatch(c -> !c.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        Element element = type;
+        while (element.getKind() == ElementKind.CLASS) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            Element enclosing = element.getEnclosingElement();
+            if (enclosing.getKind() != ElementKind.PACKAGE && !element.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            element = enclosing;
+        }
+        return element.getKind() == ElementKind.PACKAGE;
+    }
+
+    private String getPrefix(TypeElement type, String packageName) {
+        String binaryName = elements.getBinaryName(type).toString();
+        return binaryName.substring(packageName.length() + 1).replace('$', '_');
+    }
+
+    private String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
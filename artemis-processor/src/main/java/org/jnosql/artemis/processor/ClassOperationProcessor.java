@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.Embeddable;
+import org.jnosql.artemis.Entity;
+import org.jnosql.artemis.MappedSuperclass;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * An annotation processor that generates, at build time, the classes to create and access the fields of
+ * the classes annotated with {@link Entity}, {@link Embeddable} and {@link MappedSuperclass}.
+ * It also registers the org.jnosql.artemis.reflection.GeneratedClassOperation at META-INF/services, thus
+ * Artemis uses the generated classes instead of either compile them at runtime or use reflection.
+ */
+@SupportedAnnotationTypes({"org.jnosql.artemis.Entity", "org.jnosql.artemis.Embeddable",
+        "org.jnosql.artemis.MappedSuperclass"})
+public class ClassOperationProcessor extends AbstractProcessor {
+
+    private static final String SERVICE_FILE = "META-INF/services/org.jnosql.artemis.reflection.ClassOperation";
+
+    private static final String CLASS_OPERATION = "org.jnosql.artemis.reflection.GeneratedClassOperation";
+
+    private final Set<String> processed = new HashSet<>();
+
+    private ClassAccessorGenerator generator;
+
+    private boolean generated;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.generator = new ClassAccessorGenerator(processingEnv);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        if (roundEnv.processingOver()) {
+            if (generated) {
+                writeService();
+            }
+            return false;
+        }
+
+        Stream.of(Entity.class, Embeddable.class, MappedSuperclass.class)
+                .flatMap(a -> roundEnv.getElementsAnnotatedWith(a).stream())
+                .filter(e -> e.getKind() == ElementKind.CLASS)
+                .map(TypeElement.class::cast)
+                .filter(t -> processed.add(t.getQualifiedName().toString()))
+                .forEach(t -> generated |= generator.generate(t) > 0);
+
+        return false;
+    }
+
+    private void writeService() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                writer.write(CLASS_OPERATION);
+                writer.write(System.lineSeparator());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Artemis could not register the " + CLASS_OPERATION + ": " + e.getMessage());
+        }
+    }
+}
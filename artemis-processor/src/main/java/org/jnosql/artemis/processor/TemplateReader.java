@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+
+/**
+ * Reads the Java source templates from the classpath and formats them with {@link MessageFormat}
+ */
+enum TemplateReader {
+
+    INSTANCE;
+
+    private static final int BUFFER = 1024;
+
+    String read(String file) {
+        ClassLoader classLoader = TemplateReader.class.getClassLoader();
+        try (InputStream stream = classLoader.getResourceAsStream(file)) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            int nRead;
+            byte[] data = new byte[BUFFER];
+            while ((nRead = stream.read(data, 0, data.length)) != -1) {
+                buffer.write(data, 0, nRead);
+            }
+            return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new IllegalStateException("An error to load from the file: " + file, ex);
+        }
+    }
+
+    String format(String template, Object... params) {
+        return MessageFormat.format(template, params);
+    }
+}
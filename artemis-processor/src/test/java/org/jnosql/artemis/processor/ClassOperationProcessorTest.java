@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.reflection.FieldReader;
+import org.jnosql.artemis.reflection.FieldWriter;
+import org.jnosql.artemis.reflection.InstanceSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassOperationProcessorTest {
+
+    private static final String SOURCE = "package org.jnosql.artemis.processor.model;\n" +
+            "import org.jnosql.artemis.Column;\n" +
+            "import org.jnosql.artemis.Entity;\n" +
+            "import org.jnosql.artemis.Id;\n" +
+            "@Entity\n" +
+            "public class Car {\n" +
+            "    @Id\n" +
+            "    private String id;\n" +
+            "    @Column\n" +
+            "    String model;\n" +
+            "    @Column\n" +
+            "    private int year;\n" +
+            "    @Column\n" +
+            "    private String secret;\n" +
+            "    @Column\n" +
+            "    String color;\n" +
+            "    public String getId() { return id; }\n" +
+            "    public void setId(String id) { this.id = id; }\n" +
+            "    public int getYear() { return year; }\n" +
+            "    public void setYear(int year) { this.year = year; }\n" +
+            "    public java.util.Optional<String> getColor() { return java.util.Optional.ofNullable(color); }\n" +
+            "}";
+
+    private static final String PACKAGE = "org.jnosql.artemis.processor.model.";
+
+    private Path output;
+
+    private ClassLoader classLoader;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        output = Files.createTempDirectory("artemis-processor");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                "-d", output.toString(), "-s", output.toString());
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, null,
+                Collections.singletonList(new StringSource("Car", SOURCE)));
+        task.setProcessors(Collections.singletonList(new ClassOperationProcessor()));
+        assertTrue(task.call());
+        classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @Test
+    public void shouldGenerateInstanceSupplier() throws Exception {
+        InstanceSupplier supplier = newInstance(PACKAGE + "Car$$InstanceSupplier");
+        Object car = supplier.get();
+        assertEquals(PACKAGE + "Car", car.getClass().getName());
+    }
+
+    @Test
+    public void shouldGenerateAccessorsFromMethods() throws Exception {
+        Object car = this.<InstanceSupplier>newInstance(PACKAGE + "Car$$InstanceSupplier").get();
+        FieldWriter writer = newInstance(PACKAGE + "Car$$FieldWriter$year");
+        FieldReader reader = newInstance(PACKAGE + "Car$$FieldReader$year");
+        writer.write(car, 2018);
+        assertEquals(2018, reader.read(car));
+    }
+
+    @Test
+    public void shouldGenerateAccessorsFromPackageField() throws Exception {
+        Object car = this.<InstanceSupplier>newInstance(PACKAGE + "Car$$InstanceSupplier").get();
+        FieldWriter writer = newInstance(PACKAGE + "Car$$FieldWriter$model");
+        FieldReader reader = newInstance(PACKAGE + "Car$$FieldReader$model");
+        writer.write(car, "Model S");
+        assertEquals("Model S", reader.read(car));
+    }
+
+    @Test
+    public void shouldUseFieldWhenGetterTypeIsDifferent() throws Exception {
+        Object car = this.<InstanceSupplier>newInstance(PACKAGE + "Car$$InstanceSupplier").get();
+        FieldWriter writer = newInstance(PACKAGE + "Car$$FieldWriter$color");
+        FieldReader reader = newInstance(PACKAGE + "Car$$FieldReader$color");
+        writer.write(car, "red");
+        assertEquals("red", reader.read(car));
+    }
+
+    @Test
+    public void shouldNotGenerateWhenFieldIsNotAccessible() {
+        assertFalse(Files.exists(output.resolve("org/jnosql/artemis/processor/model/Car$$FieldReader$secret.class")));
+        assertFalse(Files.exists(output.resolve("org/jnosql/artemis/processor/model/Car$$FieldWriter$secret.class")));
+    }
+
+    @Test
+    public void shouldRegisterClassOperation() throws IOException {
+        Path service = output.resolve("META-INF/services/org.jnosql.artemis.reflection.ClassOperation");
+        assertTrue(Files.exists(service));
+        assertEquals("org.jnosql.artemis.reflection.GeneratedClassOperation", Files.readAllLines(service).get(0));
+    }
+
+    private <T> T newInstance(String name) throws Exception {
+        return (T) classLoader.loadClass(name).newInstance();
+    }
+
+    private static final class StringSource extends SimpleJavaFileObject {
+
+        private final String source;
+
+        StringSource(String name, String source) {
+            super(URI.create("string:///" + name + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}